@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkruntime;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addStrandFunctions();
 }
 
 function addJSONFunctions() {
@@ -48,6 +50,11 @@ function addJSONFunctions() {
     functions["benchmarkConstrainedJsonWithFunctions"] = benchmarktypes:benchmarkConstrainedJsonWithFunctions;
     functions["benchmarkConstrainedJsonWithFunctionGetKeys"] = benchmarktypes:
     benchmarkConstrainedJsonWithFunctionGetKeys;
+    functions["benchmarkJsonPayloadToRecord"] = benchmarktypes:benchmarkJsonPayloadToRecord;
+    functions["benchmarkStructuredTypeTest"] = benchmarktypes:benchmarkStructuredTypeTest;
+    functions["benchmarkJsonStringToRecord"] = benchmarktypes:benchmarkJsonStringToRecord;
+    functions["benchmarkJsonStringToRecordArray"] = benchmarktypes:benchmarkJsonStringToRecordArray;
+    functions["benchmarkJsonStringToJsonToRecordArray"] = benchmarktypes:benchmarkJsonStringToJsonToRecordArray;
 }
 
 function addIntFunctions() {
@@ -139,4 +146,52 @@ function addStringFunctions() {
     functions["benchmarkStringLength"] = benchmarktypes:benchmarkStringLength;
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
+    functions["benchmarkStringBuildingLoop"] = benchmarktypes:benchmarkStringBuildingLoop;
+    functions["benchmarkStringTemplateLoop"] = benchmarktypes:benchmarkStringTemplateLoop;
+    functions["benchmarkStringJoin"] = benchmarktypes:benchmarkStringJoin;
+    functions["benchmarkStringFromJavaAscii"] = benchmarktypes:benchmarkStringFromJavaAscii;
+    functions["benchmarkStringFromJavaNonBmp"] = benchmarktypes:benchmarkStringFromJavaNonBmp;
+    functions["benchmarkStringFromJsonPayload"] = benchmarktypes:benchmarkStringFromJsonPayload;
+}
+
+function addStrandFunctions() {
+    functions["benchmarkStartManyStrands"] = benchmarkruntime:benchmarkStartManyStrands;
+    functions["benchmarkStrandYieldChain"] = benchmarkruntime:benchmarkStrandYieldChain;
+    functions["benchmarkWorkerMessagePassing"] = benchmarkruntime:benchmarkWorkerMessagePassing;
+    functions["benchmarkReadOnlyLockContention"] = benchmarkruntime:benchmarkReadOnlyLockContention;
+    functions["benchmarkWriteLockContention"] = benchmarkruntime:benchmarkWriteLockContention;
+    functions["benchmarkTableInsertIntKey"] = benchmarkruntime:benchmarkTableInsertIntKey;
+    functions["benchmarkTableInsertStringKey"] = benchmarkruntime:benchmarkTableInsertStringKey;
+    functions["benchmarkTableLookupIntKey"] = benchmarkruntime:benchmarkTableLookupIntKey;
+    functions["benchmarkTableLookupStringKey"] = benchmarkruntime:benchmarkTableLookupStringKey;
+    functions["benchmarkTableQueryWhereField"] = benchmarkruntime:benchmarkTableQueryWhereField;
+    functions["benchmarkTableQueryJoinField"] = benchmarkruntime:benchmarkTableQueryJoinField;
+    functions["benchmarkQuerySelect"] = benchmarkruntime:benchmarkQuerySelect;
+    functions["benchmarkQueryWhereSelect"] = benchmarkruntime:benchmarkQueryWhereSelect;
+    functions["benchmarkQueryLetWhereSelect"] = benchmarkruntime:benchmarkQueryLetWhereSelect;
+    functions["benchmarkQueryNestedFrom"] = benchmarkruntime:benchmarkQueryNestedFrom;
+    functions["benchmarkQueryOrderByLimit"] = benchmarkruntime:benchmarkQueryOrderByLimit;
+    functions["benchmarkQueryAction"] = benchmarkruntime:benchmarkQueryAction;
+    functions["benchmarkQueryToString"] = benchmarkruntime:benchmarkQueryToString;
+    functions["benchmarkConstantArithmetic"] = benchmarkruntime:benchmarkConstantArithmetic;
+    functions["benchmarkConstantConditions"] = benchmarkruntime:benchmarkConstantConditions;
+    functions["benchmarkRedundantTypeTests"] = benchmarkruntime:benchmarkRedundantTypeTests;
+    functions["benchmarkSmallFunctionCalls"] = benchmarkruntime:benchmarkSmallFunctionCalls;
+    functions["benchmarkPredicateCalls"] = benchmarkruntime:benchmarkPredicateCalls;
+    functions["benchmarkGetterCalls"] = benchmarkruntime:benchmarkGetterCalls;
+    functions["benchmarkUnionLocals"] = benchmarkruntime:benchmarkUnionLocals;
+    functions["benchmarkAnyLocals"] = benchmarkruntime:benchmarkAnyLocals;
+    functions["benchmarkFloatUnionLocals"] = benchmarkruntime:benchmarkFloatUnionLocals;
+    functions["benchmarkMapConstantKeys"] = benchmarkruntime:benchmarkMapConstantKeys;
+    functions["benchmarkRecordFieldAccess"] = benchmarkruntime:benchmarkRecordFieldAccess;
+    functions["benchmarkJsonKeyAccess"] = benchmarkruntime:benchmarkJsonKeyAccess;
+    functions["benchmarkClosedRecordArrayCreation"] = benchmarkruntime:benchmarkClosedRecordArrayCreation;
+    functions["benchmarkOpenRecordArrayCreation"] = benchmarkruntime:benchmarkOpenRecordArrayCreation;
+    functions["benchmarkClosedRecordFieldAccess"] = benchmarkruntime:benchmarkClosedRecordFieldAccess;
+    functions["benchmarkSortIntArray"] = benchmarkruntime:benchmarkSortIntArray;
+    functions["benchmarkSortLargeIntArray"] = benchmarkruntime:benchmarkSortLargeIntArray;
+    functions["benchmarkSortFloatArray"] = benchmarkruntime:benchmarkSortFloatArray;
+    functions["benchmarkSortStringArray"] = benchmarkruntime:benchmarkSortStringArray;
+    functions["benchmarkSortDecimalArray"] = benchmarkruntime:benchmarkSortDecimalArray;
+    functions["benchmarkSortByIntKey"] = benchmarkruntime:benchmarkSortByIntKey;
 }
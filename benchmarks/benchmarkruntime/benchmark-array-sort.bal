@@ -0,0 +1,63 @@
+import ballerina/lang.array;
+
+const int SORT_ARRAY_SIZE = 100000;
+const int LARGE_SORT_ARRAY_SIZE = 1000000;
+
+type Employee record {|
+    string name;
+    int age;
+|};
+
+int[] sortInts = [];
+int[] largeSortInts = [];
+float[] sortFloats = [];
+string[] sortStrings = [];
+decimal[] sortDecimals = [];
+Employee[] sortEmployees = [];
+
+function fillSortArrays() {
+    if sortInts.length() != 0 {
+        return;
+    }
+    foreach int i in 0 ..< SORT_ARRAY_SIZE {
+        int value = (i * 7919) % SORT_ARRAY_SIZE;
+        sortInts.push(value);
+        sortFloats.push(<float>value / 3.0);
+        sortStrings.push("item" + value.toString());
+        sortDecimals.push(<decimal>value / 7);
+        sortEmployees.push({name: "employee" + i.toString(), age: value % 60});
+    }
+    foreach int i in 0 ..< LARGE_SORT_ARRAY_SIZE {
+        largeSortInts.push((i * 7919) % LARGE_SORT_ARRAY_SIZE);
+    }
+}
+
+public function benchmarkSortIntArray() {
+    fillSortArrays();
+    _ = sortInts.sort();
+}
+
+public function benchmarkSortLargeIntArray() {
+    fillSortArrays();
+    _ = largeSortInts.sort(array:DESCENDING);
+}
+
+public function benchmarkSortFloatArray() {
+    fillSortArrays();
+    _ = sortFloats.sort();
+}
+
+public function benchmarkSortStringArray() {
+    fillSortArrays();
+    _ = sortStrings.sort();
+}
+
+public function benchmarkSortDecimalArray() {
+    fillSortArrays();
+    _ = sortDecimals.sort();
+}
+
+public function benchmarkSortByIntKey() {
+    fillSortArrays();
+    _ = sortEmployees.sort(array:ASCENDING, employee => employee.age);
+}
@@ -0,0 +1,38 @@
+const int OPTIMIZATION_LOOP_COUNT = 1000000;
+
+public function benchmarkConstantArithmetic() {
+    int sum = 0;
+    foreach int i in 0 ..< OPTIMIZATION_LOOP_COUNT {
+        int width = 16;
+        int height = 9;
+        int area = width * height;
+        int perimeter = 2 * (width + height);
+        sum = sum + area % perimeter + i % 7;
+    }
+}
+
+public function benchmarkConstantConditions() {
+    int count = 0;
+    foreach int i in 0 ..< OPTIMIZATION_LOOP_COUNT {
+        int limit = 100;
+        boolean enabled = limit > 10;
+        if enabled {
+            count = count + 1;
+        } else {
+            count = count - 1;
+        }
+        if !enabled || limit == 0 {
+            count = count + i;
+        }
+    }
+}
+
+public function benchmarkRedundantTypeTests() {
+    int[] values = [];
+    foreach int i in 0 ..< OPTIMIZATION_LOOP_COUNT {
+        int value = i % 128;
+        if value is int {
+            values[i % 64] = value;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+const int CALL_LOOP_COUNT = 1000000;
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+function square(int value) returns int {
+    return value * value;
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+function isEven(int value) returns boolean {
+    return value % 2 == 0;
+}
+
+function getX(Point point) returns int {
+    return point.x;
+}
+
+public function benchmarkSmallFunctionCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< CALL_LOOP_COUNT {
+        sum = add(sum, square(i % 100));
+    }
+}
+
+public function benchmarkPredicateCalls() {
+    int count = 0;
+    foreach int i in 0 ..< CALL_LOOP_COUNT {
+        if isEven(i) {
+            count = add(count, 1);
+        }
+    }
+}
+
+public function benchmarkGetterCalls() {
+    Point point = {x: 3, y: 4};
+    int sum = 0;
+    foreach int i in 0 ..< CALL_LOOP_COUNT {
+        sum = add(sum, getX(point));
+    }
+}
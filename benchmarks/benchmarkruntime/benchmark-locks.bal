@@ -0,0 +1,36 @@
+int lockedCounter = 0;
+int[] lockedValues = [1, 2, 3, 4, 5];
+
+public function benchmarkReadOnlyLockContention() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start readLockedValue(i % 5));
+    }
+    foreach future<int> f in futures {
+        _ = checkpanic wait f;
+    }
+}
+
+public function benchmarkWriteLockContention() {
+    future<()>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start incrementLockedCounter());
+    }
+    foreach future<()> f in futures {
+        checkpanic wait f;
+    }
+}
+
+function readLockedValue(int index) returns int {
+    int value = 0;
+    lock {
+        value = lockedValues[index];
+    }
+    return value;
+}
+
+function incrementLockedCounter() {
+    lock {
+        lockedCounter += 1;
+    }
+}
@@ -0,0 +1,43 @@
+const int MAP_KEYS_LOOP_COUNT = 1000000;
+const int JSON_KEYS_LOOP_COUNT = 10000;
+
+type Metrics record {
+    int requests;
+    int errors;
+    int bytes;
+};
+
+public function benchmarkMapConstantKeys() {
+    map<int> counters = {requests: 0, errors: 0, bytes: 0};
+    foreach int i in 0 ..< MAP_KEYS_LOOP_COUNT {
+        counters["requests"] = <int>counters["requests"] + 1;
+        if i % 10 == 0 {
+            counters["errors"] = <int>counters["errors"] + 1;
+        }
+        counters["bytes"] = <int>counters["bytes"] + i % 1024;
+    }
+}
+
+public function benchmarkRecordFieldAccess() {
+    Metrics metrics = {requests: 0, errors: 0, bytes: 0};
+    foreach int i in 0 ..< MAP_KEYS_LOOP_COUNT {
+        metrics.requests += 1;
+        if i % 10 == 0 {
+            metrics.errors += 1;
+        }
+        metrics["bytes"] = metrics.bytes + i % 1024;
+    }
+}
+
+public function benchmarkJsonKeyAccess() {
+    string payload = "{\"requests\": 10, \"errors\": 1, \"bytes\": 2048, \"host\": \"localhost\"}";
+    int total = 0;
+    foreach int i in 0 ..< JSON_KEYS_LOOP_COUNT {
+        json|error metrics = payload.fromJsonString();
+        if metrics is error {
+            panic metrics;
+        }
+        map<json> fields = <map<json>>metrics;
+        total += <int>fields["requests"] + <int>fields["errors"] + <int>fields["bytes"];
+    }
+}
@@ -0,0 +1,72 @@
+const int QUERY_INPUT_SIZE = 100000;
+
+type Employee record {|
+    string name;
+    int age;
+    int salary;
+|};
+
+Employee[] employees = [];
+
+function fillEmployees() {
+    if employees.length() == 0 {
+        foreach int i in 0 ..< QUERY_INPUT_SIZE {
+            employees.push({name: "employee" + i.toString(), age: 20 + i % 45, salary: 1000 + (i * 7919) % 9000});
+        }
+    }
+}
+
+public function benchmarkQuerySelect() {
+    fillEmployees();
+    string[] names = from var e in employees
+        select e.name;
+}
+
+public function benchmarkQueryWhereSelect() {
+    fillEmployees();
+    int[] salaries = from var e in employees
+        where e.age > 40
+        select e.salary;
+}
+
+public function benchmarkQueryLetWhereSelect() {
+    fillEmployees();
+    int[] bonuses = from var e in employees
+        let int bonus = e.salary / 10
+        where bonus > 500
+        select bonus;
+}
+
+public function benchmarkQueryNestedFrom() {
+    fillEmployees();
+    int[] ages = [20, 30, 40, 50, 60];
+    int[] matches = from var e in employees
+        from var age in ages
+        where e.age == age
+        select e.salary;
+}
+
+public function benchmarkQueryOrderByLimit() {
+    fillEmployees();
+    string[] topEarners = from var e in employees
+        order by e.salary descending
+        limit 10
+        select e.name;
+}
+
+public function benchmarkQueryAction() {
+    fillEmployees();
+    int total = 0;
+    error? result = from var e in employees
+        where e.age < 30
+        do {
+            total += e.salary;
+        };
+}
+
+public function benchmarkQueryToString() {
+    fillEmployees();
+    string initials = from var e in employees
+        where e.age == 20
+        select e.name.substring(0, 1);
+}
@@ -0,0 +1,42 @@
+const int RECORD_COUNT = 1000000;
+
+type Point record {|
+    int x;
+    int y;
+    float weight;
+|};
+
+type Sample record {
+    int id;
+    string label;
+};
+
+Point[] points = [];
+
+public function benchmarkClosedRecordArrayCreation() {
+    Point[] values = [];
+    foreach int i in 0 ..< RECORD_COUNT {
+        values.push({x: i, y: i * 2, weight: 1.5});
+    }
+}
+
+public function benchmarkOpenRecordArrayCreation() {
+    Sample[] values = [];
+    foreach int i in 0 ..< RECORD_COUNT {
+        values.push({id: i, label: "sample"});
+    }
+}
+
+public function benchmarkClosedRecordFieldAccess() {
+    if points.length() == 0 {
+        foreach int i in 0 ..< RECORD_COUNT {
+            points.push({x: i, y: i * 2, weight: 1.5});
+        }
+    }
+    int sum = 0;
+    float totalWeight = 0.0;
+    foreach Point point in points {
+        sum += point.x + point.y;
+        totalWeight += point.weight;
+    }
+}
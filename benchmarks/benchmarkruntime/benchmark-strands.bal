@@ -0,0 +1,47 @@
+const int STRAND_COUNT = 1000;
+
+public function benchmarkStartManyStrands() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start square(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += checkpanic wait f;
+    }
+}
+
+public function benchmarkStrandYieldChain() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start waitOnChild(i));
+    }
+    foreach future<int> f in futures {
+        _ = checkpanic wait f;
+    }
+}
+
+public function benchmarkWorkerMessagePassing() {
+    worker w1 {
+        foreach int i in 0 ..< STRAND_COUNT {
+            i -> w2;
+        }
+    }
+    worker w2 {
+        int sum = 0;
+        foreach int i in 0 ..< STRAND_COUNT {
+            int v = <- w1;
+            sum += v;
+        }
+    }
+    _ = wait {w1, w2};
+}
+
+function waitOnChild(int i) returns int {
+    future<int> f = start square(i);
+    return checkpanic wait f;
+}
+
+function square(int i) returns int {
+    return i * i;
+}
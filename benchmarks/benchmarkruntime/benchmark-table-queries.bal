@@ -0,0 +1,51 @@
+const int ORDER_COUNT = 100000;
+const int CUSTOMER_COUNT = 10000;
+const int ORDER_QUERY_COUNT = 1000;
+
+type Customer record {|
+    readonly int id;
+    string name;
+|};
+
+type Order record {|
+    readonly int id;
+    readonly int customerId;
+    int quantity;
+|};
+
+table<Order> key(id) orders = table [];
+table<Customer> key(id) customers = table [];
+
+function fillOrders() {
+    if orders.length() == 0 {
+        foreach int i in 0 ..< ORDER_COUNT {
+            orders.add({id: i, customerId: (i * 7919) % CUSTOMER_COUNT, quantity: i % 10});
+        }
+        foreach int i in 0 ..< CUSTOMER_COUNT {
+            customers.add({id: i, name: "customer"});
+        }
+    }
+}
+
+public function benchmarkTableQueryWhereField() {
+    fillOrders();
+    int total = 0;
+    foreach int i in 0 ..< ORDER_QUERY_COUNT {
+        int customerId = (i * 31) % CUSTOMER_COUNT;
+        Order[] customerOrders = from var o in orders
+            where o.customerId == customerId
+            select o;
+        total += customerOrders.length();
+    }
+}
+
+public function benchmarkTableQueryJoinField() {
+    fillOrders();
+    int total = 0;
+    foreach int i in 0 ..< ORDER_QUERY_COUNT / 100 {
+        int[] quantities = from var c in customers
+            join var o in orders on c.id equals o.customerId
+            select o.quantity;
+        total += quantities.length();
+    }
+}
@@ -0,0 +1,57 @@
+const int TABLE_ROW_COUNT = 1000000;
+const int TABLE_LOOKUP_COUNT = 100000;
+
+type IntKeyedRow record {|
+    readonly int id;
+    string name;
+|};
+
+type StringKeyedRow record {|
+    readonly string code;
+    int value;
+|};
+
+table<IntKeyedRow> key(id) intKeyedRows = table [];
+table<StringKeyedRow> key(code) stringKeyedRows = table [];
+
+public function benchmarkTableInsertIntKey() {
+    table<IntKeyedRow> key(id) rows = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        rows.add({id: i, name: "row"});
+    }
+}
+
+public function benchmarkTableInsertStringKey() {
+    table<StringKeyedRow> key(code) rows = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        rows.add({code: i.toString(), value: i});
+    }
+}
+
+public function benchmarkTableLookupIntKey() {
+    if intKeyedRows.length() == 0 {
+        foreach int i in 0 ..< TABLE_ROW_COUNT {
+            intKeyedRows.add({id: i, name: "row"});
+        }
+    }
+    int found = 0;
+    foreach int i in 0 ..< TABLE_LOOKUP_COUNT {
+        if intKeyedRows.hasKey((i * 7919) % TABLE_ROW_COUNT) {
+            found += 1;
+        }
+    }
+}
+
+public function benchmarkTableLookupStringKey() {
+    if stringKeyedRows.length() == 0 {
+        foreach int i in 0 ..< TABLE_ROW_COUNT {
+            stringKeyedRows.add({code: i.toString(), value: i});
+        }
+    }
+    int found = 0;
+    foreach int i in 0 ..< TABLE_LOOKUP_COUNT {
+        if stringKeyedRows.hasKey(((i * 7919) % TABLE_ROW_COUNT).toString()) {
+            found += 1;
+        }
+    }
+}
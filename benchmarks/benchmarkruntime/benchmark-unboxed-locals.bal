@@ -0,0 +1,29 @@
+const int UNBOXED_LOOP_COUNT = 1000000;
+
+public function benchmarkUnionLocals() {
+    int|string total = 0;
+    foreach int i in 0 ..< UNBOXED_LOOP_COUNT {
+        if total is int {
+            total = total + i % 10;
+        }
+    }
+}
+
+public function benchmarkAnyLocals() {
+    int sum = 0;
+    foreach int i in 0 ..< UNBOXED_LOOP_COUNT {
+        any value = i;
+        if value is int {
+            sum += value;
+        }
+    }
+}
+
+public function benchmarkFloatUnionLocals() {
+    float|error average = 0.0;
+    foreach int i in 0 ..< UNBOXED_LOOP_COUNT {
+        if average is float {
+            average = (average + <float>i) / 2.0;
+        }
+    }
+}
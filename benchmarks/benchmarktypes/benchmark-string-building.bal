@@ -0,0 +1,24 @@
+const int STRING_PART_COUNT = 10000;
+
+public function benchmarkStringBuildingLoop() {
+    string body = "";
+    foreach int i in 0 ..< STRING_PART_COUNT {
+        body = body + "{\"id\":" + i.toString() + ",\"name\":\"item\"},";
+    }
+}
+
+public function benchmarkStringTemplateLoop() {
+    string body = "<items>";
+    foreach int i in 0 ..< STRING_PART_COUNT {
+        body += string `<item id="${i}">value</item>`;
+    }
+    body += "</items>";
+}
+
+public function benchmarkStringJoin() {
+    string[] parts = [];
+    foreach int i in 0 ..< STRING_PART_COUNT {
+        parts.push("item" + i.toString());
+    }
+    string body = string:'join(",", ...parts);
+}
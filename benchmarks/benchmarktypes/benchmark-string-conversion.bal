@@ -0,0 +1,19 @@
+string headerLikeValue = "application/json; charset=utf-8";
+string nonBmpText = "Status: \u{1F680} deployed \u{2705} to region eu-west \u{1F30D}";
+string stringPayload = string `{"name": "Alice Perera", "email": "alice@example.com", "city": "Colombo",
+    "street": "12 Temple Road", "comment": "Delivered \u{1F4E6} on time", "status": "shipped"}`;
+
+public function benchmarkStringFromJavaAscii() {
+    string s = headerLikeValue.toUpperAscii();
+}
+
+public function benchmarkStringFromJavaNonBmp() {
+    string s = nonBmpText.toLowerAscii();
+}
+
+public function benchmarkStringFromJsonPayload() {
+    json|error payload = stringPayload.fromJsonString();
+    if payload is error {
+        panic payload;
+    }
+}
@@ -0,0 +1,43 @@
+type OrderLine record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+type Order record {|
+    string id;
+    string customer;
+    OrderLine[] lines;
+    map<string> tags;
+|};
+
+json orderPayload = {
+    id: "ORD-1001",
+    customer: "C-42",
+    lines: [
+        {sku: "SKU-1", quantity: 2, price: 10.5},
+        {sku: "SKU-2", quantity: 1, price: 3.25},
+        {sku: "SKU-3", quantity: 4, price: 7.0}
+    ],
+    tags: {channel: "web", region: "eu"}
+};
+
+anydata[] structuredValues = [[1, 2, 3], ["a", "b"], {a: "x"}, [1.0, 2.0], {b: 1}];
+
+public function benchmarkJsonPayloadToRecord() {
+    Order|error ord = orderPayload.cloneWithType(Order);
+    if ord is error {
+        panic ord;
+    }
+}
+
+public function benchmarkStructuredTypeTest() {
+    int matches = 0;
+    foreach anydata value in structuredValues {
+        if value is int[]|string[] {
+            matches += 1;
+        } else if value is map<string> {
+            matches += 1;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+type Address record {
+    string street;
+    string city;
+    string? zip;
+};
+
+type Customer record {
+    int id;
+    string name;
+    boolean active;
+    float score;
+    Address address;
+    string[] emails;
+};
+
+string orderJsonString = orderPayload.toJsonString();
+
+string customersJsonString = string `[
+    {"id": 1, "name": "Alice", "active": true, "score": 4.5,
+     "address": {"street": "1 Main St", "city": "Colombo", "zip": "00100"},
+     "emails": ["alice@example.com"], "segment": "gold"},
+    {"id": 2, "name": "Bob", "active": false, "score": 3,
+     "address": {"street": "2 Hill Rd", "city": "Kandy", "zip": null},
+     "emails": ["bob@example.com", "bob@work.example.com"]},
+    {"id": 3, "name": "Carol", "active": true, "score": 4.75,
+     "address": {"street": "3 Lake Dr", "city": "Galle", "zip": "80000"},
+     "emails": []}
+]`;
+
+public function benchmarkJsonStringToRecord() {
+    Order|error ord = orderJsonString.fromJsonStringWithType(Order);
+    if ord is error {
+        panic ord;
+    }
+}
+
+public function benchmarkJsonStringToRecordArray() {
+    Customer[]|error customers = customersJsonString.fromJsonStringWithType();
+    if customers is error {
+        panic customers;
+    }
+}
+
+public function benchmarkJsonStringToJsonToRecordArray() {
+    json|error payload = customersJsonString.fromJsonString();
+    if payload is error {
+        panic payload;
+    }
+    Customer[]|error customers = payload.cloneWithType();
+    if customers is error {
+        panic customers;
+    }
+}
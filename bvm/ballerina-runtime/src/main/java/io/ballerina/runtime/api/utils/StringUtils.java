@@ -51,8 +51,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -117,27 +115,15 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                // The surrogate pair locations are only needed for code point based operations, hence they are
+                // computed when first used.
+                return new NonBmpStringValue(s);
             }
         }
-        if (highSurrogates == null) {
-            return new BmpStringValue(s);
-        }
-
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
-        }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return new BmpStringValue(s);
     }
 
     public static BArray fromStringArray(String[] s) {
@@ -21,51 +21,162 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held exclusively by a single strand, or shared by many strands for lock statements that are known
+ * to only read the locked variables. Both modes are reentrant for the strand holding the lock. A strand does not get
+ * a shared hold of a free lock while another strand waits to hold it exclusively, so that readers arriving one after
+ * the other cannot keep a writer waiting forever.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final BLockStore store;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final ArrayDeque<Strand> current;
+
+    private final Map<Strand, Integer> readers;
+
+    private final ArrayDeque<Strand> waitingForLock;
+
+    private final Set<Strand> waitingForSharedLock;
+
+    private final Set<Strand> unblockedStrands;
+
+    private int waitingWriters;
 
     public BLock() {
+        this(null);
+    }
+
+    BLock(BLockStore store) {
+        this.store = store;
         this.current = new ArrayDeque<>();
+        this.readers = new HashMap<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.waitingForSharedLock = new HashSet<>();
+        this.unblockedStrands = new HashSet<>();
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        boolean unblocked = this.unblockedStrands.remove(strand);
+        if ((current.isEmpty() || lockedBySameContext(strand)) && isOnlyReadBy(strand)) {
+            if (unblocked) {
+                this.waitingWriters--;
+            }
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        if (!unblocked) {
+            this.waitingWriters++;
+        }
+        block(strand);
+        return false;
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+    public synchronized boolean lockShared(Strand strand) {
+        // Strands unblocked to retry and strands that already share the lock go ahead of the waiting writers
+        boolean unblocked = this.unblockedStrands.remove(strand);
+        if (current.isEmpty() && (unblocked || waitingWriters == 0 || readers.containsKey(strand))) {
+            this.readers.merge(strand, 1, Integer::sum);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+        if (lockedBySameContext(strand)) {
+            // already held exclusively by the same strand, nest as an exclusive hold
+            this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        this.waitingForSharedLock.add(strand);
+        block(strand);
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        Strand strand = this.current.removeLast();
+        strand.removeAcquiredLock(this);
+        if (current.isEmpty()) {
+            unblockWaitingStrands();
         }
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
+    public synchronized void unlockShared(Strand strand) {
+        if (lockedBySameContext(strand)) {
+            unlock();
+            return;
+        }
+        //strand has to be a reader as unlock cannot be called without lock being called first.
+        int holdCount = this.readers.get(strand);
+        if (holdCount == 1) {
+            this.readers.remove(strand);
+        } else {
+            this.readers.put(strand, holdCount - 1);
+        }
+        strand.removeAcquiredLock(this);
+        if (readers.isEmpty()) {
+            unblockWaitingStrands();
+        }
+    }
+
+    public synchronized boolean isLockFree() {
+        return this.current.isEmpty() && this.readers.isEmpty();
+    }
+
+    public synchronized boolean lockedBySameContext(Strand ctx) {
+        return !this.current.isEmpty() && this.current.getLast() == ctx;
+    }
+
+    BLockStore getStore() {
+        return store;
+    }
+
+    private boolean isOnlyReadBy(Strand strand) {
+        return readers.isEmpty() || (readers.size() == 1 && readers.containsKey(strand));
+    }
+
+    private void block(Strand strand) {
+        this.waitingForLock.offerLast(strand);
+
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+    }
+
+    /**
+     * Unblocks the first waiting strand, or all the consecutive strands waiting for a shared lock at the head of the
+     * queue. Unblocked strands retry acquiring the lock when they get resumed. An unblocked writer still counts as a
+     * waiting writer until it retries.
+     */
+    private void unblockWaitingStrands() {
+        Strand strand = this.waitingForLock.pollFirst();
+        if (strand == null) {
+            return;
+        }
+        boolean shared = this.waitingForSharedLock.remove(strand);
+        unblock(strand);
+        if (!shared) {
+            return;
+        }
+        while ((strand = this.waitingForLock.peekFirst()) != null && this.waitingForSharedLock.remove(strand)) {
+            this.waitingForLock.removeFirst();
+            unblock(strand);
+        }
     }
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+    private void unblock(Strand strand) {
+        this.unblockedStrands.add(strand);
+        strand.scheduler.unblockStrand(strand);
     }
 }
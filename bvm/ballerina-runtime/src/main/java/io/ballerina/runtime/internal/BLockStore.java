@@ -22,40 +22,48 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
 
 /**
+ * Keeps the locks of the module level lock statements of a module. Locks are identified by the lock ids the compiler
+ * assigns to each set of lock statements sharing global variables, so a lock lookup is an array access.
  *
  * @since 1.2.0
  */
 public class BLockStore {
 
     /**
-     * The map of locks inferred.
+     * The locks inferred, indexed by the lock id. Replaced with a new array when a lock is added, so that the locks can
+     * be read without synchronization.
      */
-    private  Map<String, BLock> globalLockMap;
+    private volatile BLock[] locks = new BLock[0];
 
-    public BLockStore() {
-        globalLockMap = new ConcurrentHashMap<>();
-    }
-
-    public void addLockToMap(String lockName) {
-        globalLockMap.put(lockName, new BLock());
+    public BLock getLock(int lockId) {
+        BLock[] currentLocks = this.locks;
+        if (lockId < currentLocks.length) {
+            BLock lock = currentLocks[lockId];
+            if (lock != null) {
+                return lock;
+            }
+        }
+        return createLock(lockId);
     }
 
-    public BLock getLockFromMap(String lockName) {
-        return globalLockMap.computeIfAbsent(lockName, (k) -> {
-            return new BLock();
-        });
+    private synchronized BLock createLock(int lockId) {
+        BLock[] currentLocks = this.locks;
+        if (lockId < currentLocks.length && currentLocks[lockId] != null) {
+            return currentLocks[lockId];
+        }
+        BLock[] newLocks = Arrays.copyOf(currentLocks, Math.max(lockId + 1, currentLocks.length));
+        BLock lock = new BLock(this);
+        newLocks[lockId] = lock;
+        this.locks = newLocks;
+        return lock;
     }
 
     public void panicIfInLock(String lockName, Strand strand) {
-        for (BLock lock : globalLockMap.values()) {
-            if (lock.isLockFree()) {
-                continue;
-            }
-            if (lock.lockedBySameContext(strand)) {
+        for (BLock lock : strand.getAcquiredLocks()) {
+            if (lock.getStore() == this) {
                 throw ErrorCreator.createError(BallerinaErrorReasons.ASYNC_CALL_INSIDE_LOCK);
             }
         }
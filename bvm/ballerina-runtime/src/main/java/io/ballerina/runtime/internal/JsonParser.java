@@ -20,17 +20,29 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.ArrayType.ArrayState;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.MappingInitialValueEntry;
+import io.ballerina.runtime.internal.values.StringInterner;
 import org.apache.commons.lang3.StringEscapeUtils;
 
 import java.io.BufferedInputStream;
@@ -42,6 +54,10 @@ import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
@@ -122,6 +138,32 @@ public class JsonParser {
         return jsonObj;
     }
 
+    /**
+     * Parses the contents in the given string and returns a value of the given type.
+     * <p>
+     * The values of the target type are built while parsing, without building the json value first. When the contents
+     * cannot be converted this way, e.g. as they do not belong to the target type, the contents are parsed as json and
+     * converted with the given converter, which reports the conversion errors.
+     *
+     * @param jsonStr       the string which contains the JSON content
+     * @param targetType    the type descriptor of the target type
+     * @param jsonConverter the converter of json values to the target type
+     * @return value of the target type, or the value returned by the converter
+     * @throws BError for any parsing error
+     */
+    public static Object parse(String jsonStr, BTypedesc targetType, Function<Object, Object> jsonConverter)
+            throws BError {
+        // The default values of the record types are initialized while parsing, which may parse JSON content again.
+        // Hence a typed parse does not use the state machine of the thread.
+        StateMachine sm = new StateMachine(tlStateMachine.get().fieldNameCache);
+        sm.setTargetType(targetType);
+        Object value = sm.execute(new StringReader(jsonStr));
+        if (value == StateMachine.UNCONVERTED_VALUE) {
+            return jsonConverter.apply(parse(jsonStr));
+        }
+        return value;
+    }
+
     /**
      * Parses the contents in the given {@link Reader} and returns a json.
      *
@@ -153,6 +195,25 @@ public class JsonParser {
             super(msg);
         }
 
+        protected JsonParserException(String msg, boolean writableStackTrace) {
+            super(msg, null, false, writableStackTrace);
+        }
+
+    }
+
+    /**
+     * Represents a JSON value which cannot be converted to the target type while parsing. The exception only signals
+     * the fall back to the conversion of json values, hence a single instance without a stack trace is thrown.
+     */
+    private static class JsonTypeMismatchException extends JsonParserException {
+
+        private static final long serialVersionUID = -4309442432612452214L;
+        private static final JsonTypeMismatchException INSTANCE = new JsonTypeMismatchException();
+
+        private JsonTypeMismatchException() {
+            super("value cannot be converted to the target type", false);
+        }
+
     }
 
     /**
@@ -173,6 +234,11 @@ public class JsonParser {
         private static final String NULL = "null";
         private static final String TRUE = "true";
         private static final String FALSE = "false";
+        private static final Object UNCONVERTED_VALUE = new Object();
+        private static final int MAX_CACHED_FIELD_NAMES = 1024;
+        private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
+        private static final MapType ANYDATA_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+        private static final ArrayType ANYDATA_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_ANYDATA);
 
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
@@ -207,10 +273,18 @@ public class JsonParser {
         private JsonUtils.NonStringValueProcessingMode mode = JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
         private Type definedJsonType = PredefinedTypes.TYPE_JSON;
 
+        // The target type of the document, which is null when the document is parsed as json.
+        private Type targetType;
+        private BTypedesc targetTypedesc;
+        // The target types of the current node and of the nodes in the nodes stack.
+        private Type currentTargetType;
+        private Deque<Type> targetTypesStack;
 
         private Object currentJsonNode;
         private Deque<Object> nodesStack;
         private Deque<String> fieldNames;
+        // Keys of the previously parsed fields, kept across documents parsed by this thread.
+        private final Map<String, BString> fieldNameCache;
 
         private StringBuilder hexBuilder = new StringBuilder(4);
         private char[] charBuff = new char[1024];
@@ -222,6 +296,11 @@ public class JsonParser {
         private char currentQuoteChar;
 
         StateMachine() {
+            this(new HashMap<>());
+        }
+
+        StateMachine(Map<String, BString> fieldNameCache) {
+            this.fieldNameCache = fieldNameCache;
             reset();
         }
 
@@ -233,6 +312,33 @@ public class JsonParser {
             this.nodesStack = new ArrayDeque<>();
             this.fieldNames = new ArrayDeque<>();
             this.setMode(JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+            this.targetType = null;
+            this.targetTypedesc = null;
+            this.currentTargetType = null;
+            this.targetTypesStack = new ArrayDeque<>();
+        }
+
+        private BString popFieldName() {
+            String fieldName = this.fieldNames.pop();
+            BString key = this.fieldNameCache.get(fieldName);
+            if (key != null) {
+                return key;
+            }
+            // Field names matching string constants, e.g. record field names, share the interned value.
+            key = StringInterner.getInterned(fieldName);
+            if (key == null) {
+                key = StringUtils.fromString(fieldName);
+            }
+            if (this.fieldNameCache.size() < MAX_CACHED_FIELD_NAMES &&
+                    fieldName.length() <= MAX_CACHED_FIELD_NAME_LENGTH) {
+                this.fieldNameCache.put(fieldName, key);
+            }
+            return key;
+        }
+
+        private void setTargetType(BTypedesc targetTypedesc) {
+            this.targetTypedesc = targetTypedesc;
+            this.targetType = targetTypedesc.getDescribingType();
         }
 
         private void setMode(JsonUtils.NonStringValueProcessingMode mode) {
@@ -281,6 +387,8 @@ public class JsonParser {
                 return this.currentJsonNode;
             } catch (IOException e) {
                 throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+            } catch (JsonTypeMismatchException e) {
+                return UNCONVERTED_VALUE;
             } catch (JsonParserException e) {
                 throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
                                                                               "column: " + this.column));
@@ -304,15 +412,21 @@ public class JsonParser {
             this.charBuff = newBuff;
         }
 
-        private State finalizeObject() {
+        private State finalizeObject() throws JsonParserException {
+            if (this.targetType != null && this.currentTargetType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                this.currentJsonNode = createRecordValue((MapValueImpl<BString, Object>) this.currentJsonNode,
+                                                         (RecordType) this.currentTargetType);
+            }
             if (this.nodesStack.isEmpty()) {
                 return DOC_END_STATE;
             }
 
+            if (this.targetType != null) {
+                this.currentTargetType = this.targetTypesStack.pop();
+            }
             Object parentNode = this.nodesStack.pop();
             if (TypeChecker.getType(parentNode).getTag() == TypeTags.MAP_TAG) {
-                ((MapValueImpl<BString, Object>) parentNode).put(StringUtils.fromString(fieldNames.pop()),
-                                                                 currentJsonNode);
+                ((MapValueImpl<BString, Object>) parentNode).put(popFieldName(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
             }
@@ -321,20 +435,188 @@ public class JsonParser {
             return ARRAY_ELEMENT_END_STATE;
         }
 
-        private State initNewObject() {
-            if (currentJsonNode != null) {
-                this.nodesStack.push(currentJsonNode);
+        private State initNewObject() throws JsonParserException {
+            Type nodeTargetType = null;
+            if (this.targetType != null) {
+                nodeTargetType = getNodeTargetType(getChildTargetType(), TypeTags.MAP_TAG);
             }
-            currentJsonNode = new MapValueImpl<>(new BMapType(definedJsonType));
+            pushCurrentNode();
+            if (nodeTargetType != null && nodeTargetType.getTag() == TypeTags.MAP_TAG) {
+                currentJsonNode = new MapValueImpl<>(nodeTargetType);
+            } else {
+                // Fields of records are collected in a json map until the record value is created.
+                currentJsonNode = new MapValueImpl<>(new BMapType(definedJsonType));
+            }
+            this.currentTargetType = nodeTargetType;
             return FIRST_FIELD_READY_STATE;
         }
 
-        private State initNewArray() {
+        private State initNewArray() throws JsonParserException {
+            Type nodeTargetType = null;
+            if (this.targetType != null) {
+                nodeTargetType = getNodeTargetType(getChildTargetType(), TypeTags.ARRAY_TAG);
+            }
+            pushCurrentNode();
+            if (nodeTargetType != null && nodeTargetType.getTag() == TypeTags.ARRAY_TAG) {
+                currentJsonNode = new ArrayValueImpl((ArrayType) nodeTargetType);
+            } else {
+                currentJsonNode = new ArrayValueImpl(new BArrayType(definedJsonType));
+            }
+            this.currentTargetType = nodeTargetType;
+            return FIRST_ARRAY_ELEMENT_READY_STATE;
+        }
+
+        private void pushCurrentNode() {
             if (currentJsonNode != null) {
                 this.nodesStack.push(currentJsonNode);
+                if (this.targetType != null) {
+                    this.targetTypesStack.push(this.currentTargetType);
+                }
             }
-            currentJsonNode = new ArrayValueImpl(new BArrayType(definedJsonType));
-            return FIRST_ARRAY_ELEMENT_READY_STATE;
+        }
+
+        /**
+         * Returns the target type of the value being parsed in the current node, or of the document.
+         */
+        private Type getChildTargetType() throws JsonTypeMismatchException {
+            if (this.currentJsonNode == null) {
+                return this.targetType;
+            }
+
+            switch (this.currentTargetType.getTag()) {
+                case TypeTags.RECORD_TYPE_TAG:
+                    RecordType recordType = (RecordType) this.currentTargetType;
+                    Field field = recordType.getFields().get(this.fieldNames.peek());
+                    if (field != null) {
+                        return field.getFieldType();
+                    }
+                    if (recordType.isSealed()) {
+                        throw JsonTypeMismatchException.INSTANCE;
+                    }
+                    return recordType.getRestFieldType();
+                case TypeTags.MAP_TAG:
+                    return ((MapType) this.currentTargetType).getConstrainedType();
+                case TypeTags.ARRAY_TAG:
+                    return ((ArrayType) this.currentTargetType).getElementType();
+                default:
+                    // Members of json values are json values.
+                    return this.currentTargetType;
+            }
+        }
+
+        /**
+         * Returns the type of the value to be created for a JSON object or array of the given target type.
+         */
+        private Type getNodeTargetType(Type type, int nodeTypeTag) throws JsonTypeMismatchException {
+            switch (type.getTag()) {
+                case TypeTags.JSON_TAG:
+                    return type;
+                case TypeTags.ANYDATA_TAG:
+                    // As done by the conversion of json values, the members of the value are anydata values.
+                    return nodeTypeTag == TypeTags.MAP_TAG ? ANYDATA_MAP_TYPE : ANYDATA_ARRAY_TYPE;
+                case TypeTags.UNION_TAG:
+                    return getNodeTargetType(getNonNilType(type), nodeTypeTag);
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.MAP_TAG:
+                    if (nodeTypeTag == TypeTags.MAP_TAG && !type.isReadOnly()) {
+                        return type;
+                    }
+                    break;
+                case TypeTags.ARRAY_TAG:
+                    if (nodeTypeTag == TypeTags.ARRAY_TAG && !type.isReadOnly() &&
+                            ((ArrayType) type).getState() == ArrayState.OPEN) {
+                        return type;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            throw JsonTypeMismatchException.INSTANCE;
+        }
+
+        private Type getNonNilType(Type type) throws JsonTypeMismatchException {
+            // Only optional types are converted while parsing, as other unions may need to match the value against
+            // several member types.
+            List<Type> memberTypes = ((UnionType) type).getMemberTypes();
+            if (memberTypes.size() == 2) {
+                if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+                    return memberTypes.get(1);
+                }
+                if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+                    return memberTypes.get(0);
+                }
+            }
+            throw JsonTypeMismatchException.INSTANCE;
+        }
+
+        private Object convertValue(Object value) throws JsonTypeMismatchException {
+            if (this.targetType == null) {
+                return value;
+            }
+            return convertValue(value, getChildTargetType());
+        }
+
+        private Object convertValue(Object value, Type type) throws JsonTypeMismatchException {
+            switch (type.getTag()) {
+                case TypeTags.JSON_TAG:
+                case TypeTags.ANYDATA_TAG:
+                    return value;
+                case TypeTags.UNION_TAG:
+                    if (value == null && type.isNilable()) {
+                        return null;
+                    }
+                    return convertValue(value, getNonNilType(type));
+                case TypeTags.NULL_TAG:
+                    if (value == null) {
+                        return null;
+                    }
+                    break;
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    if (value == null) {
+                        break;
+                    }
+                    if (TypeChecker.checkIsType(value, type)) {
+                        return value;
+                    }
+                    // Numeric conversions, as done by the conversion of json values.
+                    if (TypeChecker.checkIsLikeType(value, type, true)) {
+                        return TypeConverter.convertValues(type, value);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            throw JsonTypeMismatchException.INSTANCE;
+        }
+
+        private Object createRecordValue(MapValueImpl<BString, Object> fields, RecordType recordType)
+                throws JsonTypeMismatchException {
+            for (Field field : recordType.getFields().values()) {
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED) &&
+                        !fields.containsKey(StringInterner.intern(field.getFieldName()))) {
+                    throw JsonTypeMismatchException.INSTANCE;
+                }
+            }
+
+            if (this.targetTypedesc.getDescribingType() == recordType) {
+                BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[fields.size()];
+                int count = 0;
+                for (Map.Entry<BString, Object> field : fields.entrySet()) {
+                    initialValues[count++] = new MappingInitialValueEntry.KeyValueEntry(field.getKey(),
+                                                                                         field.getValue());
+                }
+                return this.targetTypedesc.instantiate(Scheduler.getStrand(), initialValues);
+            }
+
+            Map<String, Object> valueMap = new HashMap<>();
+            for (Map.Entry<BString, Object> field : fields.entrySet()) {
+                valueMap.put(field.getKey().getValue(), field.getValue());
+            }
+            return ValueUtils.createRecordValue(recordType.getPackage(), recordType.getName(), valueMap);
         }
 
         /**
@@ -674,8 +956,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((MapValueImpl<BString, Object>) sm.currentJsonNode).put(
-                                StringUtils.fromString(sm.fieldNames.pop()), StringUtils.fromString(sm.value()));
+                        sm.setValueToJsonType(ValueType.FIELD, StringUtils.fromString(sm.value()));
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
@@ -707,7 +988,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        ((ArrayValue) sm.currentJsonNode).append(changeForBString(sm.value()));
+                        sm.setValueToJsonType(ValueType.ARRAY_ELEMENT, StringUtils.fromString(sm.value()));
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
@@ -819,7 +1100,7 @@ public class JsonParser {
                     ch = buff[i];
                     sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        sm.currentJsonNode = changeForBString(sm.value());
+                        sm.setValueToJsonType(ValueType.VALUE, StringUtils.fromString(sm.value()));
                         state = DOC_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
@@ -867,50 +1148,11 @@ public class JsonParser {
             } else {
                 char ch = str.charAt(0);
                 if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.TRUE);
                 } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, Boolean.FALSE);
                 } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
+                    setValueToJsonType(type, null);
                 } else {
                     try {
                         switch (mode) {
@@ -935,17 +1177,18 @@ public class JsonParser {
             }
         }
 
-        private void setValueToJsonType(ValueType type, Object value) {
+        private void setValueToJsonType(ValueType type, Object value) throws JsonTypeMismatchException {
             switch (type) {
                 case ARRAY_ELEMENT:
-                    ((ArrayValue) this.currentJsonNode).append(value);
+                    ((ArrayValue) this.currentJsonNode).append(convertValue(value));
                     break;
                 case FIELD:
-                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                    // The target type of a field value depends on the field name, hence convert before popping it.
+                    Object fieldValue = convertValue(value);
+                    ((MapValueImpl<BString, Object>) this.currentJsonNode).put(popFieldName(), fieldValue);
                     break;
                 default:
-                    currentJsonNode = value;
+                    currentJsonNode = convertValue(value);
                     break;
             }
         }
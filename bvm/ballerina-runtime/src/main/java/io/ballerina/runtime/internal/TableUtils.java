@@ -20,9 +20,13 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.RefValue;
@@ -111,4 +115,17 @@ public class TableUtils {
     public static void handleTableStore(TableValue<Object, Object> tableValue, Object key, Object value) {
         tableValue.put(key, value);
     }
+
+    /**
+     * Returns the rows of a table whose value for the given field is equal to the given value, in table order.
+     *
+     * @param tableValue Table value to look up
+     * @param fieldName  The name of the field
+     * @param fieldValue The value of the field
+     * @return An array of the matching rows
+     */
+    public static BArray getRowsByField(BTable<?, ?> tableValue, BString fieldName, Object fieldValue) {
+        TableValue<?, ?> table = (TableValue<?, ?>) tableValue;
+        return new ArrayValueImpl(table.getRowsByField(fieldName, fieldValue).toArray(), table.getRowArrayType());
+    }
 }
@@ -604,6 +604,15 @@ public class TypeChecker {
             return true;
         }
 
+        // Results are cached only for checks that do not depend on assumptions made while resolving recursive types.
+        if (unresolvedTypes == null && isCacheableTypePair(sourceType, targetType)) {
+            return checkIsTypeCached((BType) sourceType, (BType) targetType);
+        }
+
+        // A cached result depends on the types reached while it is computed as well.
+        markTypeChecked(sourceType);
+        markTypeChecked(targetType);
+
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -707,6 +716,60 @@ public class TypeChecker {
         }
     }
 
+    private static boolean checkIsTypeCached(BType sourceType, BType targetType) {
+        Boolean cachedResult = sourceType.getCachedTypeCheckResult(targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        int startEpoch = sourceType.startCachedTypeCheck(targetType);
+        boolean result = checkIsType(sourceType, targetType, new ArrayList<>());
+        sourceType.cacheTypeCheckResult(targetType, result, startEpoch);
+        return result;
+    }
+
+    private static void markTypeChecked(Type type) {
+        if (type instanceof BType) {
+            ((BType) type).markTypeChecked();
+        }
+    }
+
+    private static boolean isCacheableTypePair(Type sourceType, Type targetType) {
+        if (!(sourceType instanceof BType) || !(targetType instanceof BType)) {
+            return false;
+        }
+
+        // Intersection and parameterized types are resolved to their effective types first, and it is the result
+        // for those that gets cached.
+        int sourceTypeTag = sourceType.getTag();
+        if (sourceTypeTag == TypeTags.INTERSECTION_TAG || sourceTypeTag == TypeTags.PARAMETERIZED_TYPE_TAG) {
+            return false;
+        }
+
+        switch (targetType.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.STREAM_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.ERROR_TAG:
+            case TypeTags.TYPEDESC_TAG:
+            case TypeTags.XML_TAG:
+                return true;
+            case TypeTags.INTERSECTION_TAG:
+            case TypeTags.PARAMETERIZED_TYPE_TAG:
+            case TypeTags.READONLY_TAG:
+                return false;
+            default:
+                return sourceTypeTag == TypeTags.UNION_TAG;
+        }
+    }
+
     private static boolean checkIsType(Object sourceVal, Type sourceType, Type targetType,
                                       List<TypePair> unresolvedTypes) {
         int sourceTypeTag = sourceType.getTag();
@@ -24,8 +24,6 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.util.PrimitiveIterator;
-
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_NULL;
 
 /**
@@ -243,25 +241,33 @@ public class ValueComparisonUtils {
                 TypeChecker.getType(rhsValue));
     }
 
-    private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+    /**
+     * Compare two strings in the order of their unicode code points.
+     *
+     * @param str1 The string on the left hand side
+     * @param str2 The string on the right hand side
+     * @return A negative value, zero or a positive value if the first string is less than, equal to or greater than
+     * the second string.
+     */
+    public static int codePointCompare(String str1, String str2) {
+        int length = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < length; i++) {
+            char ch1 = str1.charAt(i);
+            char ch2 = str2.charAt(i);
+            if (ch1 != ch2) {
+                // Characters from U+E000 to U+FFFF come before the surrogates of the supplementary characters in
+                // UTF-16 order, hence move the surrogates after them.
+                if (ch1 >= Character.MIN_SURROGATE && ch2 >= Character.MIN_SURROGATE) {
+                    return toCodePointOrder(ch1) - toCodePointOrder(ch2);
+                }
+                return ch1 - ch2;
             }
         }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return str1.length() - str2.length();
+    }
+
+    private static int toCodePointOrder(char ch) {
+        return Character.isSurrogate(ch) ? ch + 0x2000 : ch - 0x800;
     }
 
     private static int compareFloatValues(double lhsValue, double rhsValue, boolean inRelationalExpr,
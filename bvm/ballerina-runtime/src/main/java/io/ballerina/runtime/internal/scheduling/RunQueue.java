@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Queue of {@link ItemGroup}s that are ready to be executed by the strand worker threads of a {@link Scheduler}.
+ *
+ * @since 2.0.0
+ */
+interface RunQueue {
+
+    /**
+     * Binds the calling thread to this queue as the strand worker with the given id. Called once by each worker
+     * thread before it starts taking groups from the queue.
+     *
+     * @param workerId id of the worker, in the range [0, number of workers)
+     */
+    void registerWorker(int workerId);
+
+    /**
+     * Adds a group that is ready to be executed.
+     *
+     * @param group runnable item group
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next runnable group, waiting if none is available.
+     *
+     * @return next runnable group
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
@@ -32,17 +32,15 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,7 +63,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private final Strand previousStrand;
@@ -74,6 +72,26 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable to one of
+     * {@link #SHARED_QUEUE_POLICY} or {@link #WORK_STEALING_POLICY}. Default is the shared queue.
+     */
+    private static String schedulerPolicyConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
+    static final String SHARED_QUEUE_POLICY = "shared";
+    static final String WORK_STEALING_POLICY = "work-stealing";
+
+    /**
+     * This can be changed by setting the BALLERINA_STRAND_GROUP_ORDER system variable to one of
+     * {@link #LIFO_GROUP_ORDER} or {@link #FIFO_GROUP_ORDER}. Default is LIFO, which favours locality.
+     */
+    private static String groupOrderConf = System.getenv(RuntimeConstants.BALLERINA_STRAND_GROUP_ORDER_ENV_VAR);
+
+    static final String LIFO_GROUP_ORDER = "lifo";
+    static final String FIFO_GROUP_ORDER = "fifo";
+
+    private static final boolean fifoGroups = isFifoGroupOrder();
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -93,9 +111,10 @@ public class Scheduler {
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads);
         this.listenerRegistry = new ListenerRegistry();
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
-        ItemGroup group = new ItemGroup();
+        ItemGroup group = new ItemGroup(fifoGroups);
         objectGroup.set(group);
     }
 
@@ -229,7 +248,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        ItemGroup group = new ItemGroup(item);
+        ItemGroup group = new ItemGroup(item, fifoGroups);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
         runnableList.add(group);
@@ -255,7 +274,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        ItemGroup group = new ItemGroup(item);
+        ItemGroup group = new ItemGroup(item, fifoGroups);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
         runnableList.add(group);
@@ -265,9 +284,10 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -278,9 +298,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -289,7 +309,8 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
+        runnableList.registerWorker(workerId);
         while (true) {
             SchedulerItem item;
             ItemGroup group;
@@ -304,13 +325,11 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
+            item = group.get();
+            while (item != null) {
                 Object result = null;
                 Throwable panic = null;
 
-                item = group.get();
-
                 try {
                     strandHolder.get().strand = item.future.strand;
                     result = item.execute();
@@ -330,11 +349,7 @@ public class Scheduler {
                     strandHolder.get().strand = previousStrand;
                 }
                 postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
-                }
-                group.unlock();
+                item = group.get();
             }
         }
     }
@@ -488,7 +503,6 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
-        group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
         //  1) All items are blocked.
@@ -497,7 +511,6 @@ public class Scheduler {
         if (group.scheduled.compareAndSet(false, true)) {
             runnableList.add(group);
         }
-        group.unlock();
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -514,9 +527,7 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
@@ -540,6 +551,32 @@ public class Scheduler {
         return listenerRegistry;
     }
 
+    private static RunQueue createRunQueue(int numThreads) {
+        if (schedulerPolicyConf == null || SHARED_QUEUE_POLICY.equals(schedulerPolicyConf)) {
+            return new SharedRunQueue();
+        }
+        if (WORK_STEALING_POLICY.equals(schedulerPolicyConf)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported scheduler policy '" + schedulerPolicyConf + "' in system variable:" +
+                RuntimeConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", using '" + SHARED_QUEUE_POLICY + "'");
+        return new SharedRunQueue();
+    }
+
+    private static boolean isFifoGroupOrder() {
+        if (groupOrderConf == null || LIFO_GROUP_ORDER.equals(groupOrderConf)) {
+            return false;
+        }
+        if (FIFO_GROUP_ORDER.equals(groupOrderConf)) {
+            return true;
+        }
+        // Log and continue with default
+        err.println("ballerina: unsupported strand group order '" + groupOrderConf + "' in system variable:" +
+                RuntimeConstants.BALLERINA_STRAND_GROUP_ORDER_ENV_VAR + ", using '" + LIFO_GROUP_ORDER + "'");
+        return false;
+    }
+
     private static int getPoolSize() {
         try {
             if (poolSizeConf != null) {
@@ -630,44 +667,61 @@ class SchedulerItem {
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items can be added to a group concurrently from any thread, but only the thread that owns the group, i.e. the one
+ * that successfully set {@link #scheduled}, takes items from it. Adding and taking items does not need a lock.
  */
 class ItemGroup {
 
     /**
      * Keep the list of items that should run on same thread.
-     * Using a stack to get advantage of the locality.
+     * Used as a stack by default to get advantage of the locality, or as a FIFO queue if fairness is preferred.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private final Deque<SchedulerItem> items = new ConcurrentLinkedDeque<>();
+
+    private final boolean fifo;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
     AtomicBoolean scheduled = new AtomicBoolean(false);
 
-    private final ReentrantLock groupLock = new ReentrantLock();
+    public static final ItemGroup POISON_PILL = new ItemGroup(false);
 
-    public static final ItemGroup POISON_PILL = new ItemGroup();
-
-    public ItemGroup(SchedulerItem item) {
+    public ItemGroup(SchedulerItem item, boolean fifo) {
+        this.fifo = fifo;
         items.push(item);
     }
 
-    public ItemGroup() {
+    public ItemGroup(boolean fifo) {
+        this.fifo = fifo;
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        if (fifo) {
+            items.offerLast(item);
+        } else {
+            items.offerFirst(item);
+        }
     }
 
+    /**
+     * Takes the next item of the group. If there are no items left, the group is marked as not scheduled, so that
+     * the next {@link #add} makes it runnable again.
+     *
+     * @return next item or null if the group has no more items
+     */
     public SchedulerItem get() {
-        return items.pop();
-    }
-
-    public void lock() {
-        this.groupLock.lock();
-    }
-
-    public void unlock() {
-        this.groupLock.unlock();
+        SchedulerItem item = items.pollFirst();
+        while (item == null) {
+            scheduled.set(false);
+            // An item may have been added after the poll, but before scheduled was cleared. Its producer would not
+            // have scheduled the group, so take the ownership back unless another thread already did.
+            if (items.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                return null;
+            }
+            item = items.pollFirst();
+        }
+        return item;
     }
 }
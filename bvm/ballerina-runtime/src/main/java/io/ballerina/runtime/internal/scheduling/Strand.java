@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -31,6 +32,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,11 +61,18 @@ public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
 
+    private static final Object[] EMPTY_FRAMES = new Object[0];
+    private static final int INITIAL_FRAMES_SIZE = 8;
+
     private int id;
     private String name;
     private StrandMetadata metadata;
 
-    public Object[] frames;
+    /**
+     * Frames of the functions that yielded in this strand. Allocated only when a function of the strand yields for
+     * the first time, and grown as needed.
+     */
+    public Object[] frames = EMPTY_FRAMES;
     public int resumeIndex;
     public Object returnValue;
     public BError panic;
@@ -86,6 +95,7 @@ public class Strand {
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
+    private List<BLock> acquiredLocks;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
@@ -377,6 +387,49 @@ public class Strand {
         return (this.state.getStatus() & BLOCK_ON_AND_YIELD.getStatus()) == BLOCK_ON_AND_YIELD.getStatus();
     }
 
+    public void addAcquiredLock(BLock lock) {
+        if (acquiredLocks == null) {
+            acquiredLocks = new ArrayList<>();
+        }
+        acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        acquiredLocks.remove(acquiredLocks.lastIndexOf(lock));
+    }
+
+    /**
+     * Returns the locks currently held by this strand, in the order they were acquired.
+     *
+     * @return acquired locks
+     */
+    public List<BLock> getAcquiredLocks() {
+        return acquiredLocks == null ? Collections.emptyList() : acquiredLocks;
+    }
+
+    /**
+     * Saves the frame of a yielding function. Called by the generated code in the yield path.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (resumeIndex == frames.length) {
+            frames = Arrays.copyOf(frames, resumeIndex == 0 ? INITIAL_FRAMES_SIZE : resumeIndex << 1);
+        }
+        frames[resumeIndex++] = frame;
+    }
+
+    /**
+     * Restores the frame of a function that resumes after yielding. Called by the generated code in the resume path.
+     *
+     * @return frame of the resuming function
+     */
+    public Object popFrame() {
+        Object frame = frames[--resumeIndex];
+        frames[resumeIndex] = null;
+        return frame;
+    }
+
     public boolean isYielded() {
         return (this.state.getStatus() & YIELD.getStatus()) == YIELD.getStatus();
     }
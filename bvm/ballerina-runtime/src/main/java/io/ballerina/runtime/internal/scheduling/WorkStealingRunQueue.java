@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} that keeps a separate deque per strand worker thread. Groups scheduled from a worker thread go to
+ * the tail of that worker's own deque, so a strand group that gets rescheduled by its owner stays on the same thread
+ * unless another worker runs out of work and steals it. The owner takes the newest group from the tail, whose strands
+ * are most likely to still be in its cache, while thieves take the oldest group from the head. Groups scheduled from
+ * non-worker threads (e.g. transport threads completing async calls) go to a shared injection queue.
+ * <p>
+ * The number of available groups is tracked with a semaphore, which only needs a CAS in the common case, so idle
+ * workers can block without all the workers having to contend on a single queue lock.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * A worker checks the injection queue before its own deque once in this many takes, so that groups submitted
+     * from outside are not starved by a worker that keeps rescheduling local work.
+     */
+    static final int INJECTION_QUEUE_CHECK_INTERVAL = 61;
+
+    private final Deque<ItemGroup>[] workerQueues;
+    private final Queue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final Semaphore available = new Semaphore(0);
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunQueue(int numWorkers) {
+        this.workerQueues = new Deque[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        currentWorker.set(new Worker(workerId, workerQueues[workerId]));
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker == null || group == POISON_PILL) {
+            injectionQueue.offer(group);
+        } else {
+            worker.queue.offerLast(group);
+        }
+        available.release();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        // Every permit corresponds to a group in one of the queues, hence after acquiring a permit this thread is
+        // guaranteed to find a group, even though it may have to retry if another thread took the one it saw.
+        available.acquire();
+        Worker worker = currentWorker.get();
+        while (true) {
+            ItemGroup group = worker == null ? injectionQueue.poll() : poll(worker);
+            if (group != null) {
+                return group;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        if (++worker.ticks % INJECTION_QUEUE_CHECK_INTERVAL == 0 && (group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        if ((group = worker.queue.pollLast()) != null) {
+            return group;
+        }
+        if ((group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        return steal(worker.id);
+    }
+
+    private ItemGroup steal(int thiefId) {
+        int numWorkers = workerQueues.length;
+        int start = ThreadLocalRandom.current().nextInt(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == thiefId) {
+                continue;
+            }
+            // Take from the head, the owner takes from the tail.
+            ItemGroup group = workerQueues[victim].pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (Deque<ItemGroup> queue : workerQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per thread state of a strand worker.
+     */
+    private static class Worker {
+        final int id;
+        final Deque<ItemGroup> queue;
+        int ticks;
+
+        Worker(int id, Deque<ItemGroup> queue) {
+            this.id = id;
+            this.queue = queue;
+        }
+    }
+}
@@ -88,6 +88,7 @@ public class BAnyType extends BType implements AnyType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
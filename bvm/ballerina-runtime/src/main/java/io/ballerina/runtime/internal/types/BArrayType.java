@@ -65,7 +65,7 @@ public class BArrayType extends BType implements ArrayType {
 
     public BArrayType(Type elemType, int size, boolean readonly) {
         this(0, size, readonly, TypeChecker.hasFillerValue(elemType));
-        setElementType(elemType);
+        initElementType(elemType);
     }
 
     public BArrayType(int typeFlags, int size, boolean readonly, boolean hasFillerValue) {
@@ -80,6 +80,11 @@ public class BArrayType extends BType implements ArrayType {
     }
 
     public void setElementType(Type elementType) {
+        initElementType(elementType);
+        invalidateTypeCheckCache();
+    }
+
+    private void initElementType(Type elementType) {
         this.elementType = readonly ? ReadOnlyUtils.getReadOnlyType(elementType) : elementType;
         if (elementType instanceof BArrayType) {
             this.dimensions = ((BArrayType) elementType).getDimensions() + 1;
@@ -220,6 +225,7 @@ public class BArrayType extends BType implements ArrayType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -49,6 +49,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -68,6 +69,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setDetailType(Type detailType) {
         this.detailType = detailType;
+        invalidateTypeCheckCache();
     }
 
     @Override
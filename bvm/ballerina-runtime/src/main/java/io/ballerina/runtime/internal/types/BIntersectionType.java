@@ -186,6 +186,7 @@ public class BIntersectionType extends BType implements IntersectionType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     public Type getEffectiveType() {
@@ -158,6 +158,7 @@ public class BMapType extends BType implements MapType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -119,6 +119,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        invalidateTypeCheckCache();
     }
 
     public void setInitializer(BMethodType initializer) {
@@ -172,6 +173,7 @@ public class BObjectType extends BStructureType implements ObjectType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -186,6 +188,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        invalidateTypeCheckCache();
     }
 
     public BObjectType duplicate() {
@@ -167,6 +167,7 @@ public class BRecordType extends BStructureType implements RecordType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
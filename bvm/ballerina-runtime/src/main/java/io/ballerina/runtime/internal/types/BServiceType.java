@@ -42,6 +42,7 @@ public class BServiceType extends BObjectType implements ServiceType {
 
     public void setResourceMethods(ResourceMethodType[] resourceMethods) {
         this.resourceMethods = resourceMethods;
+        invalidateTypeCheckCache();
     }
 
     /**
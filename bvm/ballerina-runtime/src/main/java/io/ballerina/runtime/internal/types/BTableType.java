@@ -145,6 +145,7 @@ public class BTableType extends BType implements TableType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -164,6 +164,7 @@ public class BTupleType extends BType implements TupleType {
             this.restType = restType;
         }
         checkAllMembers();
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -285,6 +286,7 @@ public class BTupleType extends BType implements TupleType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
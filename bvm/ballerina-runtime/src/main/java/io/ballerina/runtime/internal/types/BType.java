@@ -41,6 +41,8 @@ public abstract class BType implements Type {
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    private TypeCheckCache typeCheckCache;
+    private volatile boolean typeChecked;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -193,4 +195,70 @@ public abstract class BType implements Type {
     public long getFlags() {
         return 0;
     }
+
+    /**
+     * Returns the cached result of checking whether this type is a subtype of the given target type.
+     *
+     * @param targetType type this type was checked against
+     * @return the cached result, or {@code null} if the result is not cached
+     */
+    public Boolean getCachedTypeCheckResult(BType targetType) {
+        TypeCheckCache cache = this.typeCheckCache;
+        if (cache == null) {
+            TypeCheckCache.countMiss();
+            return null;
+        }
+        return cache.get(targetType);
+    }
+
+    /**
+     * Starts a check of this type against the given target type whose result is to be cached. Changing either type
+     * from then on discards the cached results, including the result of the check that follows.
+     *
+     * @param targetType type this type is to be checked against
+     * @return the epoch of the cache to pass to {@link #cacheTypeCheckResult} once the check is done
+     */
+    public int startCachedTypeCheck(BType targetType) {
+        this.markTypeChecked();
+        targetType.markTypeChecked();
+        return TypeCheckCache.currentEpoch();
+    }
+
+    /**
+     * Caches the result of checking whether this type is a subtype of the given target type.
+     *
+     * @param targetType type this type was checked against
+     * @param result     result of the check
+     * @param startEpoch epoch returned by {@link #startCachedTypeCheck} before the check
+     */
+    public void cacheTypeCheckResult(BType targetType, boolean result, int startEpoch) {
+        TypeCheckCache cache = this.typeCheckCache;
+        if (cache == null) {
+            cache = new TypeCheckCache();
+            this.typeCheckCache = cache;
+        }
+        cache.put(targetType, result, startEpoch);
+    }
+
+    /**
+     * Marks this type as checked, so that changing its structure from then on discards the cached subtype check
+     * results. Called for every type a cached result may depend on: the source and target types of a cached check,
+     * and the types reached from them while the check runs.
+     */
+    public void markTypeChecked() {
+        if (!this.typeChecked) {
+            this.typeChecked = true;
+        }
+    }
+
+    /**
+     * Discards cached subtype check results once the structure of this type changes. The change may affect the
+     * results of any type this type is reachable from, not only the results of this type. Types that have not been
+     * checked yet, such as types that are still being created, do not affect the cache.
+     */
+    protected void invalidateTypeCheckCache() {
+        if (this.typeChecked) {
+            TypeCheckCache.invalidateAll();
+        }
+    }
 }
@@ -162,6 +162,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        invalidateTypeCheckCache();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -234,6 +235,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
+        invalidateTypeCheckCache();
     }
 
     private void setFlagsBasedOnMembers() {
@@ -415,6 +417,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
@@ -132,6 +132,7 @@ public class BXmlType extends BType implements XmlType {
     @Override
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
+        invalidateTypeCheckCache();
     }
 
     @Override
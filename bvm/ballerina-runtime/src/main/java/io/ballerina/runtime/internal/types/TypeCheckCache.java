@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of subtype check results, attached to a source {@link BType} and keyed by the identity of the
+ * target type.
+ * <p>
+ * Entries are held in a small direct-mapped table, so a lookup never allocates and the cache never grows beyond
+ * {@link #CACHE_SIZE} entries per source type. Types are mutated mostly while they are being defined (fields,
+ * member types and immutable types are set after construction). Mutating a type that has already been checked bumps
+ * a global epoch, which discards every result cached before it. A cached result may depend on any type reached while
+ * it was computed, such as a member of a union resolved later, so every such type is marked as checked. Types that
+ * are created and set up at runtime, such as the types of parsed JSON values, are not checked before they are set
+ * up, so they do not affect the cache.
+ *
+ * @since 2.0.0
+ */
+public final class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 32;
+    private static final int INDEX_MASK = CACHE_SIZE - 1;
+
+    private static final AtomicInteger epoch = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    // Entries are immutable, so publishing them through a plain array is safe even when racing writers replace a
+    // slot; the worst case is a lost entry, which only costs a recomputation.
+    private final Entry[] entries = new Entry[CACHE_SIZE];
+
+    /**
+     * Returns the cached result of checking the owning type against the given target type.
+     *
+     * @param targetType type the owning type was checked against
+     * @return the cached result, or {@code null} if there is no valid entry for the target type
+     */
+    public Boolean get(Type targetType) {
+        Entry entry = entries[indexOf(targetType)];
+        if (entry != null && entry.targetType == targetType && entry.epoch == epoch.get()) {
+            hits.increment();
+            return entry.result;
+        }
+        countMiss();
+        return null;
+    }
+
+    static void countMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Records the result of checking the owning type against the given target type. The result is dropped if a type
+     * changed since the check started, as the check may have seen the type before the change.
+     *
+     * @param targetType type the owning type was checked against
+     * @param result     result of the check
+     * @param startEpoch epoch read before the check started
+     */
+    public void put(Type targetType, boolean result, int startEpoch) {
+        if (epoch.get() != startEpoch) {
+            return;
+        }
+        entries[indexOf(targetType)] = new Entry(targetType, result, startEpoch);
+    }
+
+    /**
+     * Returns the current epoch of the cache, to be read before a check whose result is to be cached.
+     *
+     * @return the current epoch
+     */
+    public static int currentEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Discards all cached subtype check results. Called whenever the structure of a checked type changes.
+     */
+    public static void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    public static void resetCounts() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private static int indexOf(Type targetType) {
+        int hash = System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & INDEX_MASK;
+    }
+
+    private static final class Entry {
+
+        private final Type targetType;
+        private final boolean result;
+        private final int epoch;
+
+        private Entry(Type targetType, boolean result, int epoch) {
+            this.targetType = targetType;
+            this.result = result;
+            this.epoch = epoch;
+        }
+    }
+}
@@ -53,6 +53,10 @@ import io.ballerina.runtime.api.values.BString;
              }
              return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
          }
+         if (this.value.length() + str.length() >= RopeStringValue.MIN_LENGTH) {
+             // Further concatenations to the result, e.g. in a loop, then append to it instead of copying it.
+             return new RopeStringValue(this.value, str.getValue());
+         }
          return new BmpStringValue(this.value + str.getValue());
      }
 
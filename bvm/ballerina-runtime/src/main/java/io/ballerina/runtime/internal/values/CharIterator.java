@@ -29,11 +29,16 @@ public class CharIterator implements IteratorValue {
     long cursor = 0;
     long length;
     String stringValue;
+    int[] surrogates;
 
     CharIterator(StringValue value) {
         this.value = value;
         this.length = value.length();
         this.stringValue = value.getValue();
+        if (value.isNonBmp) {
+            // Read once, as the getter returns a copy.
+            this.surrogates = ((NonBmpStringValue) value).getSurrogates();
+        }
     }
 
     @Override
@@ -47,7 +52,7 @@ public class CharIterator implements IteratorValue {
 
     private String getNonBmpCharWithSurrogates(long currentIndex) {
         int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
+        for (int surrogate : this.surrogates) {
             if (surrogate < currentIndex) {
                 offset++;
             } else if (surrogate > currentIndex) {
@@ -91,9 +91,12 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         BMap<K, V> {
 
     private static final long serialVersionUID = 1L;
-    private BTypedesc typedesc;
+    // Values of a read-only type are shared between strands, hence their typedesc is created eagerly. The typedesc of
+    // other values is created on first use, see getTypedesc().
+    private volatile BTypedesc typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Created on first use, as most maps and records never hold native data.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -106,22 +109,23 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     public MapValueImpl(Type type) {
         super();
         this.type = type;
-        this.typedesc = getTypedescValue(type, this);
+        if (type.isReadOnly()) {
+            this.typedesc = createSingletonTypedesc(this);
+        }
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
         super();
         this.type = type;
         populateInitialValues(initialValues);
-        if (!type.isReadOnly()) {
-            this.typedesc = new TypedescValueImpl(type);
+        if (type.isReadOnly()) {
+            this.typedesc = createSingletonTypedesc(this);
         }
     }
 
     public MapValueImpl() {
         super();
         type = PredefinedTypes.TYPE_MAP;
-        this.typedesc = getTypedescValue(type, this);
     }
 
     public Long getIntValue(BString key) {
@@ -167,11 +171,13 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value associated with the key
      */
     public V getOrThrow(Object key) {
-        if (!containsKey(key)) {
+        // Look up the value first, as the key needs to be looked up again only for nil values.
+        V value = this.get(key);
+        if (value == null && !containsKey(key)) {
             throw ErrorCreator.createError(MAP_KEY_NOT_FOUND_ERROR,
                     BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_ERROR, key));
         }
-        return this.get(key);
+        return value;
     }
 
     /**
@@ -183,8 +189,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value associated with the key
      */
     public V fillAndGet(Object key) {
-        if (containsKey(key)) {
-            return this.get(key);
+        V existingValue = this.get(key);
+        if (existingValue != null || containsKey(key)) {
+            return existingValue;
         }
 
         Type expectedType = null;
@@ -583,7 +590,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -592,11 +599,16 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return this.nativeData == null ? null : this.nativeData.get(key);
     }
 
     @Override
     public BTypedesc getTypedesc() {
+        BTypedesc typedesc = this.typedesc;
+        if (typedesc == null) {
+            typedesc = getTypedescValue(this.type, this);
+            this.typedesc = typedesc;
+        }
         return typedesc;
     }
 
@@ -606,6 +618,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -29,15 +29,56 @@ import java.util.Arrays;
   */
  public class NonBmpStringValue extends StringValue {
 
-     private final int[] surrogates;
+     // Locations of the surrogate pairs, computed when first used unless given.
+     private volatile int[] surrogates;
 
      public NonBmpStringValue(String value, int[] surrogatePairLocations) {
          super(value, true);
          surrogates = surrogatePairLocations;
      }
 
+     /**
+      * Creates a string value, whose surrogate pair locations are computed when they are first used.
+      *
+      * @param value string containing at least one surrogate pair
+      */
+     public NonBmpStringValue(String value) {
+         super(value, true);
+     }
+
+     private int[] getSurrogateLocations() {
+         int[] surrogateLocations = this.surrogates;
+         if (surrogateLocations == null) {
+             surrogateLocations = computeSurrogateLocations(this.value);
+             this.surrogates = surrogateLocations;
+         }
+         return surrogateLocations;
+     }
+
+     private static int[] computeSurrogateLocations(String value) {
+         int count = 0;
+         int length = value.length();
+         for (int i = 0; i < length; i++) {
+             if (Character.isHighSurrogate(value.charAt(i))) {
+                 count++;
+             }
+         }
+
+         int[] surrogateLocations = new int[count];
+         int index = 0;
+         for (int i = 0; index < count; i++) {
+             if (Character.isHighSurrogate(value.charAt(i))) {
+                 // Locations are code point indexes, hence the surrogate pairs before it count as one.
+                 surrogateLocations[index] = i - index;
+                 index++;
+             }
+         }
+         return surrogateLocations;
+     }
+
     @Override
     public int getCodePoint(int index) {
+        int[] surrogates = getSurrogateLocations();
         if ((index < 0) || (index >= value.length() - surrogates.length)) {
             throw new StringIndexOutOfBoundsException(index);
         }
@@ -57,18 +98,20 @@ import java.util.Arrays;
 
     @Override
     public int length() {
-        return value.length() - surrogates.length;
+        return value.length() - getSurrogateLocations().length;
     }
 
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        int[] surrogates = getSurrogateLocations();
         if (stringValue.isNonBmp) {
             NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+            int[] otherSurrogates = other.getSurrogateLocations();
+            int[] both = Arrays.copyOf(surrogates, surrogates.length + otherSurrogates.length);
             int length = length();
-            for (int i = 0; i < other.surrogates.length; i++) {
-                both[i + surrogates.length] = other.surrogates[i] + length;
+            for (int i = 0; i < otherSurrogates.length; i++) {
+                both[i + surrogates.length] = otherSurrogates[i] + length;
             }
             return new NonBmpStringValue(this.value + other.value, both);
         }
@@ -76,7 +119,7 @@ import java.util.Arrays;
     }
 
      public int[] getSurrogates() {
-         return surrogates.clone();
+         return getSurrogateLocations().clone();
      }
 
      @Override
@@ -119,7 +162,7 @@ import java.util.Arrays;
 
      private int getOffset(int fromIndex) {
          int offset = fromIndex;
-         for (int surrogate : surrogates) {
+         for (int surrogate : getSurrogateLocations()) {
              if (surrogate < fromIndex) {
                  offset++;
              } else {
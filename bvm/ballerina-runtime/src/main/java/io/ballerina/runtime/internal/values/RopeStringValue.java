@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings containing only unicode basic multilingual plane characters, built by concatenation.
+ * <p>
+ * The characters are kept in a {@link StringBuilder}, which is shared with the strings this string is concatenated
+ * to. Each string only uses the prefix of the builder up to its length, hence the builder is only appended to, and
+ * concatenating to the longest string sharing the builder appends to it in place instead of copying the characters.
+ * The characters are copied to a {@link String} only when they are accessed, after which a string shared with longer
+ * strings no longer refers to the builder. Substrings only copy their own characters.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue extends StringValue {
+
+    // Concatenations resulting in shorter strings create plain strings, as copying them costs less than the builder.
+    static final int MIN_LENGTH = 256;
+
+    private volatile StringBuilder builder;
+    private final int length;
+    private String flattenedValue;
+
+    RopeStringValue(String first, String second) {
+        super(null, false);
+        this.length = first.length() + second.length();
+        // The builder grows only if this string is concatenated to.
+        this.builder = new StringBuilder(this.length).append(first).append(second);
+    }
+
+    private RopeStringValue(StringBuilder builder, int length) {
+        super(null, false);
+        this.builder = builder;
+        this.length = length;
+    }
+
+    @Override
+    public String getValue() {
+        String value = this.flattenedValue;
+        if (value != null) {
+            return value;
+        }
+        StringBuilder stringBuilder = this.builder;
+        if (stringBuilder == null) {
+            // The builder is released only after the string is flattened.
+            return this.flattenedValue;
+        }
+
+        boolean sharedWithLongerStrings;
+        synchronized (stringBuilder) {
+            value = stringBuilder.substring(0, this.length);
+            sharedWithLongerStrings = stringBuilder.length() > this.length;
+        }
+        this.flattenedValue = value;
+        if (sharedWithLongerStrings) {
+            // This string cannot append to the builder in place, hence it need not keep the longer strings alive.
+            this.builder = null;
+        }
+        return value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return getValue().charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue stringValue = (StringValue) str;
+        if (stringValue.isNonBmp) {
+            return new BmpStringValue(getValue()).concat(str);
+        }
+
+        String other = str.getValue();
+        StringBuilder stringBuilder = this.builder;
+        if (stringBuilder == null) {
+            return new RopeStringValue(this.flattenedValue, other);
+        }
+        synchronized (stringBuilder) {
+            if (stringBuilder.length() == this.length) {
+                stringBuilder.append(other);
+                return new RopeStringValue(stringBuilder, stringBuilder.length());
+            }
+
+            // Another string already extended the builder, hence continue with a copy of this string.
+            int newLength = this.length + other.length();
+            StringBuilder newBuilder = new StringBuilder(newLength);
+            newBuilder.append(stringBuilder, 0, this.length).append(other);
+            return new RopeStringValue(newBuilder, newLength);
+        }
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        long index = getValue().indexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        long index = getValue().lastIndexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        StringBuilder stringBuilder = this.builder;
+        if (this.flattenedValue == null && stringBuilder != null && endIndex <= this.length) {
+            // Copy only the characters of the substring, so that a short substring does not flatten a long string.
+            String value;
+            synchronized (stringBuilder) {
+                value = stringBuilder.substring(beginIndex, endIndex);
+            }
+            return new BmpStringValue(value);
+        }
+        return new BmpStringValue(getValue().substring(beginIndex, endIndex));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the ballerina string values of the string constants known at compile time.
+ * <p>
+ * The string constants of all the modules, e.g. the field names and the map keys used in the source, share a single
+ * value per string. Keys created at runtime, e.g. the field names of parsed JSON values, are looked up from the
+ * interned values, hence map lookups with such keys find the entries by identity instead of comparing the strings.
+ * Only compile-time constants are added, so that the number of interned values stays bounded.
+ *
+ * @since 2.0.0
+ */
+public class StringInterner {
+
+    private static final Map<String, BString> INTERNED_STRINGS = new ConcurrentHashMap<>();
+
+    private StringInterner() {
+    }
+
+    /**
+     * Returns the interned value of a string constant, interning it if it is not interned yet.
+     *
+     * @param value the string constant
+     * @return the interned ballerina string value
+     */
+    public static BString intern(String value) {
+        BString internedValue = INTERNED_STRINGS.get(value);
+        if (internedValue != null) {
+            return internedValue;
+        }
+        return INTERNED_STRINGS.computeIfAbsent(value, StringUtils::fromString);
+    }
+
+    /**
+     * Returns the interned value of a string if a string constant with the same characters is interned.
+     *
+     * @param value the string
+     * @return the interned ballerina string value, or null if the string is not interned
+     */
+    public static BString getInterned(String value) {
+        return INTERNED_STRINGS.get(value);
+    }
+}
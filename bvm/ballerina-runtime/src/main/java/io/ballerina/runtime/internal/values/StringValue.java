@@ -33,6 +33,8 @@ public abstract class StringValue implements BString, SimpleValue {
 
     final String value;
     final boolean isNonBmp;
+    // Cached, as strings are frequently used as map keys and the value is read through a virtual call.
+    private int hash;
 
     protected StringValue(String value, boolean isNonBmp) {
         this.value = value;
@@ -66,7 +68,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +83,17 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int h = this.hash;
+        if (h == 0) {
+            h = getValue().hashCode();
+            this.hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -95,7 +102,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString) {
-            return ((BString) str).getValue().equals(value);
+            return ((BString) str).getValue().equals(getValue());
         }
         return false;
     }
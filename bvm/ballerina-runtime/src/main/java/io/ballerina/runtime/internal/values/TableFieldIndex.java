@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Secondary index of a table on a field that is not (necessarily) part of the table key.
+ * <p>
+ * The index maps each value of the field to the rows having that value, in table order. Only fields of type
+ * {@code int}, {@code string} or {@code boolean} that cannot change once a row is in the table are indexed, since
+ * for those values Java equality matches Ballerina {@code ==}, and the index never has to track updates made to a
+ * row after it was added.
+ *
+ * @param <V> the type of rows
+ *
+ * @since 2.0.0
+ */
+final class TableFieldIndex<V> {
+
+    private final BString fieldName;
+    private final Map<Object, List<V>> rowsByValue = new HashMap<>();
+
+    TableFieldIndex(BString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    static boolean isIndexableFieldType(Type fieldType) {
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the index key of a value looked up against the index, or {@code null} if the value cannot be looked
+     * up in the index and the rows need to be scanned instead.
+     *
+     * @param value the value of the field
+     * @return the index key
+     */
+    static Object getIndexKey(Object value) {
+        if (value instanceof Long || value instanceof BString || value instanceof Boolean) {
+            return value;
+        }
+
+        if (value instanceof Integer) {
+            // byte values are compared with int values by their numeric value.
+            return ((Integer) value).longValue();
+        }
+        return null;
+    }
+
+    List<V> get(Object indexKey) {
+        List<V> rows = rowsByValue.get(indexKey);
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    void add(V row) {
+        rowsByValue.computeIfAbsent(getFieldValue(row), value -> new ArrayList<>(1)).add(row);
+    }
+
+    void remove(V row) {
+        Object value = getFieldValue(row);
+        List<V> rows = rowsByValue.get(value);
+        if (rows == null) {
+            return;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) == row) {
+                rows.remove(i);
+                break;
+            }
+        }
+        if (rows.isEmpty()) {
+            rowsByValue.remove(value);
+        }
+    }
+
+    /**
+     * Replaces a row with another row at the same table position.
+     *
+     * @param existing the row being replaced
+     * @param row      the new row
+     * @return false if the new row belongs to a different entry, in which case the index can no longer tell the
+     * table order of the rows and has to be rebuilt
+     */
+    boolean replace(V existing, V row) {
+        Object value = getFieldValue(row);
+        if (!Objects.equals(value, getFieldValue(existing))) {
+            return false;
+        }
+
+        List<V> rows = rowsByValue.get(value);
+        if (rows == null) {
+            return false;
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i) == existing) {
+                rows.set(i, row);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object getFieldValue(V row) {
+        return getIndexKey(((MapValue) row).get(fieldName));
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * Row storage of a table value.
+ * <p>
+ * Rows are kept in insertion order in dense parallel arrays, and keyed tables index them with a single open
+ * addressing hash index that maps a key to its row. Removing a row leaves a hole that is reclaimed when the row
+ * arrays next fill up, by compacting the remaining rows in place. Every row carries a sequence number, which is
+ * increasing in row order and survives compaction, so iterators can find their position again after the rows
+ * have moved.
+ * <p>
+ * Keys of tables with a single {@code int} key field are stored unboxed, and keys of tables with a single
+ * {@code string} key field are compared without going through the generic equality check.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ *
+ * @since 2.0.0
+ */
+final class TableRowStore<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int EMPTY_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
+    private final KeyKind keyKind;
+
+    private Object[] values;
+    private Object[] keys;
+    private long[] intKeys;
+    private int[] hashes;
+    private long[] sequences;
+    // Number of row positions in use, including holes left by removed rows.
+    private int rowCount;
+    private int liveCount;
+    private long nextSequence;
+    // Incremented whenever rows are moved or dropped, so that iterators know to find their position again.
+    private int layoutVersion;
+
+    // Each slot holds the row index + 1 of the row with the key, or EMPTY_SLOT, or DELETED_SLOT.
+    private int[] index;
+    private int usedSlots;
+
+    TableRowStore(KeyKind keyKind) {
+        this.keyKind = keyKind;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    static KeyKind getKeyKind(Type keyType, int keyFieldCount) {
+        if (keyFieldCount > 1 || keyType == null) {
+            return KeyKind.GENERIC;
+        }
+
+        switch (keyType.getTag()) {
+            case TypeTags.INT_TAG:
+                return KeyKind.INT;
+            case TypeTags.STRING_TAG:
+                return KeyKind.STRING;
+            default:
+                return KeyKind.GENERIC;
+        }
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    boolean isEmpty() {
+        return liveCount == 0;
+    }
+
+    /**
+     * Returns the exclusive upper bound of the row positions, including positions of removed rows.
+     *
+     * @return number of row positions in use
+     */
+    int rowLimit() {
+        return rowCount;
+    }
+
+    boolean isLive(int row) {
+        return values[row] != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int row) {
+        return (V) values[row];
+    }
+
+    @SuppressWarnings("unchecked")
+    K keyAt(int row) {
+        switch (keyKind) {
+            case NONE:
+                return null;
+            case INT:
+                return (K) Long.valueOf(intKeys[row]);
+            default:
+                return (K) keys[row];
+        }
+    }
+
+    long sequenceAt(int row) {
+        return sequences[row];
+    }
+
+    int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Returns the position of the first row added after the row with the given sequence number.
+     *
+     * @param sequence sequence number of a row, which may have been removed since
+     * @return position of the next row, or {@link #rowLimit()} if there is none
+     */
+    int getRowAfter(long sequence) {
+        int row = Arrays.binarySearch(sequences, 0, rowCount, sequence);
+        return row >= 0 ? row + 1 : -row - 1;
+    }
+
+    V get(Object key) {
+        int row = findRow(key);
+        return row < 0 ? null : valueAt(row);
+    }
+
+    boolean containsKey(Object key) {
+        return findRow(key) >= 0;
+    }
+
+    /**
+     * Adds a row for a key that is known not to be in the table.
+     *
+     * @param key   key of the row, which is ignored by tables without a key
+     * @param value the row
+     */
+    void add(K key, V value) {
+        if (rowCount == values.length) {
+            makeRoomForRow();
+        }
+
+        int row = rowCount++;
+        sequences[row] = nextSequence++;
+        if (keyKind != KeyKind.NONE) {
+            int hash = hash(key);
+            setKey(row, key);
+            hashes[row] = hash;
+            // The row is indexed before it becomes live, so that an index rebuild does not index it twice.
+            insertIntoIndex(hash, row);
+        }
+        values[row] = value;
+        liveCount++;
+    }
+
+    /**
+     * Replaces the row with the given key, keeping its position, or adds it if there is no such row.
+     *
+     * @param key   key of the row
+     * @param value the row
+     * @return the row that was replaced, or {@code null} if the row was added
+     */
+    V put(K key, V value) {
+        int row = findRow(key);
+        if (row < 0) {
+            add(key, value);
+            return null;
+        }
+
+        V existing = valueAt(row);
+        values[row] = value;
+        return existing;
+    }
+
+    V remove(Object key) {
+        if (keyKind == KeyKind.NONE) {
+            return null;
+        }
+
+        int hash = hash(key);
+        int mask = index.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return null;
+            }
+
+            if (entry != DELETED_SLOT && hashes[entry - 1] == hash && keyEquals(entry - 1, key)) {
+                int row = entry - 1;
+                V removed = valueAt(row);
+                index[slot] = DELETED_SLOT;
+                values[row] = null;
+                if (keys != null) {
+                    keys[row] = null;
+                }
+                liveCount--;
+                return removed;
+            }
+        }
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+        rowCount = 0;
+        liveCount = 0;
+        layoutVersion++;
+    }
+
+    private int findRow(Object key) {
+        if (keyKind == KeyKind.NONE || liveCount == 0) {
+            return -1;
+        }
+
+        int hash = hash(key);
+        int mask = index.length - 1;
+        for (int slot = slotOf(hash); ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == EMPTY_SLOT) {
+                return -1;
+            }
+
+            if (entry != DELETED_SLOT && hashes[entry - 1] == hash && keyEquals(entry - 1, key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private boolean keyEquals(int row, Object key) {
+        switch (keyKind) {
+            case INT:
+                return key instanceof Long && intKeys[row] == (Long) key;
+            case STRING:
+                return keys[row].equals(key);
+            default:
+                return TypeChecker.isEqual(keys[row], key);
+        }
+    }
+
+    private int hash(Object key) {
+        switch (keyKind) {
+            case INT:
+                return key instanceof Long ? Long.hashCode((Long) key) : 0;
+            case STRING:
+                return key instanceof BString ? key.hashCode() : 0;
+            default:
+                return Long.hashCode(TableUtils.hash(key, null));
+        }
+    }
+
+    private void setKey(int row, K key) {
+        if (keyKind == KeyKind.INT) {
+            intKeys[row] = (Long) key;
+        } else {
+            keys[row] = key;
+        }
+    }
+
+    private int slotOf(int hash) {
+        // Fibonacci hashing spreads sequential keys, such as auto-incremented integer ids, across the index.
+        return (hash * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(index.length) + 1);
+    }
+
+    private void insertIntoIndex(int hash, int row) {
+        // Keep the index at most two thirds full, counting slots of removed keys, so that probe sequences stay
+        // short.
+        if ((usedSlots + 1) * 3 > index.length * 2) {
+            rebuildIndex(liveCount + 1);
+        }
+
+        int mask = index.length - 1;
+        int slot = slotOf(hash);
+        while (index[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (index[slot] == EMPTY_SLOT) {
+            usedSlots++;
+        }
+        index[slot] = row + 1;
+    }
+
+    private void rebuildIndex(int expectedKeys) {
+        int capacity = INITIAL_CAPACITY * 2;
+        while (capacity * 2 < expectedKeys * 3 + 3) {
+            capacity <<= 1;
+        }
+
+        index = new int[capacity];
+        usedSlots = 0;
+        int mask = capacity - 1;
+        for (int row = 0; row < rowCount; row++) {
+            if (values[row] == null) {
+                continue;
+            }
+
+            int slot = slotOf(hashes[row]);
+            while (index[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = row + 1;
+            usedSlots++;
+        }
+    }
+
+    private void makeRoomForRow() {
+        // Reclaim the holes left by removed rows if they make up at least half of the row positions, and grow the
+        // row arrays otherwise.
+        if ((rowCount - liveCount) * 2 >= rowCount) {
+            compact();
+            return;
+        }
+
+        int capacity = values.length + (values.length >> 1);
+        values = Arrays.copyOf(values, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        if (keyKind == KeyKind.NONE) {
+            return;
+        }
+
+        hashes = Arrays.copyOf(hashes, capacity);
+        if (keyKind == KeyKind.INT) {
+            intKeys = Arrays.copyOf(intKeys, capacity);
+        } else {
+            keys = Arrays.copyOf(keys, capacity);
+        }
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (values[row] == null) {
+                continue;
+            }
+
+            if (row != target) {
+                values[target] = values[row];
+                sequences[target] = sequences[row];
+                if (keyKind != KeyKind.NONE) {
+                    hashes[target] = hashes[row];
+                    if (keyKind == KeyKind.INT) {
+                        intKeys[target] = intKeys[row];
+                    } else {
+                        keys[target] = keys[row];
+                    }
+                }
+            }
+            target++;
+        }
+
+        Arrays.fill(values, target, rowCount, null);
+        if (keys != null) {
+            Arrays.fill(keys, target, rowCount, null);
+        }
+        rowCount = target;
+        layoutVersion++;
+        if (keyKind != KeyKind.NONE) {
+            rebuildIndex(liveCount);
+        }
+    }
+
+    private void allocate(int capacity) {
+        values = new Object[capacity];
+        sequences = new long[capacity];
+        if (keyKind == KeyKind.NONE) {
+            return;
+        }
+
+        hashes = new int[capacity];
+        if (keyKind == KeyKind.INT) {
+            intKeys = new long[capacity];
+        } else {
+            keys = new Object[capacity];
+        }
+        index = new int[INITIAL_CAPACITY * 2];
+        usedSlots = 0;
+    }
+
+    /**
+     * Kinds of table keys that the store handles differently.
+     */
+    enum KeyKind {
+        NONE,
+        INT,
+        STRING,
+        GENERIC
+    }
+}
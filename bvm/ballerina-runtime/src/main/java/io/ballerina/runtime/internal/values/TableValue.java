@@ -17,9 +17,13 @@
 
 package io.ballerina.runtime.internal.values;
 
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 
+import java.util.List;
+
 /**
  * <p>
  * Interface to be implemented by Table implementation.
@@ -43,4 +47,8 @@ public interface TableValue<K, V> extends RefValue, CollectionValue, BTable<K, V
     long getNextKey();
 
     Type getKeyType();
+
+    List<V> getRowsByField(BString fieldName, Object fieldValue);
+
+    ArrayType getRowArrayType();
 }
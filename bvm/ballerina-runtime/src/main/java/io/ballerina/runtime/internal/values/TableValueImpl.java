@@ -20,6 +20,8 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -33,8 +35,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BIntersectionType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -51,14 +53,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
@@ -82,19 +81,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
+    // Secondary indexes by field name, created when a field is first looked up. Lookups do not otherwise modify the
+    // table, so they can run concurrently on tables shared between strands, such as immutable tables. Hence indexes
+    // are created and published through a concurrent map.
+    private volatile Map<String, TableFieldIndex<V>> fieldIndexes;
+    // Type of the arrays of rows returned by the lookups on a field, created once per constraint type of the table.
+    private volatile ArrayType rowArrayType;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
@@ -103,17 +100,15 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (type.getFieldNames() != null) {
-            this.valueHolder = new KeyHashValueHolder();
+            KeyHashValueHolder keyHashValueHolder = new KeyHashValueHolder();
+            this.valueHolder = keyHashValueHolder;
+            this.rows = new TableRowStore<>(TableRowStore.getKeyKind(keyHashValueHolder.getKeyType(),
+                                                                     fieldNames.length));
         } else {
             this.valueHolder = new ValueHolder();
+            this.rows = new TableRowStore<>(TableRowStore.KeyKind.NONE);
         }
         this.typedesc = getTypedescValue(type, this);
     }
@@ -158,10 +153,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             clone.fieldNames = fieldNames;
         }
 
-        IteratorValue itr = getIterator();
-        while (itr.hasNext()) {
-            TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
-            Object value = tupleValue.get(1);
+        for (int row = 0; row < rows.rowLimit(); row++) {
+            if (!rows.isLive(row)) {
+                continue;
+            }
+            Object value = rows.valueAt(row);
             value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
             clone.add((V) value);
         }
@@ -233,18 +229,23 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int row = 0; row < rows.rowLimit(); row++) {
+            if (rows.isLive(row)) {
+                V value = rows.valueAt(row);
+                K key = fieldNames == null ? (K) value : rows.keyAt(row);
+                entrySet.add(new AbstractMap.SimpleEntry<>(key, value));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.rowLimit(); row++) {
+            if (rows.isLive(row)) {
+                newValues.add(rows.valueAt(row));
+            }
         }
         return newValues;
     }
@@ -252,12 +253,148 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
+        fieldIndexes = null;
+    }
+
+    /**
+     * Returns the rows of the table whose value for the given field is equal to the given value, in table order.
+     * <p>
+     * Lookups on an {@code int}, {@code string} or {@code boolean} field that is read-only, either because the
+     * field is declared {@code readonly} or because the rows are immutable, go through a secondary index on the
+     * field, which is created on the first such lookup and maintained as rows are added and removed. Lookups on
+     * any other field scan the rows.
+     *
+     * @param fieldName  name of the field
+     * @param fieldValue value of the field
+     * @return the matching rows
+     */
+    @Override
+    public List<V> getRowsByField(BString fieldName, Object fieldValue) {
+        Object indexKey = TableFieldIndex.getIndexKey(fieldValue);
+        if (indexKey != null) {
+            TableFieldIndex<V> index = getFieldIndex(fieldName);
+            if (index != null) {
+                return new ArrayList<>(index.get(indexKey));
+            }
+        }
+
+        List<V> matchingRows = new ArrayList<>();
+        for (int row = 0; row < rows.rowLimit(); row++) {
+            if (rows.isLive(row)) {
+                V value = rows.valueAt(row);
+                if (TypeChecker.isEqual(((MapValue) value).get(fieldName), fieldValue)) {
+                    matchingRows.add(value);
+                }
+            }
+        }
+        return matchingRows;
+    }
+
+    /**
+     * Returns the type of the arrays of rows of the table, such as the rows returned by a lookup on a field.
+     *
+     * @return the array type of the constraint type of the table
+     */
+    @Override
+    public ArrayType getRowArrayType() {
+        ArrayType arrayType = rowArrayType;
+        if (arrayType == null) {
+            arrayType = new BArrayType(type.getConstrainedType());
+            rowArrayType = arrayType;
+        }
+        return arrayType;
+    }
+
+    private TableFieldIndex<V> getFieldIndex(BString fieldName) {
+        String name = fieldName.getValue();
+        Map<String, TableFieldIndex<V>> indexes = fieldIndexes;
+        if (indexes != null) {
+            TableFieldIndex<V> index = indexes.get(name);
+            if (index != null) {
+                return index;
+            }
+        }
+
+        if (!isIndexableField(name)) {
+            return null;
+        }
+
+        if (indexes == null) {
+            indexes = createFieldIndexes();
+        }
+        // The index is fully built before other lookups can see it.
+        return indexes.computeIfAbsent(name, key -> {
+            TableFieldIndex<V> index = new TableFieldIndex<>(fieldName);
+            for (int row = 0; row < rows.rowLimit(); row++) {
+                if (rows.isLive(row)) {
+                    index.add(rows.valueAt(row));
+                }
+            }
+            return index;
+        });
+    }
+
+    private synchronized Map<String, TableFieldIndex<V>> createFieldIndexes() {
+        Map<String, TableFieldIndex<V>> indexes = fieldIndexes;
+        if (indexes == null) {
+            indexes = new ConcurrentHashMap<>();
+            fieldIndexes = indexes;
+        }
+        return indexes;
+    }
+
+    private boolean isIndexableField(String fieldName) {
+        Type constraintType = type.getConstrainedType();
+        if (constraintType.getTag() == TypeTags.INTERSECTION_TAG) {
+            constraintType = ((BIntersectionType) constraintType).getEffectiveType();
+        }
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+
+        Field field = ((BRecordType) constraintType).getFields().get(fieldName);
+        if (field == null || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL) ||
+                !TableFieldIndex.isIndexableFieldType(field.getFieldType())) {
+            return false;
+        }
+        return type.isReadOnly() || constraintType.isReadOnly() ||
+                SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY);
+    }
+
+    private void addToFieldIndexes(V data) {
+        Map<String, TableFieldIndex<V>> indexes = fieldIndexes;
+        if (indexes == null) {
+            return;
+        }
+
+        for (TableFieldIndex<V> index : indexes.values()) {
+            index.add(data);
+        }
+    }
+
+    private void replaceInFieldIndexes(V existing, V data) {
+        Map<String, TableFieldIndex<V>> indexes = fieldIndexes;
+        if (indexes == null) {
+            return;
+        }
+
+        if (existing == null) {
+            addToFieldIndexes(data);
+            return;
+        }
+        indexes.values().removeIf(index -> !index.replace(existing, data));
+    }
+
+    private void removeFromFieldIndexes(V data) {
+        Map<String, TableFieldIndex<V>> indexes = fieldIndexes;
+        if (indexes == null || data == null) {
+            return;
+        }
+
+        for (TableFieldIndex<V> index : indexes.values()) {
+            index.remove(data);
+        }
     }
 
     @Override
@@ -286,7 +423,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.isEmpty() ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -314,17 +451,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (fieldNames == null) {
+            return (K[]) new Object[]{};
+        }
+
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int row = 0; row < rows.rowLimit(); row++) {
+            if (rows.isLive(row)) {
+                keys[i++] = rows.keyAt(row);
+            }
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.isEmpty();
     }
 
     @Override
@@ -344,14 +492,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         this.type = (BTableType) ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
+        this.rowArrayType = null;
         //we know that values are always RefValues
         this.values().forEach(val -> ((RefValue) val).freezeDirect());
         this.typedesc = createSingletonTypedesc(this);
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(parent);
     }
 
     @Override
@@ -361,28 +509,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(StringUtils.getStringValue(data, new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -391,17 +529,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 keyJoiner.add(keysList[i]);
             }
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+        for (V data : values()) {
+            sj.add(StringUtils.getExpressionStringValue(data, new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -446,37 +575,49 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+        private int cursor;
+        private long lastSequence = -1;
+        private int layoutVersion;
 
         TableIterator() {
             this.cursor = 0;
+            this.layoutVersion = rows.getLayoutVersion();
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!hasNext()) {
+                return null;
             }
+
+            V value = (V) rows.valueAt(cursor);
+            K key = fieldNames == null ? (K) value : (K) rows.keyAt(cursor);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            lastSequence = rows.sequenceAt(cursor);
+            cursor++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            if (layoutVersion != rows.getLayoutVersion()) {
+                // Rows have moved since the last call, continue from the row that follows the last one returned.
+                layoutVersion = rows.getLayoutVersion();
+                cursor = rows.getRowAfter(lastSequence);
+            }
+
+            while (cursor < rows.rowLimit() && !rows.isLive(cursor)) {
+                cursor++;
+            }
+            return cursor < rows.rowLimit();
         }
     }
 
@@ -498,18 +639,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            rows.add(null, data);
+            addToFieldIndexes(data);
             return data;
         }
 
@@ -551,129 +682,45 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            rows.add(key, data);
+            addToFieldIndexes(data);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            if (entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        return entry.getValue();
-                    }
-                }
-            }
-            return entryList.get(0).getValue();
+            return rows.get(key);
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
-        }
-
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+            replaceInFieldIndexes(rows.put(key, data), data);
+            return data;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+            replaceInFieldIndexes(rows.put(key, data), data);
+            return data;
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
-                return null;
-            }
-            return removedValue.get(0);
+            V removed = rows.remove(key);
+            removeFromFieldIndexes(removed);
+            return removed;
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return rows.containsKey(key);
         }
 
         public Type getKeyType() {
@@ -724,15 +771,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
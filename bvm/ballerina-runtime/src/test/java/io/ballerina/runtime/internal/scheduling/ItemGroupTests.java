@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for {@link ItemGroup}.
+ *
+ * @since 2.0.0
+ */
+public class ItemGroupTests {
+
+    @Test
+    public void testLifoOrder() {
+        ItemGroup group = new ItemGroup(false);
+        SchedulerItem first = createItem();
+        SchedulerItem second = createItem();
+        SchedulerItem third = createItem();
+
+        group.add(first);
+        group.add(second);
+        group.add(third);
+        Assert.assertSame(group.get(), third);
+        Assert.assertSame(group.get(), second);
+        Assert.assertSame(group.get(), first);
+    }
+
+    @Test
+    public void testFifoOrder() {
+        ItemGroup group = new ItemGroup(true);
+        SchedulerItem first = createItem();
+        SchedulerItem second = createItem();
+        SchedulerItem third = createItem();
+
+        group.add(first);
+        group.add(second);
+        group.add(third);
+        Assert.assertSame(group.get(), first);
+        Assert.assertSame(group.get(), second);
+        Assert.assertSame(group.get(), third);
+    }
+
+    @Test(dataProvider = "groupOrders")
+    public void testEmptyGroupIsUnscheduled(boolean fifo) {
+        SchedulerItem item = createItem();
+        ItemGroup group = new ItemGroup(item, fifo);
+        group.scheduled.set(true);
+
+        Assert.assertSame(group.get(), item);
+        Assert.assertNull(group.get());
+        // The next producer has to schedule the group again
+        Assert.assertFalse(group.scheduled.get());
+        group.add(item);
+        Assert.assertTrue(group.scheduled.compareAndSet(false, true));
+        Assert.assertSame(group.get(), item);
+    }
+
+    @Test(dataProvider = "groupOrders")
+    public void testConcurrentProducersWithOwner(boolean fifo) throws Exception {
+        int numProducers = 4;
+        int itemsPerProducer = 20000;
+        ItemGroup group = new ItemGroup(fifo);
+        BlockingQueue<ItemGroup> runnableList = new LinkedBlockingQueue<>();
+        Set<SchedulerItem> executed = ConcurrentHashMap.newKeySet();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+
+        // Takes the group whenever it is made runnable and runs its items, as a strand worker thread does
+        Thread owner = new Thread(() -> {
+            try {
+                while (executed.size() < numProducers * itemsPerProducer) {
+                    ItemGroup runnable = runnableList.poll(10, TimeUnit.SECONDS);
+                    Assert.assertNotNull(runnable, "group with pending items was not scheduled");
+                    SchedulerItem item;
+                    while ((item = runnable.get()) != null) {
+                        Assert.assertTrue(executed.add(item));
+                    }
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+        owner.start();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < numProducers; i++) {
+            Thread producer = new Thread(() -> {
+                for (int j = 0; j < itemsPerProducer; j++) {
+                    group.add(createItem());
+                    // Same hand-off as Scheduler#addToRunnableList
+                    if (group.scheduled.compareAndSet(false, true)) {
+                        runnableList.add(group);
+                    }
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        owner.join();
+
+        Assert.assertTrue(failures.isEmpty(), failures.toString());
+        Assert.assertEquals(executed.size(), numProducers * itemsPerProducer);
+        // The group is never handed to more than one owner at a time
+        Assert.assertTrue(runnableList.isEmpty());
+        Assert.assertNull(group.get());
+        Assert.assertFalse(group.scheduled.get());
+    }
+
+    @DataProvider
+    public Object[][] groupOrders() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    private static SchedulerItem createItem() {
+        return new SchedulerItem(params -> null, new Object[1], null);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.runtime.internal.scheduling.WorkStealingRunQueue.INJECTION_QUEUE_CHECK_INTERVAL;
+
+/**
+ * Test cases for {@link WorkStealingRunQueue}.
+ *
+ * @since 2.0.0
+ */
+public class WorkStealingRunQueueTests {
+
+    @Test
+    public void testOwnerTakesNewestGroup() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup first = new ItemGroup(false);
+        ItemGroup second = new ItemGroup(false);
+        ItemGroup third = new ItemGroup(false);
+
+        runAsWorker(queue, 0, () -> {
+            queue.add(first);
+            queue.add(second);
+            queue.add(third);
+            Assert.assertSame(queue.take(), third);
+            Assert.assertSame(queue.take(), second);
+            Assert.assertSame(queue.take(), first);
+        });
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testThiefTakesOldestGroup() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup first = new ItemGroup(false);
+        ItemGroup second = new ItemGroup(false);
+        ItemGroup third = new ItemGroup(false);
+
+        runAsWorker(queue, 0, () -> {
+            queue.add(first);
+            queue.add(second);
+            queue.add(third);
+        });
+        // Worker 1 has no local work, so it steals from the head of the deque of worker 0
+        runAsWorker(queue, 1, () -> {
+            Assert.assertSame(queue.take(), first);
+            Assert.assertSame(queue.take(), second);
+        });
+        runAsWorker(queue, 0, () -> Assert.assertSame(queue.take(), third));
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testGroupsFromNonWorkerThreadsAreShared() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(2);
+        ItemGroup external = new ItemGroup(false);
+        ItemGroup local = new ItemGroup(false);
+
+        queue.add(external);
+        runAsWorker(queue, 0, () -> {
+            queue.add(local);
+            // Local work goes first, the injection queue is checked when the worker's own deque is empty
+            Assert.assertSame(queue.take(), local);
+        });
+        runAsWorker(queue, 1, () -> Assert.assertSame(queue.take(), external));
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testInjectionQueueCheckInterval() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(1);
+        ItemGroup external = new ItemGroup(false);
+        ItemGroup local = new ItemGroup(false);
+
+        queue.add(external);
+        runAsWorker(queue, 0, () -> {
+            // A worker that keeps rescheduling the same group still picks the external group periodically
+            for (int i = 1; i < INJECTION_QUEUE_CHECK_INTERVAL; i++) {
+                queue.add(local);
+                Assert.assertSame(queue.take(), local, "take " + i);
+            }
+            queue.add(local);
+            Assert.assertSame(queue.take(), external);
+            Assert.assertSame(queue.take(), local);
+        });
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentWorkersTakeEachGroupOnce() throws Exception {
+        int numWorkers = 4;
+        int groupsPerWorker = 10000;
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(numWorkers);
+        Set<ItemGroup> taken = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < numWorkers; i++) {
+            int workerId = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    queue.registerWorker(workerId);
+                    start.await();
+                    // Only worker 0 produces groups, the others have to steal them
+                    if (workerId == 0) {
+                        for (int j = 0; j < groupsPerWorker * numWorkers; j++) {
+                            queue.add(new ItemGroup(false));
+                        }
+                        for (int j = 0; j < numWorkers; j++) {
+                            queue.add(ItemGroup.POISON_PILL);
+                        }
+                    }
+                    ItemGroup group;
+                    while ((group = queue.take()) != ItemGroup.POISON_PILL) {
+                        Assert.assertTrue(taken.add(group));
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertTrue(failures.isEmpty(), failures.toString());
+        // Poison pills go through the injection queue, so workers can stop before all the local groups are taken
+        runAsWorker(queue, 0, () -> {
+            while (!queue.isEmpty()) {
+                Assert.assertTrue(taken.add(queue.take()));
+            }
+        });
+        Assert.assertEquals(taken.size(), groupsPerWorker * numWorkers);
+    }
+
+    private static void runAsWorker(WorkStealingRunQueue queue, int workerId, QueueTask task) throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                queue.registerWorker(workerId);
+                task.run();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    private interface QueueTask {
+        void run() throws Exception;
+    }
+}
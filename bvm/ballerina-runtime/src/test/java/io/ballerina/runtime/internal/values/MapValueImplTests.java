@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test cases for the typedesc and the native data of {@link MapValueImpl}.
+ *
+ * @since 2.0.0
+ */
+public class MapValueImplTests {
+
+    private static final BString KEY = StringUtils.fromString("a");
+
+    @Test
+    public void testTypedescOfMutableValueIsCreatedOnFirstUse() throws ReflectiveOperationException {
+        Type mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType);
+        Assert.assertNull(getTypedescField(map));
+
+        BTypedesc typedesc = map.getTypedesc();
+        Assert.assertSame(typedesc.getDescribingType(), mapType);
+        Assert.assertSame(map.getTypedesc(), typedesc);
+    }
+
+    @Test
+    public void testTypedescOfValueCreatedFromTypedesc() {
+        Type mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        TypedescValueImpl typedesc = new TypedescValueImpl(mapType);
+        Assert.assertSame(new MapValueImpl<>(typedesc).getTypedesc(), typedesc);
+    }
+
+    @Test
+    public void testTypedescOfReadOnlyValueIsCreatedEagerly() throws ReflectiveOperationException {
+        Type mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT, true);
+        MapValueImpl<BString, Object> emptyMap = new MapValueImpl<>(mapType, new BMapInitialValueEntry[0]);
+        Assert.assertNotNull(getTypedescField(emptyMap));
+
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType, new BMapInitialValueEntry[]{
+                new MappingInitialValueEntry.KeyValueEntry(KEY, 1L)});
+        BTypedesc typedesc = (BTypedesc) getTypedescField(map);
+        Assert.assertNotNull(typedesc);
+        // The typedesc of a read-only value describes the singleton type of the value
+        Assert.assertEquals(typedesc.getDescribingType().getTag(), TypeTags.FINITE_TYPE_TAG);
+        Assert.assertSame(map.getTypedesc(), typedesc);
+    }
+
+    @Test
+    public void testTypedescOfReadOnlyValueFromOtherThreads() throws Exception {
+        Type mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_INT, true);
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(mapType, new BMapInitialValueEntry[]{
+                new MappingInitialValueEntry.KeyValueEntry(KEY, 1L)});
+        BTypedesc typedesc = map.getTypedesc();
+
+        int threadCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] results = new Future<?>[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                results[i] = executor.submit(() -> {
+                    start.await();
+                    return map.getTypedesc();
+                });
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                Assert.assertSame(result.get(), typedesc);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNativeDataIsCreatedOnFirstUse() {
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        Assert.assertNull(map.getNativeData("key"));
+
+        Object data = new Object();
+        map.addNativeData("key", data);
+        Assert.assertSame(map.getNativeData("key"), data);
+        Assert.assertSame(map.getNativeDataMap().get("key"), data);
+    }
+
+    private static Object getTypedescField(MapValueImpl<?, ?> map) throws ReflectiveOperationException {
+        Field typedescField = MapValueImpl.class.getDeclaredField("typedesc");
+        typedescField.setAccessible(true);
+        return typedescField.get(map);
+    }
+}
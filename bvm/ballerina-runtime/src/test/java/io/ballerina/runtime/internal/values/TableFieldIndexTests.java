@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test cases for the secondary field indexes of {@link TableValueImpl}.
+ *
+ * @since 2.0.0
+ */
+public class TableFieldIndexTests {
+
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DEPT = StringUtils.fromString("dept");
+    private static final int NUM_DEPTS = 4;
+
+    private static final RecordType EMPLOYEE_TYPE = createEmployeeType();
+
+    @Test
+    public void testRowsByReadOnlyField() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> employees = createEmployees(100);
+
+        List<MapValueImpl<BString, Object>> rows = employees.getRowsByField(DEPT, StringUtils.fromString("dept1"));
+        Assert.assertEquals(rows.size(), 25);
+        // Rows are returned in table order
+        for (int i = 0; i < rows.size(); i++) {
+            Assert.assertEquals(rows.get(i).get(ID), (long) (i * NUM_DEPTS + 1));
+        }
+
+        // The index is kept up to date as rows are added and removed
+        employees.add(createEmployee(100));
+        employees.add(createEmployee(101));
+        Assert.assertEquals(employees.getRowsByField(DEPT, StringUtils.fromString("dept1")).size(), 26);
+        Assert.assertTrue(employees.getRowsByField(DEPT, StringUtils.fromString("dept4")).isEmpty());
+    }
+
+    @Test
+    public void testRowArrayTypeIsSharedByLookups() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> employees = createEmployees(8);
+
+        BArray rows = TableUtils.getRowsByField(employees, DEPT, StringUtils.fromString("dept1"));
+        BArray otherRows = TableUtils.getRowsByField(employees, DEPT, StringUtils.fromString("dept2"));
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertSame(((ArrayType) rows.getType()).getElementType(), EMPLOYEE_TYPE);
+        Assert.assertSame(otherRows.getType(), rows.getType());
+    }
+
+    @Test
+    public void testConcurrentLookupsCreatingIndex() throws Exception {
+        int numThreads = 8;
+        for (int run = 0; run < 50; run++) {
+            // A fresh table for each run, so that the lookups race to create its index
+            TableValueImpl<Object, MapValueImpl<BString, Object>> employees = createEmployees(1000);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                BString dept = StringUtils.fromString("dept" + (i % NUM_DEPTS));
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        Assert.assertEquals(employees.getRowsByField(DEPT, dept).size(), 1000 / NUM_DEPTS);
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assert.assertTrue(failures.isEmpty(), failures.toString());
+        }
+    }
+
+    private static TableValueImpl<Object, MapValueImpl<BString, Object>> createEmployees(int count) {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> employees =
+                new TableValueImpl<>(TypeCreator.createTableType(EMPLOYEE_TYPE, false));
+        for (int i = 0; i < count; i++) {
+            employees.add(createEmployee(i));
+        }
+        return employees;
+    }
+
+    private static MapValueImpl<BString, Object> createEmployee(long id) {
+        MapValueImpl<BString, Object> employee = new MapValueImpl<>(EMPLOYEE_TYPE);
+        employee.put(ID, id);
+        employee.put(DEPT, StringUtils.fromString("dept" + (id % NUM_DEPTS)));
+        return employee;
+    }
+
+    private static RecordType createEmployeeType() {
+        long fieldFlags = SymbolFlags.REQUIRED | SymbolFlags.READONLY;
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", fieldFlags));
+        fields.put("dept", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "dept", fieldFlags));
+        return TypeCreator.createRecordType("Employee", null, 0, fields, null, true, 0);
+    }
+}
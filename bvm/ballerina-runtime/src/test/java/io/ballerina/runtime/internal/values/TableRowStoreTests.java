@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BTupleType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableRowStore}.
+ *
+ * @since 2.0.0
+ */
+public class TableRowStoreTests {
+
+    private static final BTupleType COMPOSITE_KEY_TYPE =
+            new BTupleType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+
+    @Test
+    public void testIntKeys() {
+        TableRowStore<Long, String> store = new TableRowStore<>(TableRowStore.KeyKind.INT);
+        // Both keys have the same hash code
+        long collidingKey = 1L << 32;
+        Assert.assertEquals(Long.hashCode(collidingKey), Long.hashCode(1L));
+
+        store.add(1L, "one");
+        store.add(collidingKey, "colliding");
+        for (long key = 2; key < 100; key++) {
+            store.add(key, "row" + key);
+        }
+
+        Assert.assertEquals(store.size(), 100);
+        Assert.assertEquals(store.get(1L), "one");
+        Assert.assertEquals(store.get(collidingKey), "colliding");
+        Assert.assertEquals(store.get(50L), "row50");
+        Assert.assertNull(store.get(100L));
+        // Keys of other types never match
+        Assert.assertFalse(store.containsKey(1));
+
+        Assert.assertEquals(store.remove(1L), "one");
+        Assert.assertNull(store.get(1L));
+        Assert.assertEquals(store.get(collidingKey), "colliding");
+        Assert.assertNull(store.remove(1L));
+
+        Assert.assertEquals(store.put(collidingKey, "replaced"), "colliding");
+        Assert.assertEquals(store.get(collidingKey), "replaced");
+        Assert.assertEquals(store.size(), 99);
+    }
+
+    @Test
+    public void testStringKeys() {
+        TableRowStore<BString, String> store = new TableRowStore<>(TableRowStore.KeyKind.STRING);
+        BString aa = StringUtils.fromString("Aa");
+        BString bb = StringUtils.fromString("BB");
+        Assert.assertEquals(aa.hashCode(), bb.hashCode());
+
+        store.add(aa, "Aa");
+        store.add(bb, "BB");
+        Assert.assertEquals(store.get(StringUtils.fromString("Aa")), "Aa");
+        Assert.assertEquals(store.get(StringUtils.fromString("BB")), "BB");
+
+        Assert.assertEquals(store.remove(StringUtils.fromString("Aa")), "Aa");
+        Assert.assertNull(store.get(aa));
+        Assert.assertEquals(store.get(bb), "BB");
+    }
+
+    @Test
+    public void testRopeStringKeys() {
+        String prefix = "k".repeat(RopeStringValue.MIN_LENGTH);
+        BString ropeKey = StringUtils.fromString(prefix).concat(StringUtils.fromString("1"));
+        Assert.assertTrue(ropeKey instanceof RopeStringValue);
+
+        TableRowStore<BString, String> store = new TableRowStore<>(TableRowStore.KeyKind.STRING);
+        store.add(ropeKey, "rope");
+        // A rope key is found by an equal flat string and vice versa
+        Assert.assertEquals(store.get(StringUtils.fromString(prefix + "1")), "rope");
+
+        BString flatKey = StringUtils.fromString(prefix + "2");
+        store.add(flatKey, "flat");
+        BString otherRopeKey = StringUtils.fromString(prefix).concat(StringUtils.fromString("2"));
+        Assert.assertEquals(store.get(otherRopeKey), "flat");
+
+        Assert.assertEquals(store.remove(StringUtils.fromString(prefix + "1")), "rope");
+        Assert.assertFalse(store.containsKey(ropeKey));
+        store.add(ropeKey, "rope again");
+        Assert.assertEquals(store.get(StringUtils.fromString(prefix + "1")), "rope again");
+    }
+
+    @Test
+    public void testCompositeKeys() {
+        TableRowStore<TupleValueImpl, String> store = new TableRowStore<>(TableRowStore.KeyKind.GENERIC);
+        // Both keys have the same hash, as the hash codes of "Aa" and "BB" are the same
+        TupleValueImpl first = compositeKey(1, "Aa");
+        TupleValueImpl second = compositeKey(1, "BB");
+
+        store.add(first, "first");
+        store.add(second, "second");
+        store.add(compositeKey(2, "Aa"), "third");
+        Assert.assertEquals(store.get(compositeKey(1, "Aa")), "first");
+        Assert.assertEquals(store.get(compositeKey(1, "BB")), "second");
+        Assert.assertEquals(store.get(compositeKey(2, "Aa")), "third");
+        Assert.assertNull(store.get(compositeKey(2, "BB")));
+
+        Assert.assertEquals(store.remove(compositeKey(1, "Aa")), "first");
+        Assert.assertNull(store.get(first));
+        Assert.assertEquals(store.get(second), "second");
+        store.add(compositeKey(1, "Aa"), "first again");
+        Assert.assertEquals(store.get(first), "first again");
+    }
+
+    @Test
+    public void testReAddingRemovedKeys() {
+        TableRowStore<Long, String> store = new TableRowStore<>(TableRowStore.KeyKind.INT);
+        store.add(0L, "kept");
+        // Removed keys leave deleted slots in the index, which must not fill it up
+        for (long key = 1; key <= 10000; key++) {
+            store.add(key, "row" + key);
+            Assert.assertEquals(store.remove(key), "row" + key);
+            store.add(key, "again" + key);
+            Assert.assertEquals(store.remove(key), "again" + key);
+        }
+        store.add(5L, "five");
+
+        Assert.assertEquals(store.size(), 2);
+        Assert.assertEquals(store.get(0L), "kept");
+        Assert.assertEquals(store.get(5L), "five");
+        Assert.assertNull(store.get(6L));
+        Assert.assertEquals(liveValues(store), List.of("kept", "five"));
+    }
+
+    @Test
+    public void testCompaction() {
+        TableRowStore<Long, String> store = new TableRowStore<>(TableRowStore.KeyKind.INT);
+        for (long key = 0; key < 8; key++) {
+            store.add(key, "row" + key);
+        }
+        for (long key = 0; key < 8; key += 2) {
+            store.remove(key);
+        }
+        Assert.assertEquals(store.rowLimit(), 8);
+        int layoutVersion = store.getLayoutVersion();
+
+        // The row arrays are full and half of the rows are removed, so the holes are reclaimed instead of growing
+        store.add(8L, "row8");
+        Assert.assertNotEquals(store.getLayoutVersion(), layoutVersion);
+        Assert.assertEquals(store.rowLimit(), 5);
+        Assert.assertEquals(liveValues(store), List.of("row1", "row3", "row5", "row7", "row8"));
+        for (long key = 1; key <= 7; key += 2) {
+            Assert.assertEquals(store.get(key), "row" + key);
+            Assert.assertEquals((long) store.keyAt((int) key / 2), key);
+        }
+        Assert.assertEquals(store.get(8L), "row8");
+        Assert.assertNull(store.get(0L));
+
+        // Sequence numbers stay in row order after compaction
+        for (int row = 1; row < store.rowLimit(); row++) {
+            Assert.assertTrue(store.sequenceAt(row - 1) < store.sequenceAt(row));
+        }
+    }
+
+    @Test
+    public void testIteratorResyncAfterRemove() {
+        TableRowStore<Long, String> store = new TableRowStore<>(TableRowStore.KeyKind.INT);
+        for (long key = 0; key < 8; key++) {
+            store.add(key, "row" + key);
+        }
+
+        // Iterate up to row3, the way the table iterator does
+        int cursor = 3;
+        long lastSequence = store.sequenceAt(cursor);
+        int layoutVersion = store.getLayoutVersion();
+
+        // Remove the last returned row and the ones before it, then trigger a compaction
+        for (long key = 0; key < 4; key++) {
+            store.remove(key);
+        }
+        store.add(8L, "row8");
+        Assert.assertNotEquals(store.getLayoutVersion(), layoutVersion);
+
+        List<String> remaining = new ArrayList<>();
+        for (int row = store.getRowAfter(lastSequence); row < store.rowLimit(); row++) {
+            if (store.isLive(row)) {
+                remaining.add(store.valueAt(row));
+            }
+        }
+        Assert.assertEquals(remaining, List.of("row4", "row5", "row6", "row7", "row8"));
+
+        // The position after a row that is still live is the next row
+        long sequenceOfRow5 = store.sequenceAt(1);
+        Assert.assertEquals(store.valueAt(store.getRowAfter(sequenceOfRow5)), "row6");
+    }
+
+    @Test
+    public void testRowsWithoutKeys() {
+        TableRowStore<Object, String> store = new TableRowStore<>(TableRowStore.KeyKind.NONE);
+        for (int i = 0; i < 20; i++) {
+            store.add(null, "row" + i);
+        }
+        Assert.assertEquals(store.size(), 20);
+        Assert.assertEquals(store.valueAt(19), "row19");
+        Assert.assertNull(store.keyAt(0));
+        Assert.assertNull(store.get("row0"));
+        Assert.assertNull(store.remove("row0"));
+
+        store.clear();
+        Assert.assertTrue(store.isEmpty());
+        Assert.assertEquals(store.rowLimit(), 0);
+    }
+
+    private static TupleValueImpl compositeKey(long id, String name) {
+        return new TupleValueImpl(new Object[]{id, StringUtils.fromString(name)}, COMPOSITE_KEY_TYPE);
+    }
+
+    private static <K, V> List<V> liveValues(TableRowStore<K, V> store) {
+        List<V> values = new ArrayList<>();
+        for (int row = 0; row < store.rowLimit(); row++) {
+            if (store.isLive(row)) {
+                values.add(store.valueAt(row));
+            }
+        }
+        return values;
+    }
+}
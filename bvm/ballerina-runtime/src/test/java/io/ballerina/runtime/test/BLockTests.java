@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the exclusive and shared holds of {@link BLock}.
+ *
+ * @since 2.0.0
+ */
+public class BLockTests {
+
+    private final List<Strand> unblockedStrands = new ArrayList<>();
+    private final Scheduler scheduler = new Scheduler(1, false) {
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblockedStrands.add(strand);
+        }
+    };
+
+    @BeforeMethod
+    public void clearUnblockedStrands() {
+        unblockedStrands.clear();
+    }
+
+    @Test
+    public void testSharedLockIsSharedByReaders() {
+        BLock lock = new BLock();
+        Strand reader1 = createStrand("reader1");
+        Strand reader2 = createStrand("reader2");
+        Strand writer = createStrand("writer");
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertTrue(writer.isBlocked());
+
+        lock.unlockShared(reader1);
+        Assert.assertTrue(unblockedStrands.isEmpty());
+        lock.unlockShared(reader2);
+        Assert.assertEquals(unblockedStrands, List.of(writer));
+
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testExclusiveLockBlocksReadersAndWriters() {
+        BLock lock = new BLock();
+        Strand writer1 = createStrand("writer1");
+        Strand writer2 = createStrand("writer2");
+        Strand reader = createStrand("reader");
+
+        Assert.assertTrue(lock.lock(writer1));
+        Assert.assertFalse(lock.lock(writer2));
+        Assert.assertFalse(lock.lockShared(reader));
+
+        // Waiting strands are unblocked in the order they arrived
+        lock.unlock();
+        Assert.assertEquals(unblockedStrands, List.of(writer2));
+        Assert.assertTrue(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertEquals(unblockedStrands, List.of(writer2, reader));
+        Assert.assertTrue(lock.lockShared(reader));
+        lock.unlockShared(reader);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testReentrantHolds() {
+        BLock lock = new BLock();
+        Strand writer = createStrand("writer");
+        Strand reader = createStrand("reader");
+
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lock(writer));
+        // A shared hold by the strand holding the lock exclusively nests as an exclusive hold
+        Assert.assertTrue(lock.lockShared(writer));
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+        lock.unlockShared(writer);
+        lock.unlock();
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+
+        Assert.assertTrue(lock.lockShared(reader));
+        Assert.assertTrue(lock.lockShared(reader));
+        // The only reader can take the lock exclusively as well
+        Assert.assertTrue(lock.lock(reader));
+        lock.unlock();
+        lock.unlockShared(reader);
+        lock.unlockShared(reader);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(unblockedStrands.isEmpty());
+    }
+
+    @Test
+    public void testReadersDoNotStarveWaitingWriter() {
+        BLock lock = new BLock();
+        Strand reader1 = createStrand("reader1");
+        Strand reader2 = createStrand("reader2");
+        Strand writer = createStrand("writer");
+
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lock(writer));
+
+        // A reader arriving after the writer does not barge in, although the lock is only shared
+        Assert.assertFalse(lock.lockShared(reader2));
+        // A reader already sharing the lock can still nest its hold
+        Assert.assertTrue(lock.lockShared(reader1));
+        lock.unlockShared(reader1);
+        lock.unlockShared(reader1);
+        Assert.assertEquals(unblockedStrands, List.of(writer));
+
+        // The lock is free until the unblocked writer retries, but readers still have to wait for it
+        Strand reader3 = createStrand("reader3");
+        Assert.assertFalse(lock.lockShared(reader3));
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        Assert.assertEquals(unblockedStrands, List.of(writer, reader2, reader3));
+
+        // With no writer waiting, readers take the free lock right away
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertTrue(lock.lockShared(reader3));
+        Assert.assertTrue(lock.lockShared(createStrand("reader4")));
+    }
+
+    @Test
+    public void testUnblockedReadersGoAheadOfLaterWriters() {
+        BLock lock = new BLock();
+        Strand writer1 = createStrand("writer1");
+        Strand writer2 = createStrand("writer2");
+        Strand reader1 = createStrand("reader1");
+        Strand reader2 = createStrand("reader2");
+
+        Assert.assertTrue(lock.lock(writer1));
+        Assert.assertFalse(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lockShared(reader2));
+        Assert.assertFalse(lock.lock(writer2));
+
+        // Consecutive readers at the head of the queue are unblocked together
+        lock.unlock();
+        Assert.assertEquals(unblockedStrands, List.of(reader1, reader2));
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+
+        lock.unlockShared(reader1);
+        lock.unlockShared(reader2);
+        Assert.assertEquals(unblockedStrands, List.of(reader1, reader2, writer2));
+        Assert.assertTrue(lock.lock(writer2));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private Strand createStrand(String name) {
+        return new Strand(name, null, scheduler, null, null);
+    }
+}
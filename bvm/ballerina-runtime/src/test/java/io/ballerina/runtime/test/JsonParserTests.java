@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TypedescValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Test cases for parsing JSON content to a target type with {@link JsonParser}.
+ *
+ * @since 2.0.0
+ */
+public class JsonParserTests {
+
+    private static final Function<Object, Object> UNEXPECTED_CONVERSION = json -> {
+        throw new AssertionError("content is converted from json: " + json);
+    };
+
+    @Test
+    public void testParseToAnydata() {
+        Object value = JsonParser.parse("{\"a\": [1, {\"b\": null}], \"c\": \"d\"}",
+                                        new TypedescValueImpl(PredefinedTypes.TYPE_ANYDATA), UNEXPECTED_CONVERSION);
+        // The members of the value are anydata values, as done by the conversion of json values
+        MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) value;
+        Assert.assertEquals(((BMapType) map.getType()).getConstrainedType().getTag(), TypeTags.ANYDATA_TAG);
+        ArrayValue array = (ArrayValue) map.get(StringUtils.fromString("a"));
+        Assert.assertEquals(((BArrayType) array.getType()).getElementType().getTag(), TypeTags.ANYDATA_TAG);
+        Assert.assertEquals(array.get(0), 1L);
+        MapValueImpl<?, ?> member = (MapValueImpl<?, ?>) array.get(1);
+        Assert.assertTrue(member.containsKey(StringUtils.fromString("b")));
+        Assert.assertEquals(map.get(StringUtils.fromString("c")), StringUtils.fromString("d"));
+    }
+
+    @Test
+    public void testParseToJson() {
+        Object value = JsonParser.parse("[{\"a\": 1.5}, true]", new TypedescValueImpl(PredefinedTypes.TYPE_JSON),
+                                        UNEXPECTED_CONVERSION);
+        Assert.assertTrue(TypeChecker.checkIsType(value, PredefinedTypes.TYPE_JSON));
+        Assert.assertEquals(((ArrayValue) value).size(), 2);
+    }
+
+    @Test
+    public void testParseToAnydataMap() {
+        Type mapType = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+        Object value = JsonParser.parse("{\"a\": {\"b\": [1, 2]}}", new TypedescValueImpl(mapType),
+                                        UNEXPECTED_CONVERSION);
+        Assert.assertSame(TypeChecker.getType(value), mapType);
+        MapValueImpl<?, ?> member = (MapValueImpl<?, ?>) ((MapValueImpl<?, ?>) value).get(StringUtils.fromString("a"));
+        Assert.assertEquals(((BMapType) member.getType()).getConstrainedType().getTag(), TypeTags.ANYDATA_TAG);
+    }
+
+    @Test
+    public void testMismatchFallsBackToConversion() {
+        Object converted = new Object();
+        Object value = JsonParser.parse("{\"a\": \"b\"}", new TypedescValueImpl(new BMapType(PredefinedTypes.TYPE_INT)),
+                                        json -> converted);
+        Assert.assertSame(value, converted);
+    }
+
+    @Test
+    public void testParseInRecordInitialization() {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        BRecordType recordType = new BRecordType("Person", new Module("testorg", "json_parser", "1.0.0"), 0, fields,
+                                                 PredefinedTypes.TYPE_ANYDATA, false, 0);
+        // Stands for the default value initializers of a record type, which may parse JSON content again
+        TypedescValueImpl typedesc = new TypedescValueImpl(recordType) {
+            @Override
+            public Object instantiate(Strand s, BInitialValueEntry[] initialValues) {
+                MapValueImpl<?, ?> nested = (MapValueImpl<?, ?>) JsonParser.parse("{\"id\": 1}");
+                Assert.assertEquals(nested.get(StringUtils.fromString("id")), 1L);
+                return new MapValueImpl<>(recordType, (BMapInitialValueEntry[]) initialValues);
+            }
+        };
+
+        Object[] result = new Object[1];
+        Scheduler scheduler = new Scheduler(1, false);
+        scheduler.schedule(new Object[1], (Function<Object[], Object>) params -> {
+            result[0] = JsonParser.parse("{\"name\": \"John\", \"tags\": [\"a\", {\"b\": 1}]}  ", typedesc,
+                                         UNEXPECTED_CONVERSION);
+            return null;
+        }, null, null, "parse", null);
+        scheduler.start();
+
+        MapValueImpl<?, ?> record = (MapValueImpl<?, ?>) result[0];
+        Assert.assertSame(record.getType(), recordType);
+        Assert.assertEquals(record.get(StringUtils.fromString("name")), StringUtils.fromString("John"));
+        Assert.assertEquals(((ArrayValue) record.get(StringUtils.fromString("tags"))).size(), 2);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the frame stack of {@link Strand}.
+ *
+ * @since 2.0.0
+ */
+public class StrandFramesTests {
+
+    private final Scheduler scheduler = new Scheduler(1, false);
+
+    @Test
+    public void testFramesAreAllocatedOnFirstYield() {
+        Strand strand = createStrand("strand");
+        Strand other = createStrand("other");
+        // Strands that never yield share the same empty frame stack
+        Assert.assertEquals(strand.frames.length, 0);
+        Assert.assertSame(strand.frames, other.frames);
+
+        Object frame = new Object();
+        strand.pushFrame(frame);
+        Assert.assertEquals(strand.resumeIndex, 1);
+        Assert.assertTrue(strand.frames.length > 0);
+        Assert.assertEquals(other.frames.length, 0);
+
+        Assert.assertSame(strand.popFrame(), frame);
+        Assert.assertEquals(strand.resumeIndex, 0);
+    }
+
+    @Test
+    public void testFramesAreRestoredInReverseOrder() {
+        Strand strand = createStrand("strand");
+        // Deeper than the fixed size of 100 frames strands used to get
+        int depth = 1000;
+        Object[] pushed = new Object[depth];
+        for (int i = 0; i < depth; i++) {
+            pushed[i] = new Object();
+            strand.pushFrame(pushed[i]);
+        }
+        Assert.assertEquals(strand.resumeIndex, depth);
+        for (int i = depth - 1; i >= 0; i--) {
+            Assert.assertSame(strand.popFrame(), pushed[i]);
+        }
+        Assert.assertEquals(strand.resumeIndex, 0);
+    }
+
+    @Test
+    public void testPoppedFramesAreCleared() {
+        Strand strand = createStrand("strand");
+        strand.pushFrame(new Object());
+        strand.pushFrame(new Object());
+        Object[] frames = strand.frames;
+
+        strand.popFrame();
+        strand.popFrame();
+        // Resumed frames are not kept reachable from the strand
+        for (Object frame : frames) {
+            Assert.assertNull(frame);
+        }
+
+        // Yielding again reuses the allocated stack
+        strand.pushFrame(new Object());
+        Assert.assertSame(strand.frames, frames);
+    }
+
+    private Strand createStrand(String name) {
+        return new Strand(name, null, scheduler, null, null);
+    }
+}
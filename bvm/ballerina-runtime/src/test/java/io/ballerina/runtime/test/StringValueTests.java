@@ -1,6 +1,9 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.StringInterner;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,95 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testNonBmpStringFromJavaString() {
+        BString str = StringUtils.fromString(UNICODE_STR);
+        Assert.assertTrue(str instanceof NonBmpStringValue);
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates(), new int[]{1, 14});
+        Assert.assertEquals(str.length(), 16);
+        Assert.assertEquals(str.getCodePoint(14), 0x1F47D);
+        Assert.assertEquals(str.substring(1, 3).getValue(), "\uD83D\uDEF8m");
+    }
+
+    @Test
+    void testRepeatedConcatenation() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            str = str.concat(StringUtils.fromString("item" + i + ","));
+            expected.append("item").append(i).append(',');
+        }
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.length(), expected.length());
+        Assert.assertEquals(str.getCodePoint(4), '0');
+        Assert.assertEquals(str.substring(0, 6).getValue(), "item0,");
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("item999"), 0).longValue(),
+                            expected.indexOf("item999"));
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatenationToSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("first"));
+        BString second = prefix.concat(StringUtils.fromString("second"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + "b");
+        Assert.assertEquals(first.getValue(), "a".repeat(300) + "bfirst");
+        Assert.assertEquals(second.getValue(), "a".repeat(300) + "bsecond");
+        Assert.assertEquals(first.concat(StringUtils.fromString("!")).getValue(), "a".repeat(300) + "bfirst!");
+    }
+
+    @Test
+    void testConcatenationToFlattenedSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("first"));
+        // The prefix no longer refers to the builder it shares with the longer string once it is flattened
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + "b");
+        BString second = prefix.concat(StringUtils.fromString("second"));
+        Assert.assertEquals(second.getValue(), "a".repeat(300) + "bsecond");
+        Assert.assertEquals(prefix.concat(StringUtils.fromString("third")).getValue(), "a".repeat(300) + "bthird");
+        Assert.assertEquals(first.concat(StringUtils.fromString("!")).getValue(), "a".repeat(300) + "bfirst!");
+        Assert.assertEquals(prefix.length(), 301);
+    }
+
+    @Test
+    void testSubstringOfLongString() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("bc"));
+        BString str = prefix.concat(StringUtils.fromString("def"));
+        Assert.assertEquals(prefix.substring(299, 302).getValue(), "abc");
+        Assert.assertEquals(str.substring(300, 305).getValue(), "bcdef");
+        Assert.assertEquals(str.substring(305, 305).getValue(), "");
+        // Taking a substring does not stop the string from being appended to in place
+        Assert.assertEquals(str.concat(StringUtils.fromString("g")).substring(302, 306).getValue(), "defg");
+        Assert.assertEquals(prefix.getValue(), "a".repeat(300) + "bc");
+    }
+
+    @Test(expectedExceptions = {StringIndexOutOfBoundsException.class})
+    void testSubstringPastTheEndOfSharedPrefix() {
+        BString prefix = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        prefix.concat(StringUtils.fromString("first"));
+        // The builder holds the characters of the longer string, yet they are not part of the prefix
+        prefix.substring(300, 303);
+    }
+
+    @Test
+    void testNonBmpConcatenationToLongString() {
+        BString str = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        BString nonBmp = str.concat(SUBJECT);
+        Assert.assertEquals(nonBmp.length(), 301 + 16);
+        Assert.assertEquals(nonBmp.getCodePoint(302), 0x1F6F8);
+        Assert.assertEquals(nonBmp.getValue(), "a".repeat(300) + "b" + UNICODE_STR);
+    }
+
+    @Test
+    void testInternedStrings() {
+        BString interned = StringInterner.intern("internedFieldName");
+        Assert.assertSame(StringInterner.intern("internedFieldName"), interned);
+        Assert.assertSame(StringInterner.getInterned(new String("internedFieldName")), interned);
+        Assert.assertNull(StringInterner.getInterned("notInternedFieldName"));
+        Assert.assertEquals(interned, StringUtils.fromString("internedFieldName"));
+        Assert.assertEquals(interned.hashCode(), "internedFieldName".hashCode());
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.types.TypeCheckCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ *
+ * @since 2.0.0
+ */
+public class TypeCheckCacheTests {
+
+    @Test
+    public void testCachedResult() {
+        TypeCheckCache cache = new TypeCheckCache();
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+        Type otherTargetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+
+        Assert.assertNull(cache.get(targetType));
+        cache.put(targetType, true, TypeCheckCache.currentEpoch());
+        Assert.assertEquals(cache.get(targetType), Boolean.TRUE);
+        // Entries are keyed by the identity of the target type
+        Assert.assertNull(cache.get(otherTargetType));
+
+        cache.put(targetType, false, TypeCheckCache.currentEpoch());
+        Assert.assertEquals(cache.get(targetType), Boolean.FALSE);
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        TypeCheckCache cache = new TypeCheckCache();
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+
+        cache.put(targetType, true, TypeCheckCache.currentEpoch());
+        TypeCheckCache.invalidateAll();
+        Assert.assertNull(cache.get(targetType));
+    }
+
+    @Test
+    public void testResultOfCheckStartedBeforeInvalidationIsDropped() {
+        TypeCheckCache cache = new TypeCheckCache();
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+
+        int startEpoch = TypeCheckCache.currentEpoch();
+        // A type changes while the check is in progress
+        TypeCheckCache.invalidateAll();
+        cache.put(targetType, true, startEpoch);
+        Assert.assertNull(cache.get(targetType));
+    }
+
+    @Test
+    public void testTypeCheckResultIsCached() {
+        Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createArrayType(
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+
+        Assert.assertNull(((BType) sourceType).getCachedTypeCheckResult((BType) targetType));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(((BType) sourceType).getCachedTypeCheckResult((BType) targetType), Boolean.TRUE);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testTypeCheckResultIsInvalidatedOnTypeChange() {
+        BArrayType sourceType = (BArrayType) TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createArrayType(
+                TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        sourceType.setElementType(PredefinedTypes.TYPE_BOOLEAN);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        sourceType.setElementType(PredefinedTypes.TYPE_STRING);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testTypeCheckResultIsInvalidatedOnMemberTypeChange() {
+        // Only the outer types take part in the check directly, the union is reached through the element type
+        BUnionType memberType = new BUnionType(List.of(PredefinedTypes.TYPE_INT), false);
+        Type sourceType = TypeCreator.createArrayType(memberType);
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        memberType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING});
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+
+        BUnionType targetMemberType = new BUnionType(List.of(PredefinedTypes.TYPE_STRING), false);
+        Type otherTargetType = TypeCreator.createArrayType(targetMemberType);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, otherTargetType));
+        targetMemberType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT});
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, otherTargetType));
+    }
+
+    @Test
+    public void testTypeSetUpAfterCheckKeepsCachedResults() {
+        BType sourceType = (BType) TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BType targetType = (BType) TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+
+        // Types created and set up at runtime have not been checked yet
+        BArrayType arrayType = new BArrayType(PredefinedTypes.TYPE_STRING);
+        arrayType.setElementType(PredefinedTypes.TYPE_INT);
+        BUnionType unionType = new BUnionType(List.of(PredefinedTypes.TYPE_INT), false);
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, arrayType});
+        TypeCreator.createMapType(unionType);
+        Assert.assertEquals(sourceType.getCachedTypeCheckResult(targetType), Boolean.TRUE);
+    }
+
+    @Test
+    public void testHitAndMissCounts() {
+        Type sourceType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+
+        TypeCheckCache.resetCounts();
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 0);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertEquals(TypeCheckCache.getMissCount(), 1);
+        Assert.assertEquals(TypeCheckCache.getHitCount(), 1);
+    }
+}
@@ -114,6 +114,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--optimization-level", description = "level of the optimizations done on " +
+            "the compiled code, from 0 to 2. Functions inlined at level 2 do not appear in panic stack traces.")
+    private Integer optimizationLevel;
+
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private Boolean dumpBIRFile;
 
@@ -123,6 +127,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-raw-graphs", hidden = true)
     private boolean dumpRawGraphs;
 
+    @CommandLine.Option(names = "--disable-incremental-build", hidden = true)
+    private boolean disableIncrementalBuild;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -172,7 +179,14 @@ public class BuildCommand implements BLauncherCmd {
 
         // load project
         Project project;
-        BuildOptions buildOptions = constructBuildOptions();
+        BuildOptions buildOptions;
+        try {
+            buildOptions = constructBuildOptions();
+        } catch (ProjectException e) {
+            CommandUtil.printError(this.errStream, e.getMessage(), null, false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
 
         boolean isSingleFileBuild = false;
         if (FileUtils.hasExtension(this.projectPath)) {
@@ -279,6 +293,8 @@ public class BuildCommand implements BLauncherCmd {
                 .setDumpBirFile(dumpBIRFile)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
+                .setOptimizationLevel(optimizationLevel)
+                .setIncrementalBuild(!disableIncrementalBuild)
                 .setListConflictedClasses(listConflictedClasses)
                 .setDumpBuildTime(dumpBuildTime)
                 .setSticky(sticky)
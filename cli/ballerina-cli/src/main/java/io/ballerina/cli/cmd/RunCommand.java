@@ -77,6 +77,10 @@ public class RunCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
+    @CommandLine.Option(names = "--optimization-level", description = "level of the optimizations done on " +
+            "the compiled code, from 0 to 2. Functions inlined at level 2 do not appear in panic stack traces.")
+    private Integer optimizationLevel;
+
     @CommandLine.Option(names = "--experimental", description = "Enable experimental language features.")
     private boolean experimentalFlag;
 
@@ -93,6 +97,9 @@ public class RunCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-raw-graphs", hidden = true)
     private boolean dumpRawGraphs;
 
+    @CommandLine.Option(names = "--disable-incremental-build", hidden = true)
+    private boolean disableIncrementalBuild;
+
     @CommandLine.Option(names = "--generate-config-schema", hidden = true)
     private Boolean configSchemaGen;
 
@@ -170,7 +177,14 @@ public class RunCommand implements BLauncherCmd {
 
         // load project
         Project project;
-        BuildOptions buildOptions = constructBuildOptions();
+        BuildOptions buildOptions;
+        try {
+            buildOptions = constructBuildOptions();
+        } catch (ProjectException e) {
+            CommandUtil.printError(this.errStream, e.getMessage(), runCmd, false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
 
         boolean isSingleFileBuild = false;
         if (FileUtils.hasExtension(this.projectPath)) {
@@ -244,6 +258,8 @@ public class RunCommand implements BLauncherCmd {
                 .setSticky(sticky)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
+                .setOptimizationLevel(optimizationLevel)
+                .setIncrementalBuild(!disableIncrementalBuild)
                 .setConfigSchemaGen(configSchemaGen);
 
         if (targetDir != null) {
@@ -105,7 +105,7 @@ public class LangLibFunctionBinder {
 
         duplicate.annAttachments.addAll(original.annAttachments);
         duplicate.bodyExist = original.bodyExist;
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.markdownDocumentation = original.getMarkdownDocAttachment();
         duplicate.receiverSymbol = original.receiverSymbol;
 
         return duplicate;
@@ -133,7 +133,7 @@ public class LangLibFunctionBinder {
         BVarSymbol duplicate = new BVarSymbol(original.flags, original.isWildcard, original.name, original.originalName,
                                               original.pkgID, original.type, original.owner, original.pos,
                                               original.origin);
-        duplicate.markdownDocumentation = original.markdownDocumentation;
+        duplicate.markdownDocumentation = original.getMarkdownDocAttachment();
 
         for (AnnotationSymbol annot : original.getAnnotations()) {
             duplicate.addAnnotation(annot);
@@ -58,7 +58,7 @@ public class BallerinaObjectFieldSymbol extends BallerinaSymbol implements Objec
     public BallerinaObjectFieldSymbol(CompilerContext context, BField bField, SymbolKind kind) {
         super(bField.name.value, kind, bField.symbol, context);
         this.bField = bField;
-        this.docAttachment = new BallerinaDocumentation(bField.symbol.markdownDocumentation);
+        this.docAttachment = new BallerinaDocumentation(bField.symbol.getMarkdownDocAttachment());
         this.deprecated = Symbols.isFlagOn(bField.symbol.flags, Flags.DEPRECATED);
     }
 
@@ -57,7 +57,7 @@ public class BallerinaRecordFieldSymbol extends BallerinaSymbol implements Recor
     public BallerinaRecordFieldSymbol(CompilerContext context, BField bField) {
         super(bField.name.value, SymbolKind.RECORD_FIELD, bField.symbol, context);
         this.bField = bField;
-        this.docAttachment = new BallerinaDocumentation(bField.symbol.markdownDocumentation);
+        this.docAttachment = new BallerinaDocumentation(bField.symbol.getMarkdownDocAttachment());
         this.deprecated = Symbols.isFlagOn(bField.symbol.flags, Flags.DEPRECATED);
     }
 
@@ -25,15 +25,17 @@ public class BuildOptions {
     private Boolean codeCoverage;
     private Boolean dumpBuildTime;
     private Boolean skipTests;
+    private Boolean incrementalBuild;
     private CompilationOptions compilationOptions;
     private String targetDir;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
-                 CompilationOptions compilationOptions, String targetPath) {
+                 Boolean incrementalBuild, CompilationOptions compilationOptions, String targetPath) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
         this.skipTests = skipTests;
+        this.incrementalBuild = incrementalBuild;
         this.compilationOptions = compilationOptions;
         this.targetDir = targetPath;
     }
@@ -55,6 +57,11 @@ public class BuildOptions {
         return toBooleanTrueIfNull(this.skipTests);
     }
 
+    public boolean incrementalBuild() {
+        // By default, modules are always compiled from their sources
+        return toBooleanDefaultIfNull(this.incrementalBuild);
+    }
+
     public boolean offlineBuild() {
         return this.compilationOptions.offlineBuild();
     }
@@ -79,6 +86,10 @@ public class BuildOptions {
         return this.compilationOptions.getCloud();
     }
 
+    public int optimizationLevel() {
+        return this.compilationOptions.optimizationLevel();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -111,6 +122,11 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setDumpBuildTime(this.dumpBuildTime);
         }
+        if (theirOptions.incrementalBuild != null) {
+            buildOptionsBuilder.setIncrementalBuild(theirOptions.incrementalBuild);
+        } else {
+            buildOptionsBuilder.setIncrementalBuild(this.incrementalBuild);
+        }
         if (theirOptions.targetDir != null) {
             buildOptionsBuilder.targetDir(theirOptions.targetDir);
         } else {
@@ -129,6 +145,7 @@ public class BuildOptions {
         buildOptionsBuilder.setListConflictedClasses(compilationOptions.listConflictedClasses);
         buildOptionsBuilder.setSticky(compilationOptions.sticky);
         buildOptionsBuilder.setConfigSchemaGen(compilationOptions.configSchemaGen);
+        buildOptionsBuilder.setOptimizationLevel(compilationOptions.optimizationLevel);
 
         return buildOptionsBuilder.build();
     }
@@ -187,6 +204,7 @@ public class BuildOptions {
         private Boolean codeCoverage;
         private Boolean dumpBuildTime;
         private Boolean skipTests;
+        private Boolean incrementalBuild;
         private String targetPath;
         private final CompilationOptions.CompilationOptionsBuilder compilationOptionsBuilder;
 
@@ -214,6 +232,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setIncrementalBuild(Boolean value) {
+            incrementalBuild = value;
+            return this;
+        }
+
         public BuildOptionsBuilder setSticky(Boolean value) {
             compilationOptionsBuilder.setSticky(value);
             return this;
@@ -264,6 +287,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setOptimizationLevel(Integer value) {
+            compilationOptionsBuilder.setOptimizationLevel(value);
+            return this;
+        }
+
         public BuildOptionsBuilder targetDir(String path) {
             targetPath = path;
             return this;
@@ -276,7 +304,8 @@ public class BuildOptions {
 
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
-            return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions, targetPath);
+            return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, incrementalBuild,
+                    compilationOptions, targetPath);
         }
     }
 }
@@ -42,4 +42,34 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the BIR of a module cached against the given cache key by an earlier build.
+     * <p>
+     * A cache key identifies the sources and dependencies a module is compiled from. Caches that do not support
+     * incremental builds always return an empty array, and the module is compiled from its sources.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   cache key of the module
+     * @return the cached BIR or an empty array
+     */
+    public byte[] getBir(ModuleName moduleName, String cacheKey) {
+        return new byte[0];
+    }
+
+    public void cacheBir(ModuleName moduleName, String cacheKey, ByteArrayOutputStream birContent) {
+    }
+
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                     String libraryName,
+                                                     String cacheKey) {
+        return getPlatformSpecificLibrary(compilerBackend, libraryName);
+    }
+
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                             String libraryName,
+                                             String cacheKey,
+                                             ByteArrayOutputStream libraryContent) {
+        cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+    }
 }
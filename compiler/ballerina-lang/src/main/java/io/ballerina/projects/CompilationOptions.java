@@ -23,6 +23,11 @@ package io.ballerina.projects;
  * @since 2.0.0
  */
 public class CompilationOptions {
+
+    public static final int NO_OPTIMIZATION_LEVEL = 0;
+    public static final int DEFAULT_OPTIMIZATION_LEVEL = 1;
+    public static final int FULL_OPTIMIZATION_LEVEL = 2;
+
     Boolean offlineBuild;
     Boolean experimental;
     Boolean observabilityIncluded;
@@ -35,11 +40,13 @@ public class CompilationOptions {
     Boolean dumpRawGraphs;
     Boolean withCodeGenerators;
     Boolean configSchemaGen;
+    Integer optimizationLevel;
 
     CompilationOptions(Boolean offlineBuild, Boolean experimental,
                        Boolean observabilityIncluded, Boolean dumpBir, Boolean dumpBirFile,
                        String cloud, Boolean listConflictedClasses, Boolean sticky,
-                       Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators, Boolean configSchemaGen) {
+                       Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators, Boolean configSchemaGen,
+                       Integer optimizationLevel) {
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
@@ -52,6 +59,7 @@ public class CompilationOptions {
         this.dumpRawGraphs = dumpRawGraphs;
         this.withCodeGenerators = withCodeGenerators;
         this.configSchemaGen = configSchemaGen;
+        this.optimizationLevel = optimizationLevel;
     }
 
     public boolean offlineBuild() {
@@ -102,6 +110,22 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.configSchemaGen);
     }
 
+    /**
+     * Returns the level of the optimizations done on the BIR of the package.
+     * <p>
+     * Level 0 disables the optional optimizations, level 1 removes redundant temporary variables and level 2 also
+     * inlines small functions, keeps basic type values unboxed in local variables of union types, folds constants and
+     * removes dead code.
+     *
+     * @return optimization level
+     */
+    public int optimizationLevel() {
+        if (this.optimizationLevel == null) {
+            return DEFAULT_OPTIMIZATION_LEVEL;
+        }
+        return this.optimizationLevel;
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -170,6 +194,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setConfigSchemaGen(this.configSchemaGen);
         }
+        if (theirOptions.optimizationLevel != null) {
+            compilationOptionsBuilder.setOptimizationLevel(theirOptions.optimizationLevel);
+        } else {
+            compilationOptionsBuilder.setOptimizationLevel(this.optimizationLevel);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -216,6 +245,7 @@ public class CompilationOptions {
         private Boolean dumpRawGraph;
         private Boolean withCodeGenerators;
         private Boolean configSchemaGen;
+        private Integer optimizationLevel;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -267,6 +297,15 @@ public class CompilationOptions {
             return this;
         }
 
+        CompilationOptionsBuilder setOptimizationLevel(Integer value) {
+            if (value != null && (value < NO_OPTIMIZATION_LEVEL || value > FULL_OPTIMIZATION_LEVEL)) {
+                throw new ProjectException("invalid optimization level '" + value + "'. The level should be between "
+                        + NO_OPTIMIZATION_LEVEL + " and " + FULL_OPTIMIZATION_LEVEL);
+            }
+            optimizationLevel = value;
+            return this;
+        }
+
         CompilationOptionsBuilder setListConflictedClasses(Boolean value) {
             listConflictedClasses = value;
             return this;
@@ -280,7 +319,7 @@ public class CompilationOptions {
         public CompilationOptions build() {
             return new CompilationOptions(offline, experimental, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky,
-                    dumpGraph, dumpRawGraph, withCodeGenerators, configSchemaGen);
+                    dumpGraph, dumpRawGraph, withCodeGenerators, configSchemaGen, optimizationLevel);
         }
     }
 }
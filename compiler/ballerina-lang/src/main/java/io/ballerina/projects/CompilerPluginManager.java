@@ -62,6 +62,18 @@ class CompilerPluginManager {
         return new CompilerPluginManager(compilation, compilerPluginContexts);
     }
 
+    static boolean hasEngagedCompilerPlugins(PackageCompilation compilation) {
+        PackageResolution packageResolution = compilation.getResolution();
+        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(
+                packageResolution.packageContext().project().currentPackage(), PackageDependencyScope.DEFAULT);
+        for (Package pkgDependency : getDirectDependencies(rootPkgNode, packageResolution.dependencyGraph())) {
+            if (pkgDependency.manifest().compilerPluginDescriptor().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static List<CompilerPluginInfo> loadInBuiltCompilerPlugins(Package rootPackage) {
         List<CompilerPluginInfo> compilerPluginInfoList = new ArrayList<>();
         for (CompilerPlugin plugin : CompilerPlugins.getBuiltInPlugins()) {
@@ -305,7 +305,7 @@ public class JBallerinaBackend extends CompilerBackend {
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
         try {
             ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+            cachePlatformSpecificLibrary(moduleContext, compilationCache, jarFileName, byteStream);
         } catch (IOException e) {
             throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
         }
@@ -322,12 +322,24 @@ public class JBallerinaBackend extends CompilerBackend {
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
         try {
             ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
+            cachePlatformSpecificLibrary(moduleContext, compilationCache, testJarFileName, byteStream);
         } catch (IOException e) {
             throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
         }
     }
 
+    private void cachePlatformSpecificLibrary(ModuleContext moduleContext,
+                                              CompilationCache compilationCache,
+                                              String libraryName,
+                                              ByteArrayOutputStream libraryContent) {
+        Optional<String> cacheKey = moduleContext.cacheKey();
+        if (cacheKey.isPresent()) {
+            compilationCache.cachePlatformSpecificLibrary(this, libraryName, cacheKey.get(), libraryContent);
+        } else {
+            compilationCache.cachePlatformSpecificLibrary(this, libraryName, libraryContent);
+        }
+    }
+
     @Override
     public String libraryFileExtension() {
         return JAR_FILE_EXTENSION;
@@ -495,9 +507,12 @@ public class JBallerinaBackend extends CompilerBackend {
         Package pkg = packageCache.getPackageOrThrow(packageId);
         ProjectEnvironment projectEnvironment = pkg.project().projectEnvironmentContext();
         CompilationCache compilationCache = projectEnvironment.getService(CompilationCache.class);
-        String jarFileName = getJarFileName(pkg.packageContext().moduleContext(moduleName)) + fileNameSuffix;
-        Optional<Path> platformSpecificLibrary = compilationCache.getPlatformSpecificLibrary(
-                this, jarFileName);
+        ModuleContext moduleContext = pkg.packageContext().moduleContext(moduleName);
+        String jarFileName = getJarFileName(moduleContext) + fileNameSuffix;
+        Optional<String> cacheKey = moduleContext.cacheKey();
+        Optional<Path> platformSpecificLibrary = cacheKey.isPresent() ?
+                compilationCache.getPlatformSpecificLibrary(this, jarFileName, cacheKey.get()) :
+                compilationCache.getPlatformSpecificLibrary(this, jarFileName);
         return new JarLibrary(platformSpecificLibrary.orElseThrow(
                 () -> new IllegalStateException("Cannot find the generated jar library for module: " + moduleName)),
                 scope);
@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Computes the key a module is cached against in an incremental build.
+ * <p>
+ * The key is a hash of everything the BIR and the platform-specific libraries of a module are generated from: the
+ * compiler and BIR versions, the compilation options, the sources and resources of the module, the platform libraries
+ * of its package, and the keys of the modules it depends on. A module whose key is unchanged since the last build can
+ * be loaded from the compilation cache.
+ *
+ * @since 2.0.0
+ */
+class ModuleCacheKey {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String COMPILER_VERSION = RepoUtils.getBallerinaVersion();
+    private static final int BUFFER_SIZE = 8192;
+
+    private ModuleCacheKey() {
+    }
+
+    /**
+     * Computes the cache key of a module.
+     *
+     * @param moduleContext      module to compute the cache key of
+     * @param compilationOptions options the module is compiled with
+     * @param dependencyKeys     cache keys of the modules compiled before this module
+     * @param platformKey        key of the platform libraries of the package of the module
+     * @return the cache key, or empty if the key of a dependency is unknown
+     * @see #platformKey(PackageManifest, Path)
+     */
+    static Optional<String> from(ModuleContext moduleContext, CompilationOptions compilationOptions,
+                                 Map<ModuleId, String> dependencyKeys, String platformKey) {
+        if (moduleContext.dependencies() == null) {
+            return Optional.empty();
+        }
+
+        List<String> moduleDependencyKeys = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            String dependencyKey = dependencyKeys.get(moduleDependency.moduleId());
+            if (dependencyKey == null) {
+                return Optional.empty();
+            }
+            moduleDependencyKeys.add(dependencyKey);
+        }
+        moduleDependencyKeys.sort(Comparator.naturalOrder());
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+
+        ModuleDescriptor descriptor = moduleContext.descriptor();
+        update(digest, COMPILER_VERSION);
+        update(digest, String.valueOf(BIRPackageFile.BIR_VERSION));
+        update(digest, descriptor.org().value());
+        update(digest, descriptor.packageName().value());
+        update(digest, descriptor.version().toString());
+        update(digest, descriptor.name().toString());
+        update(digest, String.valueOf(compilationOptions.experimental()));
+        update(digest, String.valueOf(compilationOptions.observabilityIncluded()));
+        update(digest, compilationOptions.getCloud());
+        update(digest, String.valueOf(compilationOptions.optimizationLevel()));
+        update(digest, String.valueOf(moduleContext.project().buildOptions().skipTests()));
+        updateWithDocuments(digest, moduleContext, moduleContext.srcDocumentIds());
+        updateWithDocuments(digest, moduleContext, moduleContext.testSrcDocumentIds());
+        updateWithResources(digest, moduleContext, moduleContext.resourceIds());
+        updateWithResources(digest, moduleContext, moduleContext.testResourceIds());
+        update(digest, platformKey);
+        for (String moduleDependencyKey : moduleDependencyKeys) {
+            update(digest, moduleDependencyKey);
+        }
+        return Optional.of(bytesToHex(digest.digest()));
+    }
+
+    /**
+     * Computes the key of the platform libraries of a package, from the platform sections of its manifest and the
+     * contents of the libraries given by a path. Libraries resolved from a Maven repository are keyed by their
+     * coordinates, as a released artifact does not change.
+     *
+     * @param manifest   manifest of the package
+     * @param sourceRoot directory the relative library paths are resolved against
+     * @return the key, or empty if a platform library cannot be read
+     */
+    static Optional<String> platformKey(PackageManifest manifest, Path sourceRoot) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+
+        Map<String, PackageManifest.Platform> platforms = new TreeMap<>(manifest.platforms());
+        update(digest, String.valueOf(platforms.size()));
+        try {
+            for (Map.Entry<String, PackageManifest.Platform> platform : platforms.entrySet()) {
+                update(digest, platform.getKey());
+                update(digest, String.valueOf(platform.getValue().dependencies().size()));
+                for (Map<String, Object> dependency : platform.getValue().dependencies()) {
+                    updateWithEntries(digest, dependency);
+                    Object dependencyFilePath = dependency.get(JarLibrary.KEY_PATH);
+                    if (dependencyFilePath != null && !dependencyFilePath.toString().isEmpty()) {
+                        updateWithFile(digest, sourceRoot.resolve(Paths.get(dependencyFilePath.toString())));
+                    }
+                }
+                update(digest, String.valueOf(platform.getValue().repositories().size()));
+                for (Map<String, Object> repository : platform.getValue().repositories()) {
+                    updateWithEntries(digest, repository);
+                }
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(bytesToHex(digest.digest()));
+    }
+
+    private static void updateWithEntries(MessageDigest digest, Map<String, Object> entries) {
+        Map<String, Object> sortedEntries = new TreeMap<>(entries);
+        update(digest, String.valueOf(sortedEntries.size()));
+        for (Map.Entry<String, Object> entry : sortedEntries.entrySet()) {
+            update(digest, entry.getKey());
+            update(digest, String.valueOf(entry.getValue()));
+        }
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path path) throws IOException {
+        update(digest, path.toAbsolutePath().normalize().toString());
+        update(digest, String.valueOf(Files.size(path)));
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void updateWithDocuments(MessageDigest digest, ModuleContext moduleContext,
+                                            Collection<DocumentId> documentIds) {
+        List<DocumentContext> documents = new ArrayList<>(documentIds.size());
+        for (DocumentId documentId : documentIds) {
+            documents.add(moduleContext.documentContext(documentId));
+        }
+        documents.sort(Comparator.comparing(DocumentContext::name));
+
+        update(digest, String.valueOf(documents.size()));
+        for (DocumentContext document : documents) {
+            update(digest, document.name());
+            update(digest, document.content());
+        }
+    }
+
+    private static void updateWithResources(MessageDigest digest, ModuleContext moduleContext,
+                                            Collection<DocumentId> resourceIds) {
+        List<ResourceContext> resources = new ArrayList<>(resourceIds.size());
+        for (DocumentId resourceId : resourceIds) {
+            resources.add(moduleContext.resourceContext(resourceId));
+        }
+        resources.sort(Comparator.comparing(ResourceContext::name));
+
+        update(digest, String.valueOf(resources.size()));
+        for (ResourceContext resource : resources) {
+            update(digest, resource.name());
+            update(digest, resource.content());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        update(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void update(MessageDigest digest, byte[] value) {
+        // Prefix each value with its length, so that values cannot run into each other
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).array());
+        digest.update(value);
+    }
+
+    private static String bytesToHex(byte[] hash) {
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hexString.append('0');
+            }
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+}
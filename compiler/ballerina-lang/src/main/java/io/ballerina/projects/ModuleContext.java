@@ -43,6 +43,7 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -52,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
 import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
@@ -84,6 +86,7 @@ class ModuleContext {
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
+    private String cacheKey;
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
@@ -307,6 +310,32 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    Optional<String> cacheKey() {
+        return Optional.ofNullable(this.cacheKey);
+    }
+
+    /**
+     * Sets the key this module is cached against in an incremental build. If the compilation cache holds the BIR of
+     * an earlier compilation with the same key, the module is loaded from the cache instead of its sources. The key
+     * decides how the module is loaded, hence it has to be set before the compilation of the module starts.
+     *
+     * @param cacheKey cache key of the module
+     */
+    void setCacheKey(String cacheKey) {
+        if (moduleCompState != null) {
+            throw new IllegalStateException("cannot set the cache key of module '" + moduleName() +
+                    "' after its compilation started");
+        }
+
+        this.cacheKey = cacheKey;
+        this.birBytes = compilationCache.getBir(moduleDescriptor.name(), cacheKey);
+        if (birBytes.length == 0) {
+            moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
+        } else {
+            moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
+        }
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -395,6 +424,37 @@ class ModuleContext {
         }
     }
 
+    /**
+     * Parses the source and test documents of the given modules in parallel.
+     * <p>
+     * Unlike the rest of the compilation, parsing a document does not use the state shared through the
+     * {@code CompilerContext}, so the documents of all modules can be parsed at once instead of module by module.
+     * The documents are parsed on a pool of this compilation, so that parsing neither competes with nor waits for
+     * other tasks of the common fork-join pool. They are parsed on the calling thread when there is a single
+     * processor or document.
+     *
+     * @param moduleContexts modules to parse
+     */
+    static void parseInParallel(Collection<ModuleContext> moduleContexts) {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            documentContexts.addAll(moduleContext.srcDocContextMap.values());
+            documentContexts.addAll(moduleContext.testDocContextMap.values());
+        }
+
+        int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), documentContexts.size());
+        if (parallelism <= 1) {
+            documentContexts.forEach(DocumentContext::parse);
+            return;
+        }
+        ForkJoinPool parserPool = new ForkJoinPool(parallelism);
+        try {
+            parserPool.submit(() -> documentContexts.parallelStream().forEach(DocumentContext::parse)).join();
+        } finally {
+            parserPool.shutdown();
+        }
+    }
+
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
@@ -463,7 +523,18 @@ class ModuleContext {
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
             return;
         }
+        if (moduleContext.cacheKey == null) {
+            compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+            return;
+        }
+
+        // Serialize the BIR before the backend rewrites it, but cache it only after the platform-specific libraries,
+        // and only if the module has no diagnostics to report when it is loaded from the cache later.
+        ByteArrayOutputStream birContent = serializeBIR(moduleContext);
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        if (moduleContext.diagnostics().isEmpty()) {
+            moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), moduleContext.cacheKey, birContent);
+        }
     }
 
     private static void cacheBIR(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -481,6 +552,10 @@ class ModuleContext {
             }
         }
 
+        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), serializeBIR(moduleContext));
+    }
+
+    private static ByteArrayOutputStream serializeBIR(ModuleContext moduleContext) {
         // Can we improve this logic
         ByteArrayOutputStream birContent = new ByteArrayOutputStream();
         try {
@@ -492,15 +567,18 @@ class ModuleContext {
             }
             byte[] pkgBirBinaryContent = PackageFileWriter.writePackage(birPackageFile);
             birContent.writeBytes(pkgBirBinaryContent);
-            moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
         } catch (IOException e) {
             // This path may never be executed
             throw new RuntimeException("Failed to convert BIR model to a byte array", e);
         }
+        return birContent;
     }
 
     static void loadBirBytesInternal(ModuleContext moduleContext) {
-        moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
+        // The BIR of a module loaded by its cache key is already read
+        if (moduleContext.birBytes.length == 0) {
+            moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
+        }
     }
 
     static void resolveDependenciesFromBALAInternal(ModuleContext moduleContext) {
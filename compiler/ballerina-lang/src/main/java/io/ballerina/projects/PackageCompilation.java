@@ -34,6 +34,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 
@@ -43,6 +44,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.OPTIMIZATION_LEVEL;
 
 /**
  * Compilation at package level by resolving all the dependencies.
@@ -95,6 +97,7 @@ public class PackageCompilation {
         options.put(OBSERVABILITY_INCLUDED, Boolean.toString(compilationOptions.observabilityIncluded()));
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
+        options.put(OPTIMIZATION_LEVEL, Integer.toString(compilationOptions.optimizationLevel()));
         options.put(CLOUD, compilationOptions.getCloud());
     }
 
@@ -208,8 +211,31 @@ public class PackageCompilation {
         diagnostics.addAll(packageContext().packageManifest().diagnostics().allDiagnostics);
         // add dependency manifest diagnostics
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
+
+        List<ModuleContext> sortedModuleList = packageResolution.topologicallySortedModuleList();
+        if (isIncrementalBuild()) {
+            // The cache key of a module depends on the keys of its dependencies, hence the topological order
+            Map<ModuleId, String> moduleCacheKeys = new HashMap<>();
+            Map<PackageId, Optional<String>> platformKeys = new HashMap<>();
+            for (ModuleContext moduleContext : sortedModuleList) {
+                setModuleCacheKey(moduleContext, moduleCacheKeys, platformKeys);
+            }
+        }
+
+        // Parse the documents of the modules that are yet to be compiled from sources all at once. Modules loaded
+        // from the compilation cache are not parsed.
+        List<ModuleContext> modulesToParse = new ArrayList<>();
+        for (ModuleContext moduleContext : sortedModuleList) {
+            if (moduleContext.currentCompilationState() == ModuleCompilationState.LOADED_FROM_SOURCES) {
+                modulesToParse.add(moduleContext);
+            }
+        }
+        ModuleContext.parseInParallel(modulesToParse);
+
+        // Modules are compiled one at a time, in topological order. The compiler phases share the per-CompilerContext
+        // singletons, e.g. SymbolTable, PackageCache and BLangDiagnosticLog, which hold mutable per-module state.
         // add compilation diagnostics
-        for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+        for (ModuleContext moduleContext : sortedModuleList) {
             moduleContext.compile(compilerContext);
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                 diagnostics.add(new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
@@ -220,6 +246,61 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    /**
+     * Returns whether the modules of the root package can be loaded from the compilation cache, when their sources
+     * and dependencies did not change since they were last compiled. Such modules have no syntax tree or semantic
+     * model, so the modules are always compiled when they may be looked into after the compilation.
+     *
+     * @return true if the modules can be loaded from the compilation cache
+     */
+    private boolean isIncrementalBuild() {
+        Project project = rootPackageContext.project();
+        return project.kind() == ProjectKind.BUILD_PROJECT
+                && project.buildOptions().incrementalBuild()
+                && !rootPackageContext.descriptor().isBuiltInPackage()
+                && !compilationOptions.withCodeGenerators()
+                && !compilationOptions.configSchemaGen()
+                && !compilationOptions.observabilityIncluded()
+                && !compilationOptions.dumpBir()
+                && !compilationOptions.dumpBirFile()
+                && !ServiceLoader.load(CompilerPlugin.class).iterator().hasNext()
+                && !CompilerPluginManager.hasEngagedCompilerPlugins(this);
+    }
+
+    private void setModuleCacheKey(ModuleContext moduleContext, Map<ModuleId, String> moduleCacheKeys,
+                                   Map<PackageId, Optional<String>> platformKeys) {
+        // The platform libraries are shared by the modules of a package, hence are read once per package
+        Optional<String> platformKey = platformKeys.computeIfAbsent(moduleContext.moduleId().packageId(),
+                packageId -> platformKey(moduleContext));
+        if (platformKey.isEmpty()) {
+            return;
+        }
+        Optional<String> cacheKey = ModuleCacheKey.from(moduleContext, compilationOptions, moduleCacheKeys,
+                platformKey.get());
+        if (cacheKey.isEmpty()) {
+            return;
+        }
+        moduleCacheKeys.put(moduleContext.moduleId(), cacheKey.get());
+
+        // Tests are run with the semantic model of the module. Modules compiled by an earlier compilation of the
+        // same package keep the state they were compiled with.
+        boolean testsIncluded = !moduleContext.testSrcDocumentIds().isEmpty()
+                && !moduleContext.project().buildOptions().skipTests();
+        if (moduleContext.moduleId().packageId().equals(rootPackageContext.packageId()) && !testsIncluded
+                && moduleContext.compilationState() == null) {
+            moduleContext.setCacheKey(cacheKey.get());
+        }
+    }
+
+    private Optional<String> platformKey(ModuleContext moduleContext) {
+        if (moduleContext.moduleId().packageId().equals(rootPackageContext.packageId())) {
+            return ModuleCacheKey.platformKey(rootPackageContext.packageManifest(),
+                    rootPackageContext.project().sourceRoot());
+        }
+        Project project = moduleContext.project();
+        return ModuleCacheKey.platformKey(project.currentPackage().manifest(), project.sourceRoot());
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
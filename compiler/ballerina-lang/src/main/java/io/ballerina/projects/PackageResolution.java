@@ -214,6 +214,13 @@ public class PackageResolution {
     }
 
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
+        // Module load requests are read from the syntax trees of the documents
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            moduleContexts.add(rootPackageContext.moduleContext(moduleId));
+        }
+        ModuleContext.parseInParallel(moduleContexts);
+
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
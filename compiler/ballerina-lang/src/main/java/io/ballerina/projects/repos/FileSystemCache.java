@@ -25,14 +25,19 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * An implementation of the {@code PackageCompilationCache} that is aware of the file system structure.
@@ -47,13 +52,27 @@ import java.util.Optional;
  * - mod2.bir
  * - jar
  * - org-package-name-version.jar
+ * - incremental
+ * - mod1.key
+ * - cache-key
+ * - mod1.bir
+ * - jar
+ * - org-package-name-mod1-version.jar
+ * <p>
+ * The incremental directory holds the BIR and the libraries of modules by the cache key of their sources. Only the
+ * entry of the latest cache key of a module is kept, and the key file of the module refers to it.
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String CACHE_KEY_FILE_EXT = ".key";
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
+    private Path incrementalCachePath;
+    private final Set<String> failedCacheKeys = new HashSet<>();
+    private final PrintStream err = System.err;
 
     public FileSystemCache(Project project, Path cacheDirPath) {
         super(project);
@@ -91,6 +110,54 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public byte[] getBir(ModuleName moduleName, String cacheKey) {
+        Path birFilePath = getIncrementalCachePath().resolve(cacheKey)
+                .resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        if (!Files.exists(birFilePath)) {
+            return new byte[0];
+        }
+
+        try {
+            return Files.readAllBytes(birFilePath);
+        } catch (IOException e) {
+            // The module is compiled from its sources instead
+            err.println("\twarning: Failed to read the cached bir of module '" + moduleName + "' due to: " +
+                    e.getMessage());
+            return new byte[0];
+        }
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, String cacheKey, ByteArrayOutputStream birContent) {
+        if (failedCacheKeys.contains(cacheKey)) {
+            return;
+        }
+
+        Path entryPath = getIncrementalCachePath().resolve(cacheKey);
+        Path birFilePath = entryPath.resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        Path keyFilePath = getIncrementalCachePath().resolve(moduleName.toString() + CACHE_KEY_FILE_EXT);
+        try {
+            Files.createDirectories(entryPath);
+            // The BIR is written last, so that an entry having a BIR is complete
+            Path tempBirFile = entryPath.resolve(".tmp");
+            Files.write(tempBirFile, birContent.toByteArray());
+            Files.move(tempBirFile, birFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+            if (Files.exists(keyFilePath)) {
+                String previousCacheKey = Files.readString(keyFilePath).trim();
+                if (!previousCacheKey.equals(cacheKey)) {
+                    ProjectUtils.deleteDirectory(getIncrementalCachePath().resolve(previousCacheKey));
+                }
+            }
+            Files.writeString(keyFilePath, cacheKey);
+        } catch (IOException e) {
+            // The module is compiled from its sources in the next build instead
+            err.println("\twarning: Failed to cache the bir of module '" + moduleName + "' due to: " + e.getMessage());
+            ProjectUtils.deleteDirectory(entryPath);
+        }
+    }
+
     @Override
     public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
         String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
@@ -118,6 +185,47 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                     String libraryName,
+                                                     String cacheKey) {
+        if (failedCacheKeys.contains(cacheKey)) {
+            return getPlatformSpecificLibrary(compilerBackend, libraryName);
+        }
+
+        String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
+        Path jarFilePath = getIncrementalCachePath().resolve(cacheKey)
+                .resolve(compilerBackend.targetPlatform().code()).resolve(libraryFileName);
+        return Files.exists(jarFilePath) ? Optional.of(jarFilePath) : Optional.empty();
+    }
+
+    @Override
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                             String libraryName,
+                                             String cacheKey,
+                                             ByteArrayOutputStream libraryContent) {
+        if (failedCacheKeys.contains(cacheKey)) {
+            cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            return;
+        }
+
+        String libraryFileName = libraryName + compilerBackend.libraryFileExtension();
+        Path entryPath = getIncrementalCachePath().resolve(cacheKey);
+        Path targetPlatformCacheDirPath = entryPath.resolve(compilerBackend.targetPlatform().code());
+        Path jarFilePath = targetPlatformCacheDirPath.resolve(libraryFileName);
+        try {
+            Files.createDirectories(targetPlatformCacheDirPath);
+            Files.write(jarFilePath, libraryContent.toByteArray());
+        } catch (IOException e) {
+            // The libraries of the module are kept with the ones of non-incremental builds for this build, and the
+            // module is compiled from its sources in the next build
+            err.println("\twarning: Failed to cache library '" + jarFilePath + "' due to: " + e.getMessage());
+            failedCacheKeys.add(cacheKey);
+            ProjectUtils.deleteDirectory(entryPath);
+            cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+        }
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -145,6 +253,15 @@ public class FileSystemCache extends CompilationCache {
         return birPath;
     }
 
+    private Path getIncrementalCachePath() {
+        if (incrementalCachePath != null) {
+            return incrementalCachePath;
+        }
+
+        incrementalCachePath = packageCacheDirPath().resolve(ProjectConstants.INCREMENTAL_CACHE_DIR_NAME);
+        return incrementalCachePath;
+    }
+
     private Path packageCacheDirPath() {
         if (packageCacheDirPath != null) {
             return packageCacheDirPath;
@@ -92,6 +92,7 @@ public class ProjectConstants {
     public static final String REPO_BALA_DIR_NAME = TARGET_BALA_DIR_NAME;
     public static final String REPO_CACHE_DIR_NAME = "cache";
     public static final String REPO_BIR_CACHE_NAME = "bir";
+    public static final String INCREMENTAL_CACHE_DIR_NAME = "incremental";
 
     // Test framework related constants
     public static final String TEST_RUNTIME_JAR_PREFIX = "testerina-runtime-";
@@ -54,6 +54,8 @@ public enum CompilerOptionName {
 
     DUMP_BIR_FILE("dumpBIRFile"),
 
+    OPTIMIZATION_LEVEL("optimizationLevel"),
+
     CLOUD("cloud"),
 
     LOCK_ENABLED("lockEnabled"),
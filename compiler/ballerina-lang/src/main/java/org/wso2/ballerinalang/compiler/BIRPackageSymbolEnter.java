@@ -90,6 +90,8 @@ import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex.Section;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
 import org.wso2.ballerinalang.util.Flags;
@@ -97,7 +99,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -109,6 +111,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.COMPILED_SOURCE;
@@ -165,7 +168,8 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        // Each section is read as a view of the binary, found through the section table of the binary.
+        BPackageSymbol pkgSymbol = readPackage(packageId, ByteBuffer.wrap(packageBinaryContent));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -177,14 +181,15 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol readPackage(PackageID packageId, ByteBuffer packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.content = packageBinaryContent;
 
-            BPackageSymbol pkgSymbol = definePackage(dataInStream);
+            BPackageSymbol pkgSymbol = definePackage();
             this.env = prevEnv;
             return pkgSymbol;
         } catch (Throwable e) {
@@ -193,35 +198,25 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private BPackageSymbol definePackage(DataInputStream dataInStream) throws IOException {
-        byte[] magic = new byte[4];
-        dataInStream.read(magic, 0, 4);
-        if (!Arrays.equals(magic, BIRPackageFile.BIR_MAGIC)) {
-            // TODO dlog.error() with package name
-            throw new BLangCompilerException("invalid magic number " + Arrays.toString(magic));
-        }
-
-        int version = dataInStream.readInt();
-        if (version != BIRPackageFile.BIR_VERSION) {
-            // TODO dlog.error() with package name
-            throw new BLangCompilerException("unsupported program file version " + version);
-        }
+    private BPackageSymbol definePackage() throws IOException {
+        // Checks the magic value and the version of the binary as well.
+        this.env.sectionIndex = BIRSectionIndex.read(this.env.content);
 
         // Read constant pool entries of the package info.
-        this.env.constantPool = readConstantPool(dataInStream);
+        this.env.constantPool = readConstantPool(readSection(Section.CONSTANT_POOL));
 
-        int pkgCPIndex = dataInStream.readInt();
-        return definePackage(dataInStream, pkgCPIndex);
+        int pkgCPIndex = readSection(Section.MODULE).readInt();
+        return definePackage(pkgCPIndex);
     }
 
-    private BPackageSymbol definePackage(DataInputStream dataInStream, int pkgCpIndex) throws IOException {
+    private BPackageSymbol definePackage(int pkgCpIndex) throws IOException {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, moduleName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -229,31 +224,35 @@ public class BIRPackageSymbolEnter {
         // TODO Validate this pkdID with the requestedPackageID available in the env.
 
         // Define import packages.
-        defineSymbols(dataInStream, rethrow(this::defineImportPackage));
+        defineSymbols(readSection(Section.IMPORTS), rethrow(this::defineImportPackage));
 
         // Define constants.
-        defineSymbols(dataInStream, rethrow(this::defineConstant));
+        defineSymbols(readSection(Section.CONSTANTS), rethrow(this::defineConstant));
 
         // Define typeDescRef definitions.
         this.structureTypes = new ArrayList<>();
-        defineSymbols(dataInStream, rethrow(this::defineTypeDef));
+        defineSymbols(readSection(Section.TYPE_DEFS), rethrow(this::defineTypeDef));
 
         // Define package level variables.
-        defineSymbols(dataInStream, rethrow(this::definePackageLevelVariables));
+        defineSymbols(readSection(Section.GLOBAL_VARS), rethrow(this::definePackageLevelVariables));
 
-        readTypeDefBodies(dataInStream);
+        readTypeDefBodies(readSection(Section.TYPE_DEF_BODIES));
 
         // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        defineSymbols(readSection(Section.FUNCTIONS), rethrow(this::defineFunction));
 
         // Define annotations.
-        defineSymbols(dataInStream, rethrow(this::defineAnnotations));
+        defineSymbols(readSection(Section.ANNOTATIONS), rethrow(this::defineAnnotations));
 
         // Define service declarations
-        defineSymbols(dataInStream, rethrow(this::defineServiceDeclarations));
+        defineSymbols(readSection(Section.SERVICE_DECLS), rethrow(this::defineServiceDeclarations));
 
         populateReferencedFunctions();
 
+        // Only the constant pool is needed to read the documentation of the symbols from here on.
+        this.env.unparsedBTypeCPs = null;
+        this.env.sectionStream = null;
+        this.env.docAttachmentLoaded();
         this.typeReader = null;
         return this.env.pkgSymbol;
     }
@@ -300,10 +299,22 @@ public class BIRPackageSymbolEnter {
         this.currentStructure = null;
     }
 
+    /**
+     * Returns a stream of a section of the binary, found through the section table of the binary.
+     *
+     * @param section section to read
+     * @return stream of the section
+     */
+    private DataInputStream readSection(Section section) {
+        this.env.sectionStream = this.env.sectionIndex.getSectionStream(this.env.content, section);
+        return new DataInputStream(this.env.sectionStream);
+    }
+
     private CPEntry[] readConstantPool(DataInputStream dataInStream) throws IOException {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.unparsedStringCPs = new int[constantPoolSize];
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
@@ -323,18 +334,21 @@ public class BIRPackageSymbolEnter {
             case CP_ENTRY_BOOLEAN:
                 return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
             case CP_ENTRY_STRING:
+                int offset = env.sectionStream.position();
                 int length = dataInStream.readInt();
-                String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
                 // Therefore we read the UTF value only if the length >= 0.
-                if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                if (length < 0) {
+                    return new CPEntry.StringCPEntry(null);
                 }
-                return new CPEntry.StringCPEntry(strValue);
+
+                // Most of the strings are only used by function bodies and documentation, which are not read
+                // here. So strings are only decoded when they are first looked up.
+                env.unparsedStringCPs[i] = offset;
+                dataInStream.skipBytes(length);
+                return null;
             case CP_ENTRY_PACKAGE:
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
@@ -546,39 +560,56 @@ public class BIRPackageSymbolEnter {
         tsymbol.returnType = invokableType.retType;
     }
 
-    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) throws IOException {
-        DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes));
-        boolean docPresent = dataInStream.readBoolean();
+    private void defineMarkDownDocAttachment(BSymbol symbol, byte[] docBytes) {
+        boolean docPresent = docBytes.length > 0 && docBytes[0] != 0;
         if (!docPresent) {
             return;
         }
 
-        int descCPIndex = dataInStream.readInt();
-        int retDescCPIndex = dataInStream.readInt();
-        int paramLength = dataInStream.readInt();
-        MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
-
-        markdownDocAttachment.description = descCPIndex >= 0 ? getStringCPEntryValue(descCPIndex) : null;
-        markdownDocAttachment.returnValueDescription
-                = retDescCPIndex >= 0 ? getStringCPEntryValue(retDescCPIndex) : null;
-        readAndSetParamDocumentation(dataInStream, markdownDocAttachment.parameters, paramLength);
-
-        int deprecatedDescCPIndex = dataInStream.readInt();
-        int deprecatedParamLength = dataInStream.readInt();
-        markdownDocAttachment.deprecatedDocumentation = deprecatedDescCPIndex >= 0
-                ? getStringCPEntryValue(deprecatedDescCPIndex) : null;
-        readAndSetParamDocumentation(dataInStream, markdownDocAttachment.deprecatedParams, deprecatedParamLength);
+        // Documentation is only needed by tooling, so it is read when it is first looked up.
+        BIRPackageSymbolEnv symbolEnv = this.env;
+        symbolEnv.pendingDocAttachments.incrementAndGet();
+        symbol.setMarkdownDocAttachmentLoader(() -> readMarkDownDocAttachment(symbolEnv, docBytes));
+    }
 
-        symbol.markdownDocumentation = markdownDocAttachment;
+    private static MarkdownDocAttachment readMarkDownDocAttachment(BIRPackageSymbolEnv symbolEnv, byte[] docBytes) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(docBytes))) {
+            // Skip the flag denoting the presence of the documentation.
+            dataInStream.readBoolean();
+
+            int descCPIndex = dataInStream.readInt();
+            int retDescCPIndex = dataInStream.readInt();
+            int paramLength = dataInStream.readInt();
+            MarkdownDocAttachment markdownDocAttachment = new MarkdownDocAttachment(paramLength);
+
+            markdownDocAttachment.description = descCPIndex >= 0 ? symbolEnv.getStringCPEntryValue(descCPIndex) : null;
+            markdownDocAttachment.returnValueDescription
+                    = retDescCPIndex >= 0 ? symbolEnv.getStringCPEntryValue(retDescCPIndex) : null;
+            readAndSetParamDocumentation(symbolEnv, dataInStream, markdownDocAttachment.parameters, paramLength);
+
+            int deprecatedDescCPIndex = dataInStream.readInt();
+            int deprecatedParamLength = dataInStream.readInt();
+            markdownDocAttachment.deprecatedDocumentation = deprecatedDescCPIndex >= 0
+                    ? symbolEnv.getStringCPEntryValue(deprecatedDescCPIndex) : null;
+            readAndSetParamDocumentation(symbolEnv, dataInStream, markdownDocAttachment.deprecatedParams,
+                                         deprecatedParamLength);
+            return markdownDocAttachment;
+        } catch (IOException e) {
+            throw new BLangCompilerException("failed to read the documentation of a symbol of the module '" +
+                                                     symbolEnv.pkgSymbol.pkgID + "'", e);
+        } finally {
+            symbolEnv.docAttachmentLoaded();
+        }
     }
 
-    private void readAndSetParamDocumentation(DataInputStream inputStream, List<MarkdownDocAttachment.Parameter> params,
-                                              int nParams) throws IOException {
+    private static void readAndSetParamDocumentation(BIRPackageSymbolEnv symbolEnv, DataInputStream inputStream,
+                                                     List<MarkdownDocAttachment.Parameter> params, int nParams)
+            throws IOException {
         for (int i = 0; i < nParams; i++) {
             int nameCPIndex = inputStream.readInt();
             int paramDescCPIndex = inputStream.readInt();
-            String name = nameCPIndex >= 0 ? getStringCPEntryValue(nameCPIndex) : null;
-            String description = paramDescCPIndex >= 0 ? getStringCPEntryValue(paramDescCPIndex) : null;
+            String name = nameCPIndex >= 0 ? symbolEnv.getStringCPEntryValue(nameCPIndex) : null;
+            String description = paramDescCPIndex >= 0 ? symbolEnv.getStringCPEntryValue(paramDescCPIndex) : null;
             MarkdownDocAttachment.Parameter parameter = new MarkdownDocAttachment.Parameter(name, description);
             params.add(parameter);
         }
@@ -938,13 +969,11 @@ public class BIRPackageSymbolEnter {
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
-        return stringCPEntry.value;
+        return this.env.getStringCPEntryValue(pkgNameCPIndex);
     }
 
-    private String getStringCPEntryValue(int cpIndex) throws IOException {
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
-        return stringCPEntry.value;
+    private String getStringCPEntryValue(int cpIndex) {
+        return this.env.getStringCPEntryValue(cpIndex);
     }
 
     private long getIntCPEntryValue(DataInputStream dataInStream) throws IOException {
@@ -987,10 +1016,44 @@ public class BIRPackageSymbolEnter {
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
+        ByteBuffer content;
+        // Stream of the section being read.
+        BIRSectionIndex.SectionInputStream sectionStream;
+        BIRSectionIndex sectionIndex;
+        // Offsets in the content of the strings in the constant pool that are not decoded yet.
+        int[] unparsedStringCPs;
+        // Documentation attachments that are yet to be read, and one more until all the symbols are defined.
+        final AtomicInteger pendingDocAttachments = new AtomicInteger(1);
 
         BIRPackageSymbolEnv() {
             this.unresolvedTypes = new ArrayList<>();
         }
+
+        void docAttachmentLoaded() {
+            if (pendingDocAttachments.decrementAndGet() > 0) {
+                return;
+            }
+
+            // Each documentation attachment is read only once, hence the content of the package is not needed anymore.
+            this.content = null;
+            this.constantPool = null;
+            this.unparsedStringCPs = null;
+        }
+
+        String getStringCPEntryValue(int cpIndex) {
+            StringCPEntry stringCPEntry = (StringCPEntry) constantPool[cpIndex];
+            if (stringCPEntry == null) {
+                int offset = unparsedStringCPs[cpIndex];
+                int length = content.getInt(offset);
+                byte[] value = new byte[length];
+                ByteBuffer valueBuffer = content.duplicate();
+                valueBuffer.position(offset + 4);
+                valueBuffer.get(value);
+                stringCPEntry = new StringCPEntry(new String(value));
+                constantPool[cpIndex] = stringCPEntry;
+            }
+            return stringCPEntry.value;
+        }
     }
 
     private static class UnresolvedType {
@@ -1647,10 +1710,10 @@ public class BIRPackageSymbolEnter {
 
     private PackageID getPackageId(int pkgCPIndex) {
         PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String moduleName = ((StringCPEntry) env.constantPool[pkgCpEntry.moduleNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String moduleName = getStringCPEntryValue(pkgCpEntry.moduleNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(names.fromString(orgName), names.fromString(pkgName),
                 names.fromString(moduleName), names.fromString(version), null);
     }
@@ -280,7 +280,7 @@ public class BIRGen extends BLangNodeVisitor {
                     testPkg.imports.remove(mod);
                 }
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
+                this.birOptimizer.optimizeTestablePackage(testBirPkg);
                 testPkg.symbol.bir = testBirPkg;
                 Map<String, String> mockFunctionMap = astPkg.getTestablePkg().getMockFunctionNamesMap();
                 if (!mockFunctionMap.isEmpty()) {
@@ -436,7 +436,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(astTypeDefinition.symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(astTypeDefinition.symbol.getMarkdownDocAttachment());
         populateBIRAnnotAttachments(astTypeDefinition.annAttachments, typeDef.annotAttachments, this.env);
 
         if (astTypeDefinition.typeNode.getKind() == NodeKind.RECORD_TYPE ||
@@ -469,7 +469,7 @@ public class BIRGen extends BLangNodeVisitor {
                 );
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -511,7 +511,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclPkg.typeDefs.add(typeDef);
         typeDef.index = this.env.enclPkg.typeDefs.size() - 1;
 
-        typeDef.setMarkdownDocAttachment(classDefinition.symbol.markdownDocumentation);
+        typeDef.setMarkdownDocAttachment(classDefinition.symbol.getMarkdownDocAttachment());
 
         for (BLangType typeRef : classDefinition.typeRefs) {
             typeDef.referencedTypes.add(typeRef.getBType());
@@ -529,7 +529,7 @@ public class BIRGen extends BLangNodeVisitor {
                 birFunc.receiver = getSelf(funcSymbol.receiverSymbol);
             }
 
-            birFunc.setMarkdownDocAttachment(funcSymbol.markdownDocumentation);
+            birFunc.setMarkdownDocAttachment(funcSymbol.getMarkdownDocAttachment());
 
             int defaultableParamsCount = 0;
             birFunc.argsCount = funcSymbol.params.size() + defaultableParamsCount +
@@ -557,7 +557,7 @@ public class BIRGen extends BLangNodeVisitor {
                 new BIRNode.BIRServiceDeclaration(attachPoint, attachPointLiteral, symbol.getListenerTypes(),
                         symbol.name, symbol.getAssociatedClassSymbol().name, symbol.type,
                         symbol.origin, symbol.flags, symbol.pos);
-        serviceDecl.setMarkdownDocAttachment(symbol.markdownDocumentation);
+        serviceDecl.setMarkdownDocAttachment(symbol.getMarkdownDocAttachment());
         this.env.enclPkg.serviceDecls.add(serviceDecl);
     }
 
@@ -576,7 +576,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                   type, constantValue, constantSymbol.origin.toBIROrigin());
         birConstant.constValue = constantValue;
 
-        birConstant.setMarkdownDocAttachment(astConstant.symbol.markdownDocumentation);
+        birConstant.setMarkdownDocAttachment(astConstant.symbol.getMarkdownDocAttachment());
 
         // Add the constant to the package.
         this.env.enclPkg.constants.add(birConstant);
@@ -640,7 +640,7 @@ public class BIRGen extends BLangNodeVisitor {
             birFunc.receiver = getSelf(astFunc.receiver.symbol);
         }
 
-        birFunc.setMarkdownDocAttachment(astFunc.symbol.markdownDocumentation);
+        birFunc.setMarkdownDocAttachment(astFunc.symbol.getMarkdownDocAttachment());
 
         //create channelDetails array
         int i = 0;
@@ -940,7 +940,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                  annSymbol.flags, annSymbol.points,
                                                  annSymbol.attachedType == null ? symTable.trueType :
                                                          annSymbol.attachedType, annSymbol.origin.toBIROrigin());
-        birAnn.setMarkdownDocAttachment(annSymbol.markdownDocumentation);
+        birAnn.setMarkdownDocAttachment(annSymbol.getMarkdownDocAttachment());
         this.env.enclPkg.annotations.add(birAnn);
     }
 
@@ -1210,7 +1210,7 @@ public class BIRGen extends BLangNodeVisitor {
                                                                   names.fromString(originalName), VarScope.GLOBAL,
                                                                   VarKind.GLOBAL, varNode.name.value,
                                                                   varNode.symbol.origin.toBIROrigin());
-        birVarDcl.setMarkdownDocAttachment(varNode.symbol.markdownDocumentation);
+        birVarDcl.setMarkdownDocAttachment(varNode.symbol.getMarkdownDocAttachment());
 
         this.env.enclPkg.globalVars.add(birVarDcl);
 
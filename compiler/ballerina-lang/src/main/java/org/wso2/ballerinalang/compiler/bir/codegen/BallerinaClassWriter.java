@@ -20,17 +20,41 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.objectweb.asm.ClassWriter;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class Writer for generating ballerina classes.
  * <p>
+ * Stack map frames of the generated classes are computed by ASM rather than emitted by the JVM backend. Emitting them
+ * directly would need the types of the locals and the operand stack at every label of the generated code, including
+ * the labels that the instruction, cast and terminator generators add within a single BIR instruction, and the
+ * backend does not track that state. The cost of computing the frames is mostly in resolving the common super types of
+ * merged types, which is kept down with a {@link ClassHierarchyCache}.
+ * <p>
  * since 1.2.0
  */
 public class BallerinaClassWriter extends ClassWriter {
 
     private static final String OBJECT_CLASS = "java/lang/Object";
 
+    private final ClassHierarchyCache classHierarchyCache;
+
     public BallerinaClassWriter(int flags) {
+        this(flags, new ClassHierarchyCache());
+    }
+
+    /**
+     * Creates a class writer that resolves the common super types with the given cache, which can be shared with the
+     * other writers of the same module.
+     *
+     * @param flags               option flags of the writer
+     * @param classHierarchyCache cache of the loaded classes and common super types
+     */
+    public BallerinaClassWriter(int flags, ClassHierarchyCache classHierarchyCache) {
         super(flags);
+        this.classHierarchyCache = classHierarchyCache;
     }
 
     /**
@@ -41,22 +65,30 @@ public class BallerinaClassWriter extends ClassWriter {
     @Override
     protected String getCommonSuperClass(String type1, String type2) {
 
-        ClassLoader classLoader = getClassLoader();
-        Class<?> class1;
+        if (type1.equals(type2)) {
+            return type1;
+        }
+        if (OBJECT_CLASS.equals(type1) || OBJECT_CLASS.equals(type2)) {
+            return OBJECT_CLASS;
+        }
+        return classHierarchyCache.commonSuperClasses.computeIfAbsent(type1 + ";" + type2,
+                                                                     key -> computeCommonSuperClass(type1, type2));
+    }
+
+    private String computeCommonSuperClass(String type1, String type2) {
 
-        try {
-            class1 = Class.forName(type1.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Optional<Class<?>> loadedClass1 = loadClass(type1);
+        if (loadedClass1.isEmpty()) {
             return OBJECT_CLASS;
         }
 
-        Class<?> class2;
-        try {
-            class2 = Class.forName(type2.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Optional<Class<?>> loadedClass2 = loadClass(type2);
+        if (loadedClass2.isEmpty()) {
             return OBJECT_CLASS;
         }
 
+        Class<?> class1 = loadedClass1.get();
+        Class<?> class2 = loadedClass2.get();
         if (class1.isAssignableFrom(class2)) {
             return type1;
         } else if (class2.isAssignableFrom(class1)) {
@@ -72,4 +104,33 @@ public class BallerinaClassWriter extends ClassWriter {
 
         return class1.getName().replace('.', '/');
     }
+
+    private Optional<Class<?>> loadClass(String type) {
+
+        ClassLoader classLoader = getClassLoader();
+        return classHierarchyCache.loadedClasses.computeIfAbsent(type, key -> {
+            try {
+                return Optional.of(Class.forName(type.replace('/', '.'), false, classLoader));
+            } catch (Exception e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Caches the classes loaded and the common super types computed while computing frames. Frames of every generated
+     * method are computed with the common super types of the types merged at its branch targets, and the same few
+     * pairs of types come up again and again. The loaded classes are cached as well, since resolving a generated
+     * class, which is never found, costs an exception.
+     * <p>
+     * A cache is meant to be shared by the writers of a single module only, so that it does not outlive the classes
+     * generated for the module. It is safe to use from multiple threads.
+     *
+     * @since 2.0.0
+     */
+    public static final class ClassHierarchyCache {
+
+        private final Map<String, Optional<Class<?>>> loadedClasses = new ConcurrentHashMap<>();
+        private final Map<String, String> commonSuperClasses = new ConcurrentHashMap<>();
+    }
 }
@@ -53,6 +53,8 @@ public class JvmConstants {
     public static final String B_STRING_VALUE = "io/ballerina/runtime/api/values/BString";
     public static final String NON_BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/NonBmpStringValue";
     public static final String BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/BmpStringValue";
+    public static final String STRING_INTERNER = "io/ballerina/runtime/internal/values/StringInterner";
+    public static final String INTERN_METHOD = "intern";
     public static final String LONG_VALUE = "java/lang/Long";
     public static final String BYTE_VALUE = "java/lang/Byte";
     public static final String SHORT_VALUE = "java/lang/Short";
@@ -329,6 +331,11 @@ public class JvmConstants {
     public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
     public static final String GLOBAL_LOCK_NAME = "lock";
+    public static final String GET_LOCK_METHOD = "getLock";
+    public static final String LOCK_METHOD = "lock";
+    public static final String LOCK_SHARED_METHOD = "lockShared";
+    public static final String UNLOCK_METHOD = "unlock";
+    public static final String UNLOCK_SHARED_METHOD = "unlockShared";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
     public static final String RECORD_INIT_WRAPPER_NAME = "$init";
@@ -344,6 +351,8 @@ public class JvmConstants {
     public static final String SCHEDULE_LOCAL_METHOD = "scheduleLocal";
     public static final String SCHEDULE_TRANSACTIONAL_LOCAL_METHOD = "scheduleTransactionalLocal";
     public static final String SCHEDULER_START_METHOD = "start";
+    public static final String PUSH_FRAME_METHOD = "pushFrame";
+    public static final String POP_FRAME_METHOD = "popFrame";
     public static final String CREATE_RECORD_VALUE = "createRecordValue";
     public static final String CREATE_OBJECT_VALUE = "createObjectValue";
     public static final String CREATE_ERROR_VALUE = "createErrorValue";
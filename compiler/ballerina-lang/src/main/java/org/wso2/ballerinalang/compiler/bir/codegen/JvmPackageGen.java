@@ -30,6 +30,7 @@ import org.objectweb.asm.MethodTooLargeException;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter.ClassHierarchyCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JavaClass;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
@@ -394,10 +395,15 @@ public class JvmPackageGen {
                                        JvmConstantsGen jvmConstantsGen,
                                        Map<String, JavaClass> jvmClassMapping, List<PackageID> moduleImports,
                                        boolean serviceEPAvailable, TypeHashVisitor typeHashVisitor) {
+        // Classes are generated one after the other, with their frames, which ASM computes as each method ends. The
+        // methods of all the classes register constants with the module's constant generators, which name them in the
+        // order they are first used, and share the counters of the init method generator and the diagnostic log.
+        // The classes of a module merge the same types at their branch targets, so their writers share the cache.
+        ClassHierarchyCache classHierarchyCache = new ClassHierarchyCache();
         jvmClassMapping.entrySet().forEach(entry -> {
             String moduleClass = entry.getKey();
             JavaClass javaClass = entry.getValue();
-            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+            ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES, classHierarchyCache);
             AsyncDataCollector asyncDataCollector = new AsyncDataCollector(moduleClass);
             boolean isInitClass = Objects.equals(moduleClass, moduleInitClass);
             JvmTypeGen jvmTypeGen = new JvmTypeGen(jvmConstantsGen, module.packageID, typeHashVisitor);
@@ -210,8 +210,7 @@ public class JvmSignatures {
     public static final String GET_JSTRING = "()L" + STRING_VALUE + ";";
     public static final String GET_LISTENER_REGISTRY = "L" + JvmConstants.LISTENER_REGISTRY_CLASS + ";";
     public static final String GET_LISTENER_REGISTRY_CLASS = "()L" + LISTENER_REGISTRY_CLASS + ";";
-    public static final String GET_LOCK_FROM_MAP = "(L" + STRING_VALUE + ";)L" + LOCK_VALUE + ";";
-    public static final String GET_LOCK_MAP = "(L" + STRING_VALUE + ";)L" + LOCK_VALUE + ";";
+    public static final String GET_LOCK = "(I)L" + LOCK_VALUE + ";";
     public static final String GET_MAIN_ARGS = "()[L" + OBJECT + ";";
     public static final String GET_MAP_ARRAY = "[L" + MAP_VALUE + ";";
     public static final String GET_MAP_VALUE = "L" + MAP_VALUE + ";";
@@ -348,12 +347,13 @@ public class JvmSignatures {
     public static final String POPULATE_ATTACHED_FUNCTION = "([L" + METHOD_TYPE_IMPL + ";)V";
     public static final String POPULATE_CONFIG_DATA = "()[L" + VARIABLE_KEY + ";";
     public static final String POPULATE_INITIAL_VALUES = "([L" + B_MAPPING_INITIAL_VALUE_ENTRY + ";)V";
+    public static final String POP_FRAME = "()L" + OBJECT + ";";
     public static final String PROCESS_ANNOTATIONS = "(L" + MAP_VALUE + ";L" + TYPE + ";)V";
     public static final String PROCESS_FP_ANNOTATIONS =
             "(L" + FUNCTION_POINTER + ";L" + MAP_VALUE + ";L" + STRING_VALUE + ";)V";
     public static final String PROCESS_OBJ_CTR_ANNOTATIONS =
             "(L" + OBJECT_TYPE_IMPL + ";L" + MAP_VALUE + ";L" + STRAND_CLASS + ";)V";
-    public static final String PUT_FRAMES = "[L" + OBJECT + ";";
+    public static final String PUSH_FRAME = "(L" + OBJECT + ";)V";
     public static final String RECORD_GET = "(L" + STRING_VALUE + ";L" + OBJECT + ";)L" + OBJECT + ";";
     public static final String RECORD_GET_KEYS = "()[L" + OBJECT + ";";
     public static final String RECORD_INIT = "(L" + TYPE + ";)V";
@@ -416,6 +416,7 @@ public class JvmSignatures {
     public static final String TUPLE_SET_MEMBERS_METHOD = "(L" + LIST + ";L" + TYPE + ";)V";
     public static final String TWO_OBJECTS_ARGS = "(L" + OBJECT + ";L" + OBJECT + ";)V";
     public static final String TYPE_DESC_CONSTRUCTOR = "(L" + TYPE + ";[L" + MAP_VALUE + ";)V";
+    public static final String UNLOCK_SHARED = "(L" + STRAND_CLASS + ";)V";
     public static final String UPDATE_CHANNEL_DETAILS = "([L" + CHANNEL_DETAILS + ";)V";
     public static final String VALUE_CLASS_INIT = "(L" + STRAND_CLASS + ";L" + MAP_VALUE + ";)L" + OBJECT + ";";
     public static final String VALUE_OF_DECIMAL = "(D)L" + BIG_DECIMAL + ";";
@@ -49,18 +49,19 @@ import static org.objectweb.asm.Opcodes.NEWARRAY;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.T_INT;
 import static org.objectweb.asm.Opcodes.V1_8;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_INIT_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VAR_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INTERN_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_STRINGS_PER_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STRING_CONSTANT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NON_BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_INTERNER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.FROM_STRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BSTRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_NON_BMP_STRING_VALUE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_WITH_STRING;
 
 /**
  * Generates Jvm class for the ballerina string constants for given module.
@@ -160,11 +161,9 @@ public class JvmBStringConstantsGen {
     }
 
     private void createBmpString(MethodVisitor mv, String val, String varName) {
-        mv.visitTypeInsn(NEW, BMP_STRING_VALUE);
-        mv.visitInsn(DUP);
+        // Interned, so that the modules share the keys of the maps and records, which are then matched by identity.
         mv.visitLdcInsn(val);
-        mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, JVM_INIT_METHOD,
-                           INIT_WITH_STRING, false);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_INTERNER, INTERN_METHOD, FROM_STRING, false);
         mv.visitFieldInsn(Opcodes.PUTSTATIC, stringConstantsClass, varName, GET_BSTRING);
     }
 
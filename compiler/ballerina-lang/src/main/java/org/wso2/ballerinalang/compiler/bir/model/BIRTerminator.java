@@ -352,6 +352,11 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        /**
+         * Whether the locked region only reads the lock variables, allowing the lock to be shared.
+         */
+        public boolean readOnly;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
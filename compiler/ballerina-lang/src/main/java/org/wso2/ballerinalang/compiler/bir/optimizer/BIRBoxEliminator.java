@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorSpreadFieldEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FPLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps int, float, boolean and byte values unboxed in local variables of union types.
+ * <p>
+ * A local or temporary variable of a union type, or of {@code any}, {@code anydata} or {@code json}, which is only
+ * assigned values of one of these basic types, and whose value is only cast back to that type or checked with a type
+ * test, never escapes the function as a boxed value. Such a variable is retyped to the basic type, which turns the
+ * boxing and unboxing casts into moves and the type tests into constants. As the fields of the frame classes are
+ * typed after the variables, the values also stay unboxed when the function yields.
+ *
+ * @since 2.0.0
+ */
+public class BIRBoxEliminator extends BIRVisitor {
+
+    private final Types types;
+    private final SymbolTable symTable;
+
+    public BIRBoxEliminator(Types types, SymbolTable symTable) {
+        this.types = types;
+        this.symTable = symTable;
+    }
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        Map<BIRVariableDcl, BType> unboxedTypes = new HashMap<>();
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if ((localVar.kind == VarKind.LOCAL || localVar.kind == VarKind.TEMP) && isBoxingType(localVar.type)) {
+                unboxedTypes.put(localVar, null);
+            }
+        }
+        if (unboxedTypes.isEmpty()) {
+            return;
+        }
+
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(birFunction.basicBlocks);
+        for (List<BIRBasicBlock> paramBBs : birFunction.parameters.values()) {
+            basicBlocks.addAll(paramBBs);
+        }
+
+        Set<BIRVariableDcl> escapedVars = new HashSet<>();
+        List<TypeTest> typeTests = new ArrayList<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                analyzeInstruction(ins, unboxedTypes, escapedVars, typeTests);
+            }
+            if (bb.terminator != null) {
+                addOperands(bb.terminator.lhsOp, bb.terminator.getRhsOperands(), unboxedTypes, escapedVars);
+            }
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            escapedVars.add(errorEntry.errorOp.variableDcl);
+        }
+
+        // Variables which are neither assigned nor read a value of a basic type are left as they are.
+        unboxedTypes.values().removeIf(type -> type == null);
+        unboxedTypes.keySet().removeAll(escapedVars);
+        for (TypeTest typeTest : typeTests) {
+            BType unboxedType = unboxedTypes.get(typeTest.rhsOp.variableDcl);
+            if (unboxedType != null && !this.types.isAssignable(unboxedType, typeTest.type)) {
+                // The result depends on the value, e.g. for a finite type, hence the value is kept boxed.
+                unboxedTypes.remove(typeTest.rhsOp.variableDcl);
+            }
+        }
+        if (unboxedTypes.isEmpty()) {
+            return;
+        }
+
+        for (BIRBasicBlock bb : basicBlocks) {
+            List<BIRNonTerminator> instructions = bb.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator ins = instructions.get(i);
+                BIRNonTerminator unboxedIns = unbox(ins, unboxedTypes);
+                if (unboxedIns != ins) {
+                    unboxedIns.scope = ins.scope;
+                    instructions.set(i, unboxedIns);
+                }
+            }
+        }
+        unboxedTypes.forEach((var, type) -> var.type = type);
+    }
+
+    private void analyzeInstruction(BIRNonTerminator ins, Map<BIRVariableDcl, BType> unboxedTypes,
+                                    Set<BIRVariableDcl> escapedVars, List<TypeTest> typeTests) {
+        if (ins.kind == InstructionKind.TYPE_CAST) {
+            TypeCast typeCast = (TypeCast) ins;
+            BIRVariableDcl lhsVar = typeCast.lhsOp.variableDcl;
+            BIRVariableDcl rhsVar = typeCast.rhsOp.variableDcl;
+            if (unboxedTypes.containsKey(lhsVar)) {
+                // Boxing of a value of a basic type.
+                addUnboxedType(lhsVar, rhsVar.type, unboxedTypes, escapedVars);
+            }
+            if (unboxedTypes.containsKey(rhsVar)) {
+                // Unboxing of the value.
+                addUnboxedType(rhsVar, typeCast.type, unboxedTypes, escapedVars);
+            }
+            return;
+        }
+
+        if (ins.kind == InstructionKind.TYPE_TEST) {
+            TypeTest typeTest = (TypeTest) ins;
+            if (unboxedTypes.containsKey(typeTest.rhsOp.variableDcl)) {
+                typeTests.add(typeTest);
+            }
+            if (unboxedTypes.containsKey(typeTest.lhsOp.variableDcl)) {
+                escapedVars.add(typeTest.lhsOp.variableDcl);
+            }
+            return;
+        }
+
+        addOperands(ins.lhsOp, ins.getRhsOperands(), unboxedTypes, escapedVars);
+        // The operands of the initial values and the parameters of lambdas are not part of the rhs operands.
+        if (ins.kind == InstructionKind.NEW_STRUCTURE) {
+            for (BIRMappingConstructorEntry initialValue : ((NewStructure) ins).initialValues) {
+                if (initialValue.isKeyValuePair()) {
+                    escapedVars.add(((BIRMappingConstructorKeyValueEntry) initialValue).keyOp.variableDcl);
+                    escapedVars.add(((BIRMappingConstructorKeyValueEntry) initialValue).valueOp.variableDcl);
+                } else {
+                    escapedVars.add(((BIRMappingConstructorSpreadFieldEntry) initialValue).exprOp.variableDcl);
+                }
+            }
+        } else if (ins.kind == InstructionKind.FP_LOAD) {
+            escapedVars.addAll(((FPLoad) ins).params);
+        }
+    }
+
+    private void addOperands(BIROperand lhsOp, BIROperand[] rhsOperands, Map<BIRVariableDcl, BType> unboxedTypes,
+                             Set<BIRVariableDcl> escapedVars) {
+        // Any other use or assignment may expose the boxed value.
+        if (lhsOp != null && unboxedTypes.containsKey(lhsOp.variableDcl)) {
+            escapedVars.add(lhsOp.variableDcl);
+        }
+        for (BIROperand rhsOp : rhsOperands) {
+            if (rhsOp != null && unboxedTypes.containsKey(rhsOp.variableDcl)) {
+                escapedVars.add(rhsOp.variableDcl);
+            }
+        }
+    }
+
+    private void addUnboxedType(BIRVariableDcl var, BType type, Map<BIRVariableDcl, BType> unboxedTypes,
+                                Set<BIRVariableDcl> escapedVars) {
+        BType unboxedType = getUnboxedType(type);
+        BType currentType = unboxedTypes.get(var);
+        if (unboxedType == null || (currentType != null && currentType != unboxedType)) {
+            escapedVars.add(var);
+            return;
+        }
+        unboxedTypes.put(var, unboxedType);
+    }
+
+    private BIRNonTerminator unbox(BIRNonTerminator ins, Map<BIRVariableDcl, BType> unboxedTypes) {
+        if (ins.kind == InstructionKind.TYPE_CAST) {
+            TypeCast typeCast = (TypeCast) ins;
+            if (unboxedTypes.containsKey(typeCast.lhsOp.variableDcl) ||
+                    unboxedTypes.containsKey(typeCast.rhsOp.variableDcl)) {
+                return new Move(typeCast.pos, typeCast.rhsOp, typeCast.lhsOp);
+            }
+        } else if (ins.kind == InstructionKind.TYPE_TEST) {
+            TypeTest typeTest = (TypeTest) ins;
+            if (unboxedTypes.containsKey(typeTest.rhsOp.variableDcl)) {
+                return new ConstantLoad(typeTest.pos, true, this.symTable.booleanType, typeTest.lhsOp);
+            }
+        }
+        return ins;
+    }
+
+    private boolean isBoxingType(BType type) {
+        switch (type.tag) {
+            case TypeTags.UNION:
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private BType getUnboxedType(BType type) {
+        // Subtypes of int are left out, as they are represented as int values.
+        switch (type.tag) {
+            case TypeTags.INT:
+                return this.symTable.intType;
+            case TypeTags.FLOAT:
+                return this.symTable.floatType;
+            case TypeTags.BOOLEAN:
+                return this.symTable.booleanType;
+            case TypeTags.BYTE:
+                return this.symTable.byteType;
+            default:
+                return null;
+        }
+    }
+}
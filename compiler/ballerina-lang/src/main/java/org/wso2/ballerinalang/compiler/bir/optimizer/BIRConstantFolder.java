@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds constants within basic blocks.
+ * <p>
+ * Integer arithmetic and comparisons on operands loaded as constants in the same basic block are replaced by constant
+ * loads, branches on constant conditions are replaced by jumps and type tests that are always true for the static
+ * type of the operand are replaced by constant loads. Operations that would panic at runtime, e.g. on overflow or
+ * division by zero, are left as they are. The instructions loading the operands are left for the
+ * {@link BIRDeadCodeEliminator} to remove once they are no longer used.
+ *
+ * @since 2.0.0
+ */
+public class BIRConstantFolder extends BIRVisitor {
+
+    private final Types types;
+    // Values of the variables last assigned a constant in the current basic block.
+    private final Map<BIRVariableDcl, Object> constants = new HashMap<>();
+
+    public BIRConstantFolder(Types types) {
+        this.types = types;
+    }
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        for (List<BIRBasicBlock> paramBBs : birFunction.parameters.values()) {
+            paramBBs.forEach(bb -> bb.accept(this));
+        }
+        birFunction.basicBlocks.forEach(bb -> bb.accept(this));
+    }
+
+    @Override
+    public void visit(BIRBasicBlock birBasicBlock) {
+        List<BIRNonTerminator> instructions = birBasicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator ins = instructions.get(i);
+            BIRNonTerminator folded = fold(ins);
+            if (folded != ins) {
+                instructions.set(i, folded);
+            }
+            if (folded.lhsOp == null) {
+                continue;
+            }
+
+            BIRVariableDcl lhsVar = folded.lhsOp.variableDcl;
+            Object value = getConstantValue(folded);
+            if (value != null && isTracked(lhsVar)) {
+                this.constants.put(lhsVar, value);
+            } else {
+                this.constants.remove(lhsVar);
+            }
+        }
+
+        BIRTerminator terminator = birBasicBlock.terminator;
+        if (terminator != null && terminator.kind == InstructionKind.BRANCH) {
+            Branch branch = (Branch) terminator;
+            Object condition = this.constants.get(branch.op.variableDcl);
+            if (condition instanceof Boolean) {
+                BIRBasicBlock targetBB = (Boolean) condition ? branch.trueBB : branch.falseBB;
+                birBasicBlock.terminator = new BIRTerminator.GOTO(branch.pos, targetBB, branch.scope);
+            }
+        }
+        this.constants.clear();
+    }
+
+    private Object getConstantValue(BIRNonTerminator ins) {
+        Object value;
+        if (ins.kind == InstructionKind.CONST_LOAD) {
+            value = ((ConstantLoad) ins).value;
+        } else if (ins.kind == InstructionKind.MOVE) {
+            value = this.constants.get(((Move) ins).rhsOp.variableDcl);
+        } else {
+            return null;
+        }
+
+        BType type = ins.lhsOp.variableDcl.type;
+        if ((value instanceof Long && type.tag == TypeTags.INT) ||
+                (value instanceof Boolean && type.tag == TypeTags.BOOLEAN)) {
+            return value;
+        }
+        return null;
+    }
+
+    private BIRNonTerminator fold(BIRNonTerminator ins) {
+        switch (ins.kind) {
+            case ADD:
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+            case EQUAL:
+            case NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+                return foldBinaryOp((BinaryOp) ins);
+            case NOT:
+            case NEGATE:
+                return foldUnaryOp((UnaryOP) ins);
+            case TYPE_TEST:
+                return foldTypeTest((TypeTest) ins);
+            default:
+                return ins;
+        }
+    }
+
+    private BIRNonTerminator foldBinaryOp(BinaryOp binaryOp) {
+        Object lhsValue = this.constants.get(binaryOp.rhsOp1.variableDcl);
+        Object rhsValue = this.constants.get(binaryOp.rhsOp2.variableDcl);
+        if (!(lhsValue instanceof Long) || !(rhsValue instanceof Long)) {
+            return binaryOp;
+        }
+
+        long lhs = (Long) lhsValue;
+        long rhs = (Long) rhsValue;
+        BType resultType = binaryOp.lhsOp.variableDcl.type;
+        Object result;
+        try {
+            switch (binaryOp.kind) {
+                case ADD:
+                    result = Math.addExact(lhs, rhs);
+                    break;
+                case SUB:
+                    result = Math.subtractExact(lhs, rhs);
+                    break;
+                case MUL:
+                    result = Math.multiplyExact(lhs, rhs);
+                    break;
+                case DIV:
+                    if (rhs == 0 || (lhs == Long.MIN_VALUE && rhs == -1)) {
+                        return binaryOp;
+                    }
+                    result = lhs / rhs;
+                    break;
+                case MOD:
+                    if (rhs == 0) {
+                        return binaryOp;
+                    }
+                    result = lhs % rhs;
+                    break;
+                case EQUAL:
+                    result = lhs == rhs;
+                    break;
+                case NOT_EQUAL:
+                    result = lhs != rhs;
+                    break;
+                case GREATER_THAN:
+                    result = lhs > rhs;
+                    break;
+                case GREATER_EQUAL:
+                    result = lhs >= rhs;
+                    break;
+                case LESS_THAN:
+                    result = lhs < rhs;
+                    break;
+                default:
+                    result = lhs <= rhs;
+                    break;
+            }
+        } catch (ArithmeticException e) {
+            // Overflows panic at runtime.
+            return binaryOp;
+        }
+
+        int expectedTag = result instanceof Long ? TypeTags.INT : TypeTags.BOOLEAN;
+        if (resultType.tag != expectedTag) {
+            return binaryOp;
+        }
+        return new ConstantLoad(binaryOp.pos, result, resultType, binaryOp.lhsOp);
+    }
+
+    private BIRNonTerminator foldUnaryOp(UnaryOP unaryOp) {
+        Object value = this.constants.get(unaryOp.rhsOp.variableDcl);
+        BType resultType = unaryOp.lhsOp.variableDcl.type;
+        if (unaryOp.kind == InstructionKind.NOT) {
+            if (!(value instanceof Boolean) || resultType.tag != TypeTags.BOOLEAN) {
+                return unaryOp;
+            }
+            return new ConstantLoad(unaryOp.pos, !(Boolean) value, resultType, unaryOp.lhsOp);
+        }
+
+        if (!(value instanceof Long) || resultType.tag != TypeTags.INT ||
+                unaryOp.rhsOp.variableDcl.type.tag != TypeTags.INT) {
+            return unaryOp;
+        }
+        return new ConstantLoad(unaryOp.pos, -(Long) value, resultType, unaryOp.lhsOp);
+    }
+
+    private BIRNonTerminator foldTypeTest(TypeTest typeTest) {
+        BType resultType = typeTest.lhsOp.variableDcl.type;
+        BIROperand rhsOp = typeTest.rhsOp;
+        if (resultType.tag != TypeTags.BOOLEAN || !this.types.isAssignable(rhsOp.variableDcl.type, typeTest.type)) {
+            return typeTest;
+        }
+        return new ConstantLoad(typeTest.pos, true, resultType, typeTest.lhsOp);
+    }
+
+    private boolean isTracked(BIRVariableDcl variableDcl) {
+        // Only variables which cannot be updated outside the basic block, e.g. by other strands, are tracked.
+        return variableDcl.kind == VarKind.TEMP || variableDcl.kind == VarKind.LOCAL;
+    }
+}
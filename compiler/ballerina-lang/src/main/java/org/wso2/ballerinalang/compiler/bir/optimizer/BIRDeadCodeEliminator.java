@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorSpreadFieldEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FPLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes dead code from functions.
+ * <p>
+ * Basic blocks which cannot be reached from the entry of the function, an error table entry or the return basic
+ * block are removed, along with instructions which only assign a temporary variable that is never read and have no
+ * side effects. Local variables whose visible range started or ended in removed code lose their range information, so
+ * that the code generator does not refer to removed labels.
+ *
+ * @since 2.0.0
+ */
+public class BIRDeadCodeEliminator extends BIRVisitor {
+
+    // Instructions which cannot panic or have any other side effect than assigning the lhs operand.
+    private static final Set<InstructionKind> SIDE_EFFECT_FREE_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.TYPE_TEST, InstructionKind.IS_LIKE,
+            InstructionKind.EQUAL, InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN,
+            InstructionKind.GREATER_EQUAL, InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL,
+            InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.NOT);
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        if (birFunction.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        removeUnreachableBasicBlocks(birFunction);
+        removeUnusedTempVarAssignments(birFunction);
+        resetRemovedVariableRanges(birFunction);
+    }
+
+    private void removeUnreachableBasicBlocks(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = birFunction.basicBlocks;
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.push(basicBlocks.get(0));
+        // The code generator relies on the last basic block, which is the return basic block, and on the ones
+        // marking the error table ranges.
+        worklist.push(basicBlocks.get(basicBlocks.size() - 1));
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            worklist.push(errorEntry.trapBB);
+            worklist.push(errorEntry.endBB);
+            worklist.push(errorEntry.targetBB);
+        }
+
+        Set<BIRBasicBlock> reachable = new HashSet<>();
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock bb = worklist.pop();
+            if (!reachable.add(bb) || bb.terminator == null) {
+                continue;
+            }
+            for (BIRBasicBlock nextBB : bb.terminator.getNextBasicBlocks()) {
+                if (nextBB != null) {
+                    worklist.push(nextBB);
+                }
+            }
+        }
+
+        if (reachable.size() < basicBlocks.size()) {
+            basicBlocks.removeIf(bb -> !reachable.contains(bb));
+        }
+    }
+
+    private void removeUnusedTempVarAssignments(BIRFunction birFunction) {
+        // Removing an assignment may make the assignments of its operands unused, hence iterate until nothing changes.
+        boolean removed = true;
+        while (removed) {
+            Set<BIRVariableDcl> usedVars = getUsedVars(birFunction);
+            removed = false;
+            for (BIRBasicBlock bb : getAllBasicBlocks(birFunction)) {
+                removed |= bb.instructions.removeIf(ins -> isUnusedTempVarAssignment(ins, usedVars));
+            }
+        }
+
+        Set<BIRVariableDcl> usedVars = getUsedVars(birFunction);
+        for (BIRBasicBlock bb : getAllBasicBlocks(birFunction)) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                addLhsVar(ins, usedVars);
+            }
+            addLhsVar(bb.terminator, usedVars);
+        }
+        birFunction.localVars.removeIf(var -> var.kind == VarKind.TEMP && !usedVars.contains(var));
+    }
+
+    private boolean isUnusedTempVarAssignment(BIRNonTerminator ins, Set<BIRVariableDcl> usedVars) {
+        return SIDE_EFFECT_FREE_INSTRUCTIONS.contains(ins.kind) && ins.lhsOp != null &&
+                ins.lhsOp.variableDcl.kind == VarKind.TEMP && !usedVars.contains(ins.lhsOp.variableDcl);
+    }
+
+    private Set<BIRVariableDcl> getUsedVars(BIRFunction birFunction) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>();
+        for (BIRBasicBlock bb : getAllBasicBlocks(birFunction)) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                addRhsVars(ins, usedVars);
+                // Stores hold the value they update in the lhs operand, hence the lhs operand of any instruction that
+                // is not removed is taken as used.
+                if (!SIDE_EFFECT_FREE_INSTRUCTIONS.contains(ins.kind)) {
+                    addLhsVar(ins, usedVars);
+                }
+                // The operands of the initial values and the parameters of lambdas are not part of the rhs operands.
+                if (ins.kind == InstructionKind.NEW_STRUCTURE) {
+                    addInitialValueVars((NewStructure) ins, usedVars);
+                } else if (ins.kind == InstructionKind.FP_LOAD) {
+                    usedVars.addAll(((FPLoad) ins).params);
+                }
+            }
+            if (bb.terminator != null) {
+                addRhsVars(bb.terminator, usedVars);
+            }
+        }
+        for (BIRErrorEntry errorEntry : birFunction.errorTable) {
+            usedVars.add(errorEntry.errorOp.variableDcl);
+        }
+        return usedVars;
+    }
+
+    private void addRhsVars(BIRAbstractInstruction ins, Set<BIRVariableDcl> usedVars) {
+        for (BIROperand operand : ins.getRhsOperands()) {
+            if (operand != null) {
+                usedVars.add(operand.variableDcl);
+            }
+        }
+    }
+
+    private void addInitialValueVars(NewStructure newStructure, Set<BIRVariableDcl> usedVars) {
+        for (BIRMappingConstructorEntry initialValue : newStructure.initialValues) {
+            if (initialValue.isKeyValuePair()) {
+                BIRMappingConstructorKeyValueEntry keyValueEntry = (BIRMappingConstructorKeyValueEntry) initialValue;
+                usedVars.add(keyValueEntry.keyOp.variableDcl);
+                usedVars.add(keyValueEntry.valueOp.variableDcl);
+            } else {
+                usedVars.add(((BIRMappingConstructorSpreadFieldEntry) initialValue).exprOp.variableDcl);
+            }
+        }
+    }
+
+    private void addLhsVar(BIRAbstractInstruction ins, Set<BIRVariableDcl> usedVars) {
+        if (ins != null && ins.lhsOp != null) {
+            usedVars.add(ins.lhsOp.variableDcl);
+        }
+    }
+
+    private void resetRemovedVariableRanges(BIRFunction birFunction) {
+        List<BIRBasicBlock> allBasicBlocks = getAllBasicBlocks(birFunction);
+        Set<BIRBasicBlock> basicBlocks = new HashSet<>(allBasicBlocks);
+        Set<BirScope> scopes = new HashSet<>();
+        for (BIRBasicBlock bb : allBasicBlocks) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                addScope(ins.scope, scopes);
+            }
+            if (bb.terminator != null) {
+                addScope(bb.terminator.scope, scopes);
+            }
+        }
+
+        for (BIRVariableDcl localVar : birFunction.localVars) {
+            if (localVar.kind != VarKind.LOCAL || localVar.startBB == null) {
+                continue;
+            }
+            if (!scopes.contains(localVar.insScope) || !basicBlocks.contains(localVar.startBB) ||
+                    (localVar.endBB != null && !basicBlocks.contains(localVar.endBB))) {
+                // The variable is visible in the whole function instead.
+                localVar.startBB = null;
+                localVar.endBB = null;
+            }
+        }
+    }
+
+    private void addScope(BirScope scope, Set<BirScope> scopes) {
+        // The label of a scope is also used for the parent scopes which have no instructions of their own.
+        while (scope != null && scopes.add(scope)) {
+            scope = scope.parent;
+        }
+    }
+
+    private List<BIRBasicBlock> getAllBasicBlocks(BIRFunction birFunction) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(birFunction.basicBlocks);
+        for (List<BIRBasicBlock> paramBBs : birFunction.parameters.values()) {
+            basicBlocks.addAll(paramBBs);
+        }
+        return basicBlocks;
+    }
+}
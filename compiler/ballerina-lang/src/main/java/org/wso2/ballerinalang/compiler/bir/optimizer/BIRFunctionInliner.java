@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.ArgumentState;
+import org.wso2.ballerinalang.compiler.bir.model.BIRArgument;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inlines calls to small functions of the same module.
+ * <p>
+ * A function is inlined when its body is a straight sequence of basic blocks ending with a return, i.e. it has no
+ * branches, and it only has a few instructions which neither call other functions nor access module level variables.
+ * Such a function cannot yield or recurse. The instructions of the function are copied to the basic block of the call,
+ * with the variables of the function replaced by temporary variables of the caller, so that the error table ranges of
+ * the caller cover them as they did the call. Calls are not inlined into test modules, as test functions may mock the
+ * called functions.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInliner extends BIRVisitor {
+
+    private static final int MAX_INLINED_INSTRUCTIONS = 16;
+    private static final String INLINED_VAR_PREFIX = "%inl";
+    private static final long NON_INLINABLE_FLAGS = Flags.NATIVE | Flags.ATTACHED | Flags.WORKER | Flags.TRANSACTIONAL |
+            Flags.REMOTE | Flags.RESOURCE;
+
+    private static final Set<InstructionKind> INLINABLE_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.ADD, InstructionKind.SUB,
+            InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD, InstructionKind.EQUAL,
+            InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN, InstructionKind.GREATER_EQUAL,
+            InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL, InstructionKind.REF_EQUAL,
+            InstructionKind.REF_NOT_EQUAL, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT, InstructionKind.NOT, InstructionKind.NEGATE,
+            InstructionKind.TYPE_TEST, InstructionKind.IS_LIKE, InstructionKind.TYPE_CAST, InstructionKind.MAP_LOAD,
+            InstructionKind.ARRAY_LOAD, InstructionKind.OBJECT_LOAD);
+
+    private static final Set<VarKind> INLINABLE_VAR_KINDS = EnumSet.of(VarKind.ARG, VarKind.TEMP, VarKind.LOCAL,
+            VarKind.RETURN);
+
+    private PackageID currentPkgId;
+    // Instructions of the inlinable functions of the current module, by function name.
+    private final Map<String, List<BIRNonTerminator>> inlinableFunctions = new HashMap<>();
+    private final Map<String, BIRFunction> functions = new HashMap<>();
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        this.currentPkgId = birPackage.packageID;
+        for (BIRFunction function : birPackage.functions) {
+            List<BIRNonTerminator> instructions = getInlinableInstructions(function);
+            if (instructions != null) {
+                this.inlinableFunctions.put(function.name.value, instructions);
+                this.functions.put(function.name.value, function);
+            }
+        }
+
+        if (!this.inlinableFunctions.isEmpty()) {
+            birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+            birPackage.functions.forEach(func -> func.accept(this));
+        }
+
+        this.inlinableFunctions.clear();
+        this.functions.clear();
+        this.currentPkgId = null;
+    }
+
+    @Override
+    public void visit(BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        InlinedVarNames varNames = null;
+        for (BIRBasicBlock bb : birFunction.basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            if (terminator == null || terminator.kind != InstructionKind.CALL) {
+                continue;
+            }
+
+            Call call = (Call) terminator;
+            BIRFunction callee = getInlinableCallee(call);
+            if (callee == null || callee == birFunction) {
+                continue;
+            }
+
+            if (varNames == null) {
+                varNames = new InlinedVarNames(birFunction);
+            }
+            inlineCall(bb, call, callee, varNames);
+        }
+    }
+
+    private BIRFunction getInlinableCallee(Call call) {
+        if (call.isVirtual || call.transactional || !this.currentPkgId.equals(call.calleePkg)) {
+            return null;
+        }
+
+        BIRFunction callee = this.functions.get(call.name.value);
+        if (callee == null || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+        for (BIRArgument arg : call.args) {
+            // Default values of parameters are computed by the callee.
+            if (arg.argState != ArgumentState.PROVIDED) {
+                return null;
+            }
+        }
+        return callee;
+    }
+
+    private void inlineCall(BIRBasicBlock bb, Call call, BIRFunction callee, InlinedVarNames varNames) {
+        Map<BIRVariableDcl, BIROperand> varMap = new HashMap<>();
+        Iterator<BIRArgument> args = call.args.iterator();
+        for (BIRFunctionParameter param : callee.parameters.keySet()) {
+            BIROperand paramOp = mapOperand(new BIROperand(param), varMap, varNames);
+            addInstruction(bb, new Move(call.pos, args.next(), paramOp), call.scope);
+        }
+
+        for (BIRNonTerminator ins : this.inlinableFunctions.get(callee.name.value)) {
+            addInstruction(bb, copyInstruction(ins, call, varMap, varNames), call.scope);
+        }
+
+        if (call.lhsOp != null) {
+            BIROperand returnOp = mapOperand(new BIROperand(callee.returnVariable), varMap, varNames);
+            addInstruction(bb, new Move(call.pos, returnOp, call.lhsOp), call.scope);
+        }
+        bb.terminator = new BIRTerminator.GOTO(call.pos, call.thenBB, call.scope);
+    }
+
+    private void addInstruction(BIRBasicBlock bb, BIRNonTerminator ins, BirScope scope) {
+        ins.scope = scope;
+        bb.instructions.add(ins);
+    }
+
+    private BIRNonTerminator copyInstruction(BIRNonTerminator ins, Call call, Map<BIRVariableDcl, BIROperand> varMap,
+                                             InlinedVarNames varNames) {
+        // Inlined instructions take the position of the call, as the caller may be in a different source file.
+        BIROperand lhsOp = mapOperand(ins.lhsOp, varMap, varNames);
+        switch (ins.kind) {
+            case MOVE:
+                return new Move(call.pos, mapOperand(((Move) ins).rhsOp, varMap, varNames), lhsOp);
+            case CONST_LOAD:
+                ConstantLoad constantLoad = (ConstantLoad) ins;
+                return new ConstantLoad(call.pos, constantLoad.value, constantLoad.type, lhsOp);
+            case NOT:
+            case NEGATE:
+                return new UnaryOP(call.pos, ins.kind, lhsOp, mapOperand(((UnaryOP) ins).rhsOp, varMap, varNames));
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) ins;
+                return new TypeTest(call.pos, typeTest.type, lhsOp, mapOperand(typeTest.rhsOp, varMap, varNames));
+            case IS_LIKE:
+                IsLike isLike = (IsLike) ins;
+                return new IsLike(call.pos, isLike.type, lhsOp, mapOperand(isLike.rhsOp, varMap, varNames));
+            case TYPE_CAST:
+                TypeCast typeCast = (TypeCast) ins;
+                return new TypeCast(call.pos, lhsOp, mapOperand(typeCast.rhsOp, varMap, varNames), typeCast.type,
+                                    typeCast.checkTypes);
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+            case OBJECT_LOAD:
+                FieldAccess fieldAccess = (FieldAccess) ins;
+                FieldAccess fieldAccessCopy = new FieldAccess(call.pos, ins.kind, lhsOp,
+                                                              mapOperand(fieldAccess.keyOp, varMap, varNames),
+                                                              mapOperand(fieldAccess.rhsOp, varMap, varNames),
+                                                              fieldAccess.optionalFieldAccess,
+                                                              fieldAccess.fillingRead);
+                fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+                return fieldAccessCopy;
+            default:
+                BinaryOp binaryOp = (BinaryOp) ins;
+                return new BinaryOp(call.pos, ins.kind, lhsOp.variableDcl.type, lhsOp,
+                                    mapOperand(binaryOp.rhsOp1, varMap, varNames),
+                                    mapOperand(binaryOp.rhsOp2, varMap, varNames));
+        }
+    }
+
+    private BIROperand mapOperand(BIROperand operand, Map<BIRVariableDcl, BIROperand> varMap,
+                                  InlinedVarNames varNames) {
+        return varMap.computeIfAbsent(operand.variableDcl, var -> new BIROperand(varNames.newTempVar(var)));
+    }
+
+    /**
+     * Returns the instructions of a function if calls to it can be inlined.
+     *
+     * @param function function to check
+     * @return instructions of the function in execution order, or null if the function cannot be inlined
+     */
+    private List<BIRNonTerminator> getInlinableInstructions(BIRFunction function) {
+        if ((function.flags & NON_INLINABLE_FLAGS) != 0 || function.receiver != null || function.restParam != null ||
+                function.basicBlocks.isEmpty() || !function.errorTable.isEmpty() ||
+                function.workerChannels.length > 0 || function.returnVariable == null) {
+            return null;
+        }
+
+        List<BIRNonTerminator> instructions = new ArrayList<>();
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        BIRBasicBlock bb = function.basicBlocks.get(0);
+        while (visited.add(bb)) {
+            for (BIRNonTerminator ins : bb.instructions) {
+                if (!isInlinable(ins) || instructions.size() == MAX_INLINED_INSTRUCTIONS) {
+                    return null;
+                }
+                instructions.add(ins);
+            }
+
+            BIRTerminator terminator = bb.terminator;
+            if (terminator == null) {
+                return null;
+            }
+            if (terminator.kind == InstructionKind.RETURN) {
+                return instructions;
+            }
+            if (terminator.kind != InstructionKind.GOTO) {
+                return null;
+            }
+            bb = ((BIRTerminator.GOTO) terminator).targetBB;
+        }
+        // The function has a loop.
+        return null;
+    }
+
+    private boolean isInlinable(BIRNonTerminator ins) {
+        if (!INLINABLE_INSTRUCTIONS.contains(ins.kind) || ins.lhsOp == null ||
+                !INLINABLE_VAR_KINDS.contains(ins.lhsOp.variableDcl.kind)) {
+            return false;
+        }
+        for (BIROperand operand : ins.getRhsOperands()) {
+            if (operand == null || !INLINABLE_VAR_KINDS.contains(operand.variableDcl.kind)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the temporary variables of a caller which replace the variables of the inlined functions.
+     */
+    private static class InlinedVarNames {
+        private final BIRFunction caller;
+        private final Set<String> usedNames = new HashSet<>();
+        private int nextId = 0;
+
+        InlinedVarNames(BIRFunction caller) {
+            this.caller = caller;
+            for (BIRVariableDcl localVar : caller.localVars) {
+                this.usedNames.add(localVar.name.value);
+            }
+        }
+
+        BIRVariableDcl newTempVar(BIRVariableDcl inlinedVar) {
+            String name;
+            do {
+                name = INLINED_VAR_PREFIX + this.nextId++;
+            } while (!this.usedNames.add(name));
+
+            BIRVariableDcl tempVar = new BIRVariableDcl(inlinedVar.type, new Name(name), VarScope.FUNCTION,
+                                                        VarKind.TEMP);
+            this.caller.localVars.add(tempVar);
+            return tempVar;
+        }
+    }
+}
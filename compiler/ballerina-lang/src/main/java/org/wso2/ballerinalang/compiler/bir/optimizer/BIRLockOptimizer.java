@@ -19,11 +19,18 @@
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +43,21 @@ import java.util.Set;
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    private static final Set<InstructionKind> READ_ONLY_INSTRUCTIONS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.MAP_LOAD, InstructionKind.ARRAY_LOAD,
+            InstructionKind.OBJECT_LOAD, InstructionKind.STRING_LOAD, InstructionKind.TYPE_CAST,
+            InstructionKind.IS_LIKE, InstructionKind.TYPE_TEST, InstructionKind.ADD, InstructionKind.SUB,
+            InstructionKind.MUL, InstructionKind.DIV, InstructionKind.MOD, InstructionKind.EQUAL,
+            InstructionKind.NOT_EQUAL, InstructionKind.GREATER_THAN, InstructionKind.GREATER_EQUAL,
+            InstructionKind.LESS_THAN, InstructionKind.LESS_EQUAL, InstructionKind.AND, InstructionKind.OR,
+            InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.TYPEOF, InstructionKind.NOT,
+            InstructionKind.NEGATE, InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR,
+            InstructionKind.BITWISE_XOR, InstructionKind.BITWISE_LEFT_SHIFT, InstructionKind.BITWISE_RIGHT_SHIFT,
+            InstructionKind.BITWISE_UNSIGNED_RIGHT_SHIFT);
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
+    private final Map<BIRTerminator.Lock, BIRNode.BIRFunction> lockToFunctionMap = new HashMap<>();
+    private BIRNode.BIRFunction currentFunction;
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
     private int setId = -1;
@@ -52,6 +73,87 @@ public class BIRLockOptimizer extends BIRVisitor {
     private void optimizeLocks() {
         analyzeLocks();
         propagateLocks();
+        markReadOnlyLocks();
+    }
+
+    private void markReadOnlyLocks() {
+        for (BIRTerminator.Lock lock : lockList) {
+            lock.readOnly = isReadOnlyRegion(lock, lockToFunctionMap.get(lock));
+        }
+    }
+
+    /**
+     * Checks whether the basic blocks executed while holding the lock, i.e. the ones reachable from the locked basic
+     * block without going through the related unlock, can only read the locked variables. Any call, store, nested
+     * lock, worker interaction or assignment to a global variable makes the region a writing one.
+     */
+    private boolean isReadOnlyRegion(BIRTerminator.Lock lock, BIRNode.BIRFunction function) {
+        // Error entries cover the basic blocks from the trap basic block to the end basic block, in code order
+        Map<BIRNode.BIRBasicBlock, Integer> bbIndexes = new HashMap<>();
+        for (int i = 0; i < function.basicBlocks.size(); i++) {
+            bbIndexes.put(function.basicBlocks.get(i), i);
+        }
+
+        Set<BIRNode.BIRBasicBlock> visited = new HashSet<>();
+        Deque<BIRNode.BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.push(lock.lockedBB);
+        while (!worklist.isEmpty()) {
+            BIRNode.BIRBasicBlock bb = worklist.pop();
+            if (!visited.add(bb)) {
+                continue;
+            }
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!isReadOnlyInstruction(instruction)) {
+                    return false;
+                }
+            }
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case UNLOCK:
+                    if (((BIRTerminator.Unlock) terminator).relatedLock != lock) {
+                        return false;
+                    }
+                    continue;
+                case GOTO:
+                case BRANCH:
+                case PANIC:
+                    break;
+                default:
+                    return false;
+            }
+            for (BIRNode.BIRBasicBlock nextBB : terminator.getNextBasicBlocks()) {
+                worklist.push(nextBB);
+            }
+            for (BIRNode.BIRErrorEntry errorEntry : function.errorTable) {
+                if (isInErrorEntryRange(bb, errorEntry, bbIndexes)) {
+                    worklist.push(errorEntry.targetBB);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isInErrorEntryRange(BIRNode.BIRBasicBlock bb, BIRNode.BIRErrorEntry errorEntry,
+                                        Map<BIRNode.BIRBasicBlock, Integer> bbIndexes) {
+        Integer bbIndex = bbIndexes.get(bb);
+        Integer trapBBIndex = bbIndexes.get(errorEntry.trapBB);
+        Integer endBBIndex = bbIndexes.get(errorEntry.endBB);
+        if (bbIndex == null || trapBBIndex == null || endBBIndex == null) {
+            // Follow the error handler when the range is unknown, so that the region is not wrongly read-only
+            return true;
+        }
+        return trapBBIndex <= bbIndex && bbIndex <= endBBIndex;
+    }
+
+    private boolean isReadOnlyInstruction(BIRNonTerminator instruction) {
+        if (!READ_ONLY_INSTRUCTIONS.contains(instruction.kind)) {
+            return false;
+        }
+        if (instruction instanceof BIRNonTerminator.FieldAccess &&
+                ((BIRNonTerminator.FieldAccess) instruction).fillingRead) {
+            return false;
+        }
+        return instruction.lhsOp == null || instruction.lhsOp.variableDcl.scope != VarScope.GLOBAL;
     }
 
     private void analyzeLocks() {
@@ -170,6 +272,7 @@ public class BIRLockOptimizer extends BIRVisitor {
 
     @Override
     public void visit(BIRNode.BIRFunction birFunction) {
+        this.currentFunction = birFunction;
         birFunction.basicBlocks.forEach(bb -> bb.accept(this));
     }
 
@@ -206,6 +309,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lockToFunctionMap.put(lock, currentFunction);
     }
 
     @Override
@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRArgument;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
@@ -33,8 +34,11 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -47,6 +51,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.ballerina.projects.CompilationOptions.DEFAULT_OPTIMIZATION_LEVEL;
+import static io.ballerina.projects.CompilationOptions.FULL_OPTIMIZATION_LEVEL;
+import static io.ballerina.projects.CompilationOptions.NO_OPTIMIZATION_LEVEL;
+
 /**
  * Optimize BIR.
  *
@@ -55,9 +63,14 @@ import java.util.stream.Collectors;
 public class BIROptimizer {
 
     private static final CompilerContext.Key<BIROptimizer> BIR_OPTIMIZER = new CompilerContext.Key<>();
+    private final CompilerOptions compilerOptions;
     private final RHSTempVarOptimizer rhsTempVarOptimizer;
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final BIRBoxEliminator boxEliminator;
+    private final BIRConstantFolder constantFolder;
+    private final BIRDeadCodeEliminator deadCodeEliminator;
 //    private final BirVariableOptimizer variableOptimizer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
@@ -71,24 +84,82 @@ public class BIROptimizer {
 
     private BIROptimizer(CompilerContext context) {
         context.put(BIR_OPTIMIZER, this);
+        this.compilerOptions = CompilerOptions.getInstance(context);
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
+        this.functionInliner = new BIRFunctionInliner();
+        Types types = Types.getInstance(context);
+        this.boxEliminator = new BIRBoxEliminator(types, SymbolTable.getInstance(context));
+        this.constantFolder = new BIRConstantFolder(types);
+        this.deadCodeEliminator = new BIRDeadCodeEliminator();
 //        this.variableOptimizer = new BirVariableOptimizer();
     }
 
     public void optimizePackage(BIRPackage pkg) {
-        // RHS temp var optimization
-        pkg.accept(this.rhsTempVarOptimizer);
+        optimizePackage(pkg, true);
+    }
+
+    /**
+     * Optimizes the BIR of a testable module, i.e. a module along with its tests.
+     *
+     * @param pkg BIR of the testable module
+     */
+    public void optimizeTestablePackage(BIRPackage pkg) {
+        // Functions are not inlined, as the tests may mock the called functions.
+        optimizePackage(pkg, false);
+    }
+
+    private void optimizePackage(BIRPackage pkg, boolean inlineFunctions) {
+        int optimizationLevel = getOptimizationLevel();
+        if (optimizationLevel >= DEFAULT_OPTIMIZATION_LEVEL) {
+            // RHS temp var optimization
+            pkg.accept(this.rhsTempVarOptimizer);
+
+            // LHS temp var optimization
+            this.lhsTempVarOptimizer.optimizeNode(pkg, null);
+        }
 
-        // LHS temp var optimization
-        this.lhsTempVarOptimizer.optimizeNode(pkg, null);
+        if (optimizationLevel >= FULL_OPTIMIZATION_LEVEL) {
+            // Observability instruments function calls, hence calls are kept when it is included.
+            if (inlineFunctions && !Boolean.parseBoolean(
+                    this.compilerOptions.get(CompilerOptionName.OBSERVABILITY_INCLUDED))) {
+                pkg.accept(this.functionInliner);
+            }
+
+            // Keep values of basic types unboxed in local variables of union types, which turns the type tests on
+            // them into constants for the constant folding
+            pkg.accept(this.boxEliminator);
+
+            // Constant folding, which leaves the constant loads of the folded operands and the branches not taken
+            // for the dead code elimination to remove
+            pkg.accept(this.constantFolder);
+            pkg.accept(this.deadCodeEliminator);
+        }
 
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
 //        variableOptimizer.optimizeNode(pkg);
     }
 
+    private int getOptimizationLevel() {
+        String optimizationLevel = this.compilerOptions.get(CompilerOptionName.OPTIMIZATION_LEVEL);
+        if (optimizationLevel == null) {
+            return DEFAULT_OPTIMIZATION_LEVEL;
+        }
+        int level;
+        try {
+            level = Integer.parseInt(optimizationLevel);
+        } catch (NumberFormatException e) {
+            level = -1;
+        }
+        if (level < NO_OPTIMIZATION_LEVEL || level > FULL_OPTIMIZATION_LEVEL) {
+            throw new IllegalArgumentException("invalid optimization level '" + optimizationLevel +
+                    "'. The level should be between " + NO_OPTIMIZATION_LEVEL + " and " + FULL_OPTIMIZATION_LEVEL);
+        }
+        return level;
+    }
+
     /**
      * This class is to optimize away unwanted temporary variables in right hand side of statements.
      */
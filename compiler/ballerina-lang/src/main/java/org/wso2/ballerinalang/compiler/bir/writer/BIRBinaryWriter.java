@@ -41,11 +41,14 @@ import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.IntegerCPEntry;
 import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.StringCPEntry;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex.Section;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -67,34 +70,64 @@ public class BIRBinaryWriter {
     public byte[] serialize() {
         ByteBuf birbuf = Unpooled.buffer();
         BIRTypeWriter typeWriter = new BIRTypeWriter(birbuf, cp);
-
+        // Offsets of the module sections, from the start of the module.
+        Map<Section, Integer> sectionOffsets = new EnumMap<>(Section.class);
 
         // Write the package details in the form of constant pool entry
+        sectionOffsets.put(Section.MODULE, birbuf.writerIndex());
         birbuf.writeInt(BIRWriterUtils.addPkgCPEntry(birPackage.packageID, this.cp));
 
         //Write import module declarations
+        sectionOffsets.put(Section.IMPORTS, birbuf.writerIndex());
         writeImportModuleDecls(birbuf, birPackage.importModules);
         // Write constants
+        sectionOffsets.put(Section.CONSTANTS, birbuf.writerIndex());
         writeConstants(birbuf, birPackage.constants);
         // Write type defs
+        sectionOffsets.put(Section.TYPE_DEFS, birbuf.writerIndex());
         writeTypeDefs(birbuf, typeWriter, birPackage.typeDefs);
         // Write global vars
+        sectionOffsets.put(Section.GLOBAL_VARS, birbuf.writerIndex());
         writeGlobalVars(birbuf, typeWriter, birPackage.globalVars);
         // Write type def bodies
+        sectionOffsets.put(Section.TYPE_DEF_BODIES, birbuf.writerIndex());
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
         // Write functions
+        sectionOffsets.put(Section.FUNCTIONS, birbuf.writerIndex());
         writeFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
+        sectionOffsets.put(Section.ANNOTATIONS, birbuf.writerIndex());
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
         // Write service declarations
+        sectionOffsets.put(Section.SERVICE_DECLS, birbuf.writerIndex());
         writeServiceDeclarations(birbuf, birPackage.serviceDecls);
 
         // Write the constant pool entries.
+        byte[] cpBytes = cp.serialize();
+        int cpOffset = CompiledBinaryFile.BIRPackageFile.BIR_MAGIC.length + 4 + BIRSectionIndex.getTableSize();
+        int moduleOffset = cpOffset + cpBytes.length;
+        int moduleLength = birbuf.writerIndex();
+        BIRSectionIndex sectionIndex = new BIRSectionIndex();
+        sectionIndex.addSection(Section.CONSTANT_POOL, cpOffset, cpBytes.length);
+        Section[] sections = Section.values();
+        for (int i = 0; i < sections.length; i++) {
+            Section section = sections[i];
+            if (section == Section.CONSTANT_POOL) {
+                continue;
+            }
+            int start = sectionOffsets.get(section);
+            // The module section spans all the other module sections.
+            int end = section == Section.MODULE || i == sections.length - 1 ? moduleLength :
+                    sectionOffsets.get(sections[i + 1]);
+            sectionIndex.addSection(section, moduleOffset + start, end - start);
+        }
+
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (DataOutputStream dataOut = new DataOutputStream(baos)) {
             dataOut.write(CompiledBinaryFile.BIRPackageFile.BIR_MAGIC);
             dataOut.writeInt(CompiledBinaryFile.BIRPackageFile.BIR_VERSION);
-            dataOut.write(cp.serialize());
+            sectionIndex.write(dataOut);
+            dataOut.write(cpBytes);
             dataOut.write(birbuf.nioBuffer().array(), 0, birbuf.nioBuffer().limit());
             return baos.toByteArray();
         } catch (IOException e) {
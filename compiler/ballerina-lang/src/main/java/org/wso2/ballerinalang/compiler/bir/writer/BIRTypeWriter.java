@@ -361,7 +361,7 @@ public class BIRTypeWriter implements TypeVisitor {
             BSymbol symbol = field.symbol;
             buff.writeInt(addStringCPEntry(symbol.name.value));
             buff.writeLong(symbol.flags);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
         }
 
@@ -411,7 +411,7 @@ public class BIRTypeWriter implements TypeVisitor {
             // TODO add position
             buff.writeLong(field.symbol.flags);
             buff.writeBoolean(field.symbol.isDefaultable);
-            writeMarkdownDocAttachment(buff, field.symbol.markdownDocumentation);
+            writeMarkdownDocAttachment(buff, field.symbol.getMarkdownDocAttachment());
             writeTypeCpIndex(field.type);
         }
         List<BAttachedFunction> attachedFuncs;
@@ -835,7 +835,7 @@ public class ASTBuilderUtil {
         dupFuncSymbol.params = new ArrayList<>(invokableSymbol.params);
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.markdownDocumentation = invokableSymbol.getMarkdownDocAttachment();
         dupFuncSymbol.scope = invokableSymbol.scope;
         dupFuncSymbol.tag = invokableSymbol.tag;
         dupFuncSymbol.schedulerPolicy = invokableSymbol.schedulerPolicy;
@@ -886,7 +886,7 @@ public class ASTBuilderUtil {
         dupFuncSymbol.tainted = invokableSymbol.tainted;
         dupFuncSymbol.closure = invokableSymbol.closure;
         dupFuncSymbol.tag = invokableSymbol.tag;
-        dupFuncSymbol.markdownDocumentation = invokableSymbol.markdownDocumentation;
+        dupFuncSymbol.markdownDocumentation = invokableSymbol.getMarkdownDocAttachment();
 
         BInvokableType prevFuncType = (BInvokableType) invokableSymbol.type;
         BType newFuncType = new BInvokableType(new ArrayList<>(prevFuncType.paramTypes), prevFuncType.restType,
@@ -901,7 +901,7 @@ public class ASTBuilderUtil {
                                                    paramSymbol.type, owner, paramSymbol.pos, paramSymbol.origin);
         newParamSymbol.tainted = paramSymbol.tainted;
         newParamSymbol.isDefaultable = paramSymbol.isDefaultable;
-        newParamSymbol.markdownDocumentation = paramSymbol.markdownDocumentation;
+        newParamSymbol.markdownDocumentation = paramSymbol.getMarkdownDocAttachment();
         return newParamSymbol;
     }
 
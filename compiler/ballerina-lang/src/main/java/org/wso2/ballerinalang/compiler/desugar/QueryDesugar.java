@@ -22,6 +22,7 @@ import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
 import org.ballerinalang.model.types.TypeKind;
@@ -29,15 +30,19 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -167,9 +172,11 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.FieldKind;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -190,12 +197,14 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_PIPELINE_FUNCTION = new Name("createPipeline");
     private static final Name QUERY_CREATE_INPUT_FUNCTION = new Name("createInputFunction");
     private static final Name QUERY_CREATE_NESTED_FROM_FUNCTION = new Name("createNestedFromFunction");
-    private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
+    private static final Name QUERY_CREATE_FUSED_FUNCTION = new Name("createFusedFunction");
+    private static final Name QUERY_ADD_FUSED_TRANSFORM_FUNCTION = new Name("addFusedTransform");
+    private static final Name QUERY_ADD_FUSED_FILTER_FUNCTION = new Name("addFusedFilter");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION =
+            new Name("createIndexedInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
-    private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
-    private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
@@ -205,6 +214,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_GET_TABLE_ROWS_BY_FIELD_FUNCTION = new Name("getTableRowsByField");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -250,9 +260,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env, queryBlock);
+        BLangVariableReference pipelineRef = buildStream(clauses, queryExpr.getBType(), env, queryBlock);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
+            BLangVariableReference streamRef = addGetStreamFromPipeline(queryBlock, pipelineRef);
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, streamRef);
             streamStmtExpr.setBType(streamRef.getBType());
         } else if (queryExpr.isTable) {
@@ -261,7 +272,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                     : onConflictExpr;
             BLangVariableReference tableRef = addTableConstructor(queryExpr, queryBlock);
             BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
-                    QUERY_ADD_TO_TABLE_FUNCTION, Lists.of(streamRef, tableRef, onConflictExpr), pos);
+                    QUERY_ADD_TO_TABLE_FUNCTION, Lists.of(pipelineRef, tableRef, onConflictExpr), pos);
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
                     addTypeConversionExpr(result,
                             queryExpr.getBType()));
@@ -273,9 +284,10 @@ public class QueryDesugar extends BLangNodeVisitor {
             if (TypeTags.isXMLTypeTag(refType.tag) || (refType.tag == TypeTags.UNION
                     && ((BUnionType) refType).getMemberTypes().stream().allMatch(memType ->
                                     TypeTags.isXMLTypeTag(types.getReferredType(memType).tag)))) {
-                result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_XML_FUNCTION, Lists.of(streamRef), pos);
+                result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_XML_FUNCTION, Lists.of(pipelineRef), pos);
             } else if (TypeTags.isStringTypeTag(types.getReferredType(queryExpr.getBType()).tag)) {
-                result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_STRING_FUNCTION, Lists.of(streamRef), pos);
+                result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_STRING_FUNCTION, Lists.of(pipelineRef),
+                        pos);
             } else {
                 BType arrayType = queryExpr.getBType();
                 if (refType.tag == TypeTags.UNION) {
@@ -287,7 +299,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 arr.exprs = new ArrayList<>();
                 arr.setBType(arrayType);
                 result = getStreamFunctionVariableRef(queryBlock, QUERY_TO_ARRAY_FUNCTION,
-                        Lists.of(streamRef, arr), pos);
+                        Lists.of(pipelineRef, arr), pos);
             }
             if (containsCheckExpr) {
                 // if there's a `check` expr within the query, wrap the whole query with a `check` expr,
@@ -316,16 +328,19 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryAction.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryAction.getBType(), env, queryBlock);
+        BLangVariableReference pipelineRef = buildStream(clauses, queryAction.getBType(), env, queryBlock);
         BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
-                QUERY_CONSUME_STREAM_FUNCTION, symTable.errorOrNilType, Lists.of(streamRef), pos);
+                QUERY_CONSUME_STREAM_FUNCTION, symTable.errorOrNilType, Lists.of(pipelineRef), pos);
         BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, result);
         stmtExpr.setBType(symTable.errorOrNilType);
         return stmtExpr;
     }
 
     /**
-     * Write the pipeline to the given `block` and return the reference to the resulting stream.
+     * Write the pipeline to the given `block` and return the reference to it.
+     * Consecutive from, let, where and select clauses are desugared into the stages of a single fused
+     * _StreamFunction, which applies them to each frame in a loop instead of passing the frame down a chain of
+     * _StreamFunctions.
      *
      * @param clauses list of query clauses.
      * @param resultType result type of the query output.
@@ -336,51 +351,74 @@ public class QueryDesugar extends BLangNodeVisitor {
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
+        BLangExpression initCollection = initFromClause.collection;
+        if (clauses.size() > 1 && clauses.get(1).getKind() == NodeKind.WHERE &&
+                types.getReferredType(resultType).tag != TypeTags.STREAM) {
+            BLangExpression indexedCollection = createIndexedTableLookup(initFromClause,
+                    (BLangWhereClause) clauses.get(1));
+            if (indexedCollection != null) {
+                initCollection = indexedCollection;
+            }
+        }
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
-        BLangVariableReference initFrom = addInputFunction(block, initFromClause);
-        addStreamFunction(block, initPipeline, initFrom);
+                initCollection, resultType);
+        BLangVariableReference fusedFunc = addFusedStage(block, initPipeline, null, QUERY_ADD_FUSED_TRANSFORM_FUNCTION,
+                createInputLambda(initFromClause));
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
                     BLangVariableReference nestedFromFunc = addNestedFromFunction(block, fromClause);
                     addStreamFunction(block, initPipeline, nestedFromFunc);
-                    BLangVariableReference fromInputFunc = addInputFunction(block, fromClause);
-                    addStreamFunction(block, initPipeline, fromInputFunc);
+                    fusedFunc = addFusedStage(block, initPipeline, null, QUERY_ADD_FUSED_TRANSFORM_FUNCTION,
+                            createInputLambda(fromClause));
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    String indexedFieldName = getIndexedJoinFieldName(joinClause);
+                    if (indexedFieldName != null) {
+                        BLangVariableReference indexedJoinFunc = addIndexedJoinFunction(block, joinClause,
+                                indexedFieldName);
+                        addStreamFunction(block, initPipeline, indexedJoinFunc);
+                        fusedFunc = null;
+                        break;
+                    }
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
                             joinClause.collection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
                     BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline);
                     addStreamFunction(block, initPipeline, joinFunc);
+                    fusedFunc = null;
                     break;
                 case LET_CLAUSE:
-                    BLangVariableReference letFunc = addLetFunction(block, (BLangLetClause) clause);
-                    addStreamFunction(block, initPipeline, letFunc);
+                    fusedFunc = addFusedStage(block, initPipeline, fusedFunc, QUERY_ADD_FUSED_TRANSFORM_FUNCTION,
+                            createLetLambda((BLangLetClause) clause));
                     break;
                 case WHERE:
-                    BLangVariableReference whereFunc = addWhereFunction(block, (BLangWhereClause) clause);
-                    addStreamFunction(block, initPipeline, whereFunc);
+                    fusedFunc = addFusedStage(block, initPipeline, fusedFunc, QUERY_ADD_FUSED_FILTER_FUNCTION,
+                            createWhereLambda((BLangWhereClause) clause));
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
+                    BLangExpression orderLimit = createOrderLimitExpr(clauses, clauses.indexOf(clause), resultType);
+                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
+                            orderLimit);
                     addStreamFunction(block, initPipeline, orderFunc);
+                    fusedFunc = null;
                     break;
                 case SELECT:
-                    BLangVariableReference selectFunc = addSelectFunction(block, (BLangSelectClause) clause);
-                    addStreamFunction(block, initPipeline, selectFunc);
+                    fusedFunc = addFusedStage(block, initPipeline, fusedFunc, QUERY_ADD_FUSED_TRANSFORM_FUNCTION,
+                            createSelectLambda((BLangSelectClause) clause));
                     break;
                 case DO:
                     BLangVariableReference doFunc = addDoFunction(block, (BLangDoClause) clause);
                     addStreamFunction(block, initPipeline, doFunc);
+                    fusedFunc = null;
                     break;
                 case LIMIT:
                     BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
                     addStreamFunction(block, initPipeline, limitFunc);
+                    fusedFunc = null;
                     break;
                 case ON_CONFLICT:
                     final BLangOnConflictClause onConflict = (BLangOnConflictClause) clause;
@@ -388,7 +426,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
-        return addGetStreamFromPipeline(block, initPipeline);
+        return initPipeline;
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
@@ -404,15 +442,7 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addPipeline(BLangBlockStmt blockStmt, Location pos,
                                        BLangExpression collection, BType resultType) {
-        String name = getNewVarName();
-        BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
-                collection.getBType(), this.env.scope.owner, pos, VIRTUAL);
-        BLangSimpleVariable dataVariable =
-                ASTBuilderUtil.createVariable(pos, name, collection.getBType(),
-                        addTypeConversionExpr(collection, collection.getBType()), dataSymbol);
-        BLangSimpleVariableDef dataVarDef = ASTBuilderUtil.createVariableDef(pos, dataVariable);
-        BLangVariableReference valueVarRef = ASTBuilderUtil.createVariableRef(pos, dataSymbol);
-        blockStmt.addStatement(dataVarDef);
+        BLangVariableReference valueVarRef = addCollectionVariable(blockStmt, pos, collection);
         BType constraintType = resultType;
         BType completionType = symTable.nilType;
         BType refType = types.getReferredType(resultType);
@@ -434,6 +464,28 @@ public class QueryDesugar extends BLangNodeVisitor {
                 Lists.of(valueVarRef, constraintTdExpr, completionTdExpr), pos);
     }
 
+    /**
+     * Desugar the collection of a fromClause/joinClause to below and return a reference to the created variable.
+     * T data = collection;
+     *
+     * @param blockStmt  parent block to write to.
+     * @param pos        diagnostic pos of the collection.
+     * @param collection the collection.
+     * @return variableReference to the created variable.
+     */
+    private BLangVariableReference addCollectionVariable(BLangBlockStmt blockStmt, Location pos,
+                                                         BLangExpression collection) {
+        String name = getNewVarName();
+        BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString(name), env.scope.owner.pkgID,
+                collection.getBType(), this.env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable dataVariable =
+                ASTBuilderUtil.createVariable(pos, name, collection.getBType(),
+                        addTypeConversionExpr(collection, collection.getBType()), dataSymbol);
+        BLangSimpleVariableDef dataVarDef = ASTBuilderUtil.createVariableDef(pos, dataVariable);
+        blockStmt.addStatement(dataVarDef);
+        return ASTBuilderUtil.createVariableRef(pos, dataSymbol);
+    }
+
     /**
      * Desugar inputClause to below and return a reference to created from _StreamFunction.
      * _StreamFunction xsFrom = createFromFunction(function(_Frame frame) returns _Frame|error? {
@@ -447,6 +499,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created from _StreamFunction.
      */
     BLangVariableReference addInputFunction(BLangBlockStmt blockStmt, BLangInputClause inputClause) {
+        BLangLambdaFunction lambda = createInputLambda(inputClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda),
+                inputClause.pos);
+    }
+
+    private BLangLambdaFunction createInputLambda(BLangInputClause inputClause) {
         Location pos = inputClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -477,7 +535,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         //      return frame;
         // }
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INPUT_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -536,17 +594,219 @@ public class QueryDesugar extends BLangNodeVisitor {
     }
 
     /**
-     * Desugar letClause to below and return a reference to created let _StreamFunction.
-     * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
+     * Desugar an inner join on a field of the rows of a table to below and return a reference to created join
+     * _StreamFunction, which looks up the rows of the table joined with each frame through an index on the field.
+     * _StreamFunction joinFunc = createIndexedInnerJoinFunction(table, "field", lhsKeyFunc, inputFunc);
+     *
+     * @param blockStmt  parent block to write to.
+     * @param joinClause to be desugared.
+     * @param fieldName  name of the field of the table joined on.
+     * @return variableReference to created join _StreamFunction.
+     */
+    BLangVariableReference addIndexedJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                                  String fieldName) {
+        BLangVariableReference tableRef = addCollectionVariable(blockStmt, joinClause.pos, joinClause.collection);
+        BLangLambdaFunction inputLambda = createInputLambda(joinClause);
+        BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
+        BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr);
+        BLangLiteral fieldNameLiteral = ASTBuilderUtil.createLiteral(joinClause.pos, symTable.stringType,
+                fieldName);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                Lists.of(tableRef, fieldNameLiteral, lhsKeyFunction, inputLambda), joinClause.pos);
+    }
+
+    /**
+     * Returns the name of the field of the rows of the joined table when the join can look the rows up through an
+     * index on the field, i.e. for an inner join on a table whose right hand side key is a read-only field of the
+     * join variable.
+     *
+     * @param joinClause the join clause.
+     * @return the name of the field, or null if the join cannot use an index.
+     */
+    private String getIndexedJoinFieldName(BLangJoinClause joinClause) {
+        if (joinClause.isOuterJoin) {
+            return null;
+        }
+
+        BTableType tableType = getTableType(joinClause.collection.getBType());
+        BLangVariable variable = (BLangVariable) joinClause.variableDefinitionNode.getVariable();
+        if (tableType == null || variable.getKind() != NodeKind.VARIABLE) {
+            return null;
+        }
+        return getIndexedFieldName((BLangExpression) joinClause.onClause.getRightExpression(),
+                ((BLangSimpleVariable) variable).symbol, tableType);
+    }
+
+    /**
+     * Desugar a from clause over a table followed by a where clause comparing a field of the rows with a value,
+     * such as `from var r in tbl where r.id == id`, to look up the matching rows through an index on the field.
+     * map<Type>[] rows = getTableRowsByField(tbl, "id", id);
+     * The where clause is kept as is, and filters the looked up rows as it would filter the whole table.
+     *
+     * @param fromClause  the first from clause of the query.
+     * @param whereClause the where clause that follows it.
+     * @return the lookup expression to use as the collection of the from clause, or null if there is none.
+     */
+    private BLangExpression createIndexedTableLookup(BLangFromClause fromClause, BLangWhereClause whereClause) {
+        BTableType tableType = getTableType(fromClause.collection.getBType());
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        BLangExpression condition = whereClause.expression;
+        while (condition.getKind() == NodeKind.GROUP_EXPR) {
+            condition = ((BLangGroupExpr) condition).expression;
+        }
+        if (tableType == null || variable.getKind() != NodeKind.VARIABLE ||
+                condition.getKind() != NodeKind.BINARY_EXPR ||
+                ((BLangBinaryExpr) condition).opKind != OperatorKind.EQUAL) {
+            return null;
+        }
+
+        BVarSymbol varSymbol = ((BLangSimpleVariable) variable).symbol;
+        BLangBinaryExpr equalityExpr = (BLangBinaryExpr) condition;
+        BLangExpression fieldExpr = equalityExpr.lhsExpr;
+        BLangExpression valueExpr = equalityExpr.rhsExpr;
+        String fieldName = getIndexedFieldName(fieldExpr, varSymbol, tableType);
+        if (fieldName == null) {
+            fieldExpr = equalityExpr.rhsExpr;
+            valueExpr = equalityExpr.lhsExpr;
+            fieldName = getIndexedFieldName(fieldExpr, varSymbol, tableType);
+        }
+        BLangExpression lookupValue = fieldName == null ? null : copyLookupValue(valueExpr, varSymbol);
+        if (lookupValue == null) {
+            return null;
+        }
+
+        Location pos = fromClause.collection.pos;
+        BLangExpression tableExpr = fromClause.collection;
+        BLangLiteral fieldNameLiteral = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldName);
+        BLangInvocation lookup = createQueryLibInvocation(QUERY_GET_TABLE_ROWS_BY_FIELD_FUNCTION,
+                Lists.of(tableExpr, fieldNameLiteral,
+                        desugar.addConversionExprIfRequired(lookupValue, symTable.anyOrErrorType)), pos);
+        lookup.setBType(new BArrayType(tableType.constraint));
+        return lookup;
+    }
+
+    /**
+     * Returns a copy of a value compared with a field in a where clause, when the value is a literal, a constant or
+     * a variable that cannot be reassigned, such as a final variable or a parameter, so that it can be evaluated
+     * once before the query runs. Other variables may be updated while the query iterates, e.g. by a function
+     * called in a clause, hence comparisons with them are left to the where clause.
+     *
+     * @param valueExpr the value.
+     * @param varSymbol symbol of the variable introduced by the from clause.
+     * @return a copy of the value, or null if the value cannot be evaluated before the query runs.
+     */
+    private BLangExpression copyLookupValue(BLangExpression valueExpr, BVarSymbol varSymbol) {
+        switch (valueExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                BLangLiteral literal = (BLangLiteral) valueExpr;
+                return ASTBuilderUtil.createLiteral(literal.pos, literal.getBType(), literal.value);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) valueExpr).symbol;
+                if (symbol == varSymbol || (symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE) {
+                    return null;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    BConstantSymbol constantSymbol = (BConstantSymbol) symbol;
+                    if (constantSymbol.value == null || !isIndexableType(constantSymbol.literalType)) {
+                        return null;
+                    }
+                    return ASTBuilderUtil.createLiteral(valueExpr.pos, constantSymbol.literalType,
+                            constantSymbol.value.value);
+                }
+                if (!Symbols.isFlagOn(symbol.flags, Flags.FINAL) &&
+                        !Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL)) {
+                    return null;
+                }
+                return ASTBuilderUtil.createVariableRef(valueExpr.pos, (BVarSymbol) symbol);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the name of the field accessed by an expression of the form `v.field`, where `v` is the given variable
+     * bound to the rows of a table, if the field can be looked up through an index of the table. That is the case
+     * for non-optional `int`, `string` and `boolean` fields that are read-only, so that the values of the field
+     * cannot change after a row is added to the table.
+     *
+     * @param expr      the expression.
+     * @param varSymbol symbol of the variable bound to the rows of the table.
+     * @param tableType type of the table.
+     * @return the name of the field, or null if the expression is not an indexable field access.
+     */
+    private String getIndexedFieldName(BLangExpression expr, BVarSymbol varSymbol, BTableType tableType) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.fieldKind != FieldKind.SINGLE ||
+                fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol != varSymbol) {
+            return null;
+        }
+
+        BType constraintType = types.getReferredType(tableType.constraint);
+        if (constraintType.tag == TypeTags.INTERSECTION) {
+            constraintType = ((BIntersectionType) constraintType).effectiveType;
+        }
+        if (constraintType.tag != TypeTags.RECORD) {
+            return null;
+        }
+
+        String fieldName = fieldAccess.field.value;
+        BField field = ((BRecordType) constraintType).fields.get(fieldName);
+        if (field == null || Symbols.isOptional(field.symbol)) {
+            return null;
+        }
+        if (!isIndexableType(field.type)) {
+            return null;
+        }
+        if (Symbols.isFlagOn(tableType.flags, Flags.READONLY) || Symbols.isFlagOn(constraintType.flags, Flags.READONLY)
+                || Symbols.isFlagOn(field.symbol.flags, Flags.READONLY)) {
+            return fieldName;
+        }
+        return null;
+    }
+
+    private boolean isIndexableType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.SIGNED32_INT:
+            case TypeTags.SIGNED16_INT:
+            case TypeTags.SIGNED8_INT:
+            case TypeTags.UNSIGNED32_INT:
+            case TypeTags.UNSIGNED16_INT:
+            case TypeTags.UNSIGNED8_INT:
+            case TypeTags.STRING:
+            case TypeTags.CHAR_STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private BTableType getTableType(BType collectionType) {
+        BType type = types.getReferredType(collectionType);
+        if (type.tag == TypeTags.INTERSECTION) {
+            type = ((BIntersectionType) type).effectiveType;
+        }
+        return type.tag == TypeTags.TABLE ? (BTableType) type : null;
+    }
+
+    /**
+     * Desugar letClause to below and return the created lambda.
+     * function(_Frame frame) returns _Frame|error? {
      * frame["y2"] = <int> frame["y"] * <int> frame["y"];
      * return frame;
-     * });
+     * }
      *
-     * @param blockStmt parent block to write to.
      * @param letClause to be desugared.
-     * @return variableReference to created let _StreamFunction.
+     * @return created let lambda.
      */
-    BLangVariableReference addLetFunction(BLangBlockStmt blockStmt, BLangLetClause letClause) {
+    BLangLambdaFunction createLetLambda(BLangLetClause letClause) {
         Location pos = letClause.pos;
         // function(_Frame frame) returns _Frame|error? { return frame; }
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -564,20 +824,19 @@ public class QueryDesugar extends BLangNodeVisitor {
             setSymbolOwner((BLangVariable) letVariable.definitionNode.getVariable(), env.scope.owner);
         }
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LET_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
-     * Desugar whereClause to below and return a reference to created filter _StreamFunction.
-     * _StreamFunction xsFilter = createFilterFunction(function(_Frame frame) returns boolean {
+     * Desugar whereClause to below and return the created lambda.
+     * function(_Frame frame) returns boolean {
      * return <int>frame["x"] > 0;
-     * });
+     * }
      *
-     * @param blockStmt   parent block to write to.
      * @param whereClause to be desugared.
-     * @return variableReference to created filter _StreamFunction.
+     * @return created filter lambda.
      */
-    BLangVariableReference addWhereFunction(BLangBlockStmt blockStmt, BLangWhereClause whereClause) {
+    BLangLambdaFunction createWhereLambda(BLangWhereClause whereClause) {
         Location pos = whereClause.pos;
         BLangLambdaFunction lambda = createFilterLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -586,20 +845,22 @@ public class QueryDesugar extends BLangNodeVisitor {
         returnNode.setExpression(whereClause.expression);
         body.addStatement(returnNode);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FILTER_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
      * Desugar orderByClause to below and return a reference to created orderBy _StreamFunction.
      * _StreamFunction orderByFunc = createOrderByFunction(function(_Frame frame) {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
-     * });
+     * }, limit);
      *
      * @param blockStmt parent block to write to.
      * @param orderByClause  to be desugared.
+     * @param orderLimit the number of frames the ordered output is limited to, or -1.
      * @return variableReference to created orderBy _StreamFunction.
      */
-    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause) {
+    BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                              BLangExpression orderLimit) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -631,13 +892,72 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION,
+                Lists.of(lambda, orderLimit), pos);
+    }
+
+    /**
+     * Returns the limit of a limit clause that directly follows an order by clause, when the limit does not depend on
+     * the frames and can be evaluated before the query runs, so that the order by only has to keep the frames that
+     * make it into the result. Otherwise returns -1.
+     *
+     * @param clauses      list of query clauses.
+     * @param orderByIndex index of the order by clause.
+     * @param resultType   result type of the query output.
+     * @return a copy of the limit expression, or a -1 literal.
+     */
+    private BLangExpression createOrderLimitExpr(List<BLangNode> clauses, int orderByIndex, BType resultType) {
+        BLangNode orderByClause = clauses.get(orderByIndex);
+        BLangLiteral noLimit = ASTBuilderUtil.createLiteral(orderByClause.pos, symTable.intType, -1L);
+        if (orderByIndex + 1 == clauses.size() || clauses.get(orderByIndex + 1).getKind() != NodeKind.LIMIT) {
+            return noLimit;
+        }
+
+        BLangExpression limitExpr = ((BLangLimitClause) clauses.get(orderByIndex + 1)).expression;
+        switch (limitExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                BLangLiteral literal = (BLangLiteral) limitExpr;
+                return ASTBuilderUtil.createLiteral(literal.pos, literal.getBType(), literal.value);
+            case SIMPLE_VARIABLE_REF:
+                // A variable could change before a stream is consumed, while the limit clause reads it lazily.
+                if (types.getReferredType(resultType).tag == TypeTags.STREAM) {
+                    return noLimit;
+                }
+                BSymbol symbol = ((BLangSimpleVarRef) limitExpr).symbol;
+                if ((symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE ||
+                        (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT ||
+                        getQuerySymbols(clauses.subList(0, orderByIndex)).contains(symbol)) {
+                    return noLimit;
+                }
+                return desugar.addConversionExprIfRequired(
+                        ASTBuilderUtil.createVariableRef(limitExpr.pos, (BVarSymbol) symbol), symTable.intType);
+            default:
+                return noLimit;
+        }
+    }
+
+    private List<BVarSymbol> getQuerySymbols(List<BLangNode> clauses) {
+        List<BVarSymbol> symbols = new ArrayList<>();
+        for (BLangNode clause : clauses) {
+            switch (clause.getKind()) {
+                case FROM:
+                case JOIN:
+                    symbols.addAll(getIntroducedSymbols((BLangVariable)
+                            ((BLangInputClause) clause).variableDefinitionNode.getVariable()));
+                    break;
+                case LET_CLAUSE:
+                    symbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+                    break;
+            }
+        }
+        return symbols;
     }
 
 
     /**
-     * Desugar selectClause to below and return a reference to created select _StreamFunction.
-     * _StreamFunction selectFunc = createSelectFunction(function(_Frame frame) returns _Frame|error? {
+     * Desugar selectClause to below and return the created lambda.
+     * function(_Frame frame) returns _Frame|error? {
      * int x2 = <int> frame["x2"];
      * int y2 = <int> frame["y2"];
      * _Frame frame = {"value": x2 + y2};
@@ -648,7 +968,7 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param selectClause to be desugared.
      * @return variableReference to created select _StreamFunction.
      */
-    BLangVariableReference addSelectFunction(BLangBlockStmt blockStmt, BLangSelectClause selectClause) {
+    BLangLambdaFunction createSelectLambda(BLangSelectClause selectClause) {
         Location pos = selectClause.pos;
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -658,7 +978,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement assignment = getAddToFrameStmt(pos, frame, "$value$", selectClause.expression);
         body.stmts.add(body.stmts.size() - 1, assignment);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_SELECT_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     /**
@@ -700,6 +1020,36 @@ public class QueryDesugar extends BLangNodeVisitor {
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
     }
 
+    /**
+     * Add a lambda as the next stage of the fused _StreamFunction at the end of the pipeline, desugared to below,
+     * and return a reference to the fused _StreamFunction. If the pipeline does not end with a fused _StreamFunction,
+     * a new one is created and added to the pipeline first.
+     * _StreamFunction fusedFunc = createFusedFunction();
+     * addStreamFunction(pipeline, fusedFunc);
+     * addFusedTransform(fusedFunc, lambda);
+     *
+     * @param blockStmt     parent block to write to.
+     * @param pipelineRef   variableReference to pipeline.
+     * @param fusedFuncRef  variableReference to the fused _StreamFunction at the end of the pipeline, or null.
+     * @param stageFunction addFusedTransform or addFusedFilter.
+     * @param lambda        the stage.
+     * @return variableReference to the fused _StreamFunction.
+     */
+    private BLangVariableReference addFusedStage(BLangBlockStmt blockStmt, BLangVariableReference pipelineRef,
+                                                 BLangVariableReference fusedFuncRef, Name stageFunction,
+                                                 BLangLambdaFunction lambda) {
+        Location pos = lambda.pos;
+        if (fusedFuncRef == null) {
+            fusedFuncRef = getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_FUSED_FUNCTION, Lists.of(), pos);
+            addStreamFunction(blockStmt, pipelineRef, fusedFuncRef);
+        }
+        BLangInvocation addStageInvocation = createQueryLibInvocation(stageFunction,
+                Lists.of(fusedFuncRef, lambda), pos);
+        BLangExpressionStmt stmt = ASTBuilderUtil.createExpressionStmt(pos, blockStmt);
+        stmt.expr = addStageInvocation;
+        return fusedFuncRef;
+    }
+
     /**
      * Desugar to following invocation.
      * stream:addStreamFunction(pipeline, streamFunction);
@@ -32,6 +32,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @since 0.94
@@ -49,6 +50,7 @@ public class BSymbol implements Symbol {
     public boolean tainted;
     public boolean closure;
     public MarkdownDocAttachment markdownDocumentation;
+    private volatile Supplier<MarkdownDocAttachment> markdownDocumentationLoader;
     public Location pos;
     public SymbolOrigin origin;
 
@@ -86,7 +88,29 @@ public class BSymbol implements Symbol {
     }
 
     public MarkdownDocAttachment getMarkdownDocAttachment() {
-        return markdownDocumentation;
+        // Symbols of dependencies are shared by compilations, hence the documentation may be looked up concurrently.
+        // The documentation is set before the loader is cleared, so it is visible once the cleared loader is seen.
+        Supplier<MarkdownDocAttachment> loader = markdownDocumentationLoader;
+        if (loader == null) {
+            return markdownDocumentation;
+        }
+
+        synchronized (this) {
+            if (markdownDocumentationLoader != null) {
+                markdownDocumentation = loader.get();
+                markdownDocumentationLoader = null;
+            }
+            return markdownDocumentation;
+        }
+    }
+
+    /**
+     * Sets a loader to read the documentation of the symbol with, when it is first looked up.
+     *
+     * @param markdownDocumentationLoader the documentation loader
+     */
+    public void setMarkdownDocAttachmentLoader(Supplier<MarkdownDocAttachment> markdownDocumentationLoader) {
+        this.markdownDocumentationLoader = markdownDocumentationLoader;
     }
 
     @Override
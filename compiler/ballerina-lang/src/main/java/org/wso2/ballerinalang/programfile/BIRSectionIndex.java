@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.programfile;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Section table of a BIR binary, which follows the magic value and the version of the binary.
+ * <p>
+ * The table holds the offset and the length of each section of the binary, so that a section can be read without
+ * reading the sections before it. Offsets are from the start of the binary, i.e. from the magic value. The table is
+ * written as the number of sections, followed by the id, the offset and the length of each section, all as ints.
+ * <p>
+ * A binary is read one section at a time through {@link #getSectionStream(ByteBuffer, Section)}, as a view of the
+ * binary, so the sections are not copied.
+ *
+ * @since 2.0.0
+ */
+public class BIRSectionIndex {
+
+    /**
+     * Sections of a BIR binary, in the order they are written.
+     */
+    public enum Section {
+        CONSTANT_POOL(1),
+        MODULE(2),
+        IMPORTS(3),
+        CONSTANTS(4),
+        TYPE_DEFS(5),
+        GLOBAL_VARS(6),
+        TYPE_DEF_BODIES(7),
+        FUNCTIONS(8),
+        ANNOTATIONS(9),
+        SERVICE_DECLS(10);
+
+        public final int id;
+
+        Section(int id) {
+            this.id = id;
+        }
+
+        static Section fromId(int id) {
+            for (Section section : values()) {
+                if (section.id == id) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    // Offset of the table, which follows the magic value and the version.
+    private static final int TABLE_OFFSET = 8;
+    private static final int ENTRY_SIZE = 12;
+
+    private final Map<Section, int[]> sections = new EnumMap<>(Section.class);
+
+    public void addSection(Section section, int offset, int length) {
+        sections.put(section, new int[]{offset, length});
+    }
+
+    public int getOffset(Section section) {
+        return getEntry(section)[0];
+    }
+
+    public int getLength(Section section) {
+        return getEntry(section)[1];
+    }
+
+    /**
+     * Returns the size of the table when written, for a table with all the sections.
+     *
+     * @return size of the table in bytes
+     */
+    public static int getTableSize() {
+        return 4 + Section.values().length * ENTRY_SIZE;
+    }
+
+    public void write(DataOutputStream dataOut) throws IOException {
+        dataOut.writeInt(sections.size());
+        for (Map.Entry<Section, int[]> entry : sections.entrySet()) {
+            dataOut.writeInt(entry.getKey().id);
+            dataOut.writeInt(entry.getValue()[0]);
+            dataOut.writeInt(entry.getValue()[1]);
+        }
+    }
+
+    /**
+     * Reads the section table of a BIR binary, without copying the binary.
+     *
+     * @param birContent the BIR binary, starting at the magic value
+     * @return the section table
+     */
+    public static BIRSectionIndex read(ByteBuffer birContent) {
+        byte[] magic = new byte[CompiledBinaryFile.BIRPackageFile.BIR_MAGIC.length];
+        birContent.duplicate().get(magic);
+        if (!Arrays.equals(magic, CompiledBinaryFile.BIRPackageFile.BIR_MAGIC)) {
+            throw new BLangCompilerException("invalid magic number " + Arrays.toString(magic));
+        }
+
+        int version = birContent.getInt(magic.length);
+        if (version != CompiledBinaryFile.BIRPackageFile.BIR_VERSION) {
+            throw new BLangCompilerException("unsupported program file version " + version);
+        }
+
+        BIRSectionIndex sectionIndex = new BIRSectionIndex();
+        int sectionCount = birContent.getInt(TABLE_OFFSET);
+        for (int i = 0; i < sectionCount; i++) {
+            int entryOffset = TABLE_OFFSET + 4 + i * ENTRY_SIZE;
+            sectionIndex.addSection(birContent.getInt(entryOffset), birContent.getInt(entryOffset + 4),
+                                    birContent.getInt(entryOffset + 8));
+        }
+        return sectionIndex;
+    }
+
+    /**
+     * Returns a section of a BIR binary, as a view of the binary. Positions in the view are the offsets in the binary.
+     *
+     * @param birContent the BIR binary, starting at the magic value
+     * @param section    the section to return
+     * @return a buffer positioned at the start of the section and limited to its end
+     */
+    public ByteBuffer getSection(ByteBuffer birContent, Section section) {
+        int offset = getOffset(section);
+        int end = offset + getLength(section);
+        if (offset < 0 || end > birContent.limit()) {
+            throw new BLangCompilerException("invalid bir: section '" + section + "' is out of bounds");
+        }
+        ByteBuffer sectionBuffer = birContent.duplicate();
+        sectionBuffer.limit(end);
+        sectionBuffer.position(offset);
+        return sectionBuffer;
+    }
+
+    /**
+     * Returns a stream of a section of a BIR binary, which reads a view of the binary.
+     *
+     * @param birContent the BIR binary, starting at the magic value
+     * @param section    the section to read
+     * @return a stream of the section
+     */
+    public SectionInputStream getSectionStream(ByteBuffer birContent, Section section) {
+        return new SectionInputStream(getSection(birContent, section));
+    }
+
+    private void addSection(int id, int offset, int length) {
+        Section section = Section.fromId(id);
+        // Sections added by later versions of the format are ignored.
+        if (section != null) {
+            addSection(section, offset, length);
+        }
+    }
+
+    private int[] getEntry(Section section) {
+        int[] entry = sections.get(section);
+        if (entry == null) {
+            throw new BLangCompilerException("section '" + section + "' not found in the bir");
+        }
+        return entry;
+    }
+
+    /**
+     * Stream of a section of a BIR binary, reading a view of the binary.
+     */
+    public static class SectionInputStream extends InputStream {
+
+        private final ByteBuffer section;
+
+        private SectionInputStream(ByteBuffer section) {
+            this.section = section;
+        }
+
+        /**
+         * Returns the offset in the binary of the next byte to be read.
+         *
+         * @return offset from the start of the binary
+         */
+        public int position() {
+            return section.position();
+        }
+
+        @Override
+        public int read() {
+            if (!section.hasRemaining()) {
+                return -1;
+            }
+            return section.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!section.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, section.remaining());
+            section.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, section.remaining()));
+            section.position(section.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return section.remaining();
+        }
+    }
+}
@@ -25,9 +25,9 @@ public class ProgramFileConstants {
 
     public static final int MAGIC_NUMBER = 0xBA1DA4CE;
     public static final short VERSION_NUMBER = 50;
-    public static final int BIR_VERSION_NUMBER = 63;
-    public static final short MIN_SUPPORTED_VERSION = 63;
-    public static final short MAX_SUPPORTED_VERSION = 63;
+    public static final int BIR_VERSION_NUMBER = 64;
+    public static final short MIN_SUPPORTED_VERSION = 64;
+    public static final short MAX_SUPPORTED_VERSION = 64;
 
     // todo move this to a proper place
     public static final String[] SUPPORTED_PLATFORMS = {"java11"};
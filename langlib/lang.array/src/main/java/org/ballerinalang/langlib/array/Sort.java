@@ -18,16 +18,24 @@
 
 package org.ballerinalang.langlib.array;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.DecimalValueKind;
 import io.ballerina.runtime.internal.ValueComparisonUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.getModulePrefixedReason;
@@ -40,50 +48,244 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    private static final String ASCENDING = "ascending";
+    // Shorter arrays are sorted in the calling thread, as splitting them costs more than sorting them.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private static final Comparator<BString> STRING_COMPARATOR =
+            (str1, str2) -> ValueComparisonUtils.codePointCompare(str1.getValue(), str2.getValue());
+    private static final Comparator<BDecimal> DECIMAL_COMPARATOR =
+            (decimal1, decimal2) -> decimal1.decimalValue().compareTo(decimal2.decimalValue());
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
+        String sortDirection = direction.toString();
+        boolean isAscending = sortDirection.equals(ASCENDING);
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        Type elementType = arr.getElementType();
+        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(elementType));
+        if (function == null && sortPrimitiveArray(arr, sortedArray, elementType.getTag(), isAscending)) {
+            return sortedArray;
+        }
 
+        int size = arr.size();
+        Object[][] sortArr = new Object[size][2];
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
+            for (int i = 0; i < size; i++) {
                 sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
                 sortArr[i][1] = arr.get(i);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
+            for (int i = 0; i < size; i++) {
                 sortArr[i][0] = sortArr[i][1] = arr.get(i);
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
-
-        BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
+        Comparator<Object[]> keyComparator = getKeyComparator(sortArr, isAscending);
+        if (keyComparator != null) {
+            sort(sortArr, keyComparator);
+        } else {
+            // The merge only copies the references to the pairs, hence the auxiliary pairs are not created.
+            Object[][] sortArrClone = new Object[size][];
+            mergesort(sortArr, sortArrClone, 0, size - 1, sortDirection, isAscending);
+        }
 
-        for (int k = 0; k < sortArr.length; k++) {
+        for (int k = 0; k < size; k++) {
             sortedArray.add(k, sortArr[k][1]);
         }
 
         return sortedArray;
     }
 
+    private static boolean sortPrimitiveArray(BArray arr, BArray sortedArray, int elementTypeTag,
+                                              boolean isAscending) {
+        if (TypeTags.isIntegerTypeTag(elementTypeTag)) {
+            sortIntArray(arr, sortedArray, isAscending);
+            return true;
+        }
+        if (TypeTags.isStringTypeTag(elementTypeTag)) {
+            sortStringArray(arr, sortedArray, isAscending);
+            return true;
+        }
+        if (elementTypeTag == TypeTags.FLOAT_TAG) {
+            sortFloatArray(arr, sortedArray, isAscending);
+            return true;
+        }
+        if (elementTypeTag == TypeTags.DECIMAL_TAG) {
+            return sortDecimalArray(arr, sortedArray, isAscending);
+        }
+        return false;
+    }
+
+    private static void sortIntArray(BArray arr, BArray sortedArray, boolean isAscending) {
+        long[] values = arr.getIntArray();
+        if (values.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values);
+        } else {
+            Arrays.parallelSort(values);
+        }
+
+        int size = values.length;
+        for (int i = 0; i < size; i++) {
+            sortedArray.add(i, values[isAscending ? i : size - 1 - i]);
+        }
+    }
+
+    private static void sortFloatArray(BArray arr, BArray sortedArray, boolean isAscending) {
+        double[] values = arr.getFloatArray();
+        // NaN comes last in both directions, hence only the other values are sorted.
+        double[] numbers = new double[values.length];
+        int size = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                numbers[size++] = value;
+            }
+        }
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(numbers, 0, size);
+        } else {
+            Arrays.parallelSort(numbers, 0, size);
+        }
+        if (!isAscending) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                double temp = numbers[i];
+                numbers[i] = numbers[j];
+                numbers[j] = temp;
+            }
+        }
+
+        // -0.0 and 0.0 are equal, but sorted apart, hence put the zeros back in their original order.
+        int zeroIndex = 0;
+        while (zeroIndex < size && numbers[zeroIndex] != 0) {
+            zeroIndex++;
+        }
+        if (zeroIndex < size) {
+            for (double value : values) {
+                if (value == 0) {
+                    numbers[zeroIndex++] = value;
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            sortedArray.add(i, numbers[i]);
+        }
+        for (int i = size; i < values.length; i++) {
+            sortedArray.add(i, Double.NaN);
+        }
+    }
+
+    private static void sortStringArray(BArray arr, BArray sortedArray, boolean isAscending) {
+        int size = arr.size();
+        BString[] values = new BString[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = arr.getBString(i);
+        }
+        sort(values, isAscending ? STRING_COMPARATOR : STRING_COMPARATOR.reversed());
+
+        for (int i = 0; i < size; i++) {
+            sortedArray.add(i, values[i]);
+        }
+    }
+
+    private static boolean sortDecimalArray(BArray arr, BArray sortedArray, boolean isAscending) {
+        int size = arr.size();
+        BDecimal[] values = new BDecimal[size];
+        for (int i = 0; i < size; i++) {
+            BDecimal value = (BDecimal) arr.get(i);
+            if (!isDecimalRealNumber(value)) {
+                return false;
+            }
+            values[i] = value;
+        }
+        // Equal decimals may differ in precision, hence this relies on the sort being stable.
+        sort(values, isAscending ? DECIMAL_COMPARATOR : DECIMAL_COMPARATOR.reversed());
+
+        for (int i = 0; i < size; i++) {
+            sortedArray.add(i, values[i]);
+        }
+        return true;
+    }
+
+    private static Comparator<Object[]> getKeyComparator(Object[][] sortArr, boolean isAscending) {
+        // Keys of the same basic type, e.g. as returned by a key function, are compared without the type checks.
+        if (sortArr.length == 0) {
+            return null;
+        }
+        Object firstKey = sortArr[0][0];
+        Class<?> keyClass;
+        if (firstKey instanceof Long) {
+            keyClass = Long.class;
+        } else if (firstKey instanceof Double) {
+            keyClass = Double.class;
+        } else if (firstKey instanceof BString) {
+            keyClass = BString.class;
+        } else {
+            return null;
+        }
+        for (Object[] pair : sortArr) {
+            if (!keyClass.isInstance(pair[0])) {
+                return null;
+            }
+        }
+
+        Comparator<Object[]> comparator;
+        if (keyClass == Long.class) {
+            comparator = (pair1, pair2) -> Long.compare((Long) pair1[0], (Long) pair2[0]);
+        } else if (keyClass == BString.class) {
+            comparator = (pair1, pair2) -> STRING_COMPARATOR.compare((BString) pair1[0], (BString) pair2[0]);
+        } else {
+            return (pair1, pair2) -> compareFloatKeys((Double) pair1[0], (Double) pair2[0], isAscending);
+        }
+        return isAscending ? comparator : comparator.reversed();
+    }
+
+    private static int compareFloatKeys(double key1, double key2, boolean isAscending) {
+        // NaN comes last in both directions, and -0.0 is equal to 0.0.
+        if (Double.isNaN(key1)) {
+            return Double.isNaN(key2) ? 0 : 1;
+        }
+        if (Double.isNaN(key2)) {
+            return -1;
+        }
+        if (key1 == key2) {
+            return 0;
+        }
+        return isAscending ? Double.compare(key1, key2) : Double.compare(key2, key1);
+    }
+
+    private static boolean isDecimalRealNumber(BDecimal decimal) {
+        DecimalValueKind valueKind = decimal.getValueKind();
+        return valueKind == DecimalValueKind.ZERO || valueKind == DecimalValueKind.OTHER;
+    }
+
+    private static <T> void sort(T[] values, Comparator<? super T> comparator) {
+        // Both sorts are stable, hence values with equal keys keep their order.
+        if (values.length < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values, comparator);
+        } else {
+            Arrays.parallelSort(values, comparator);
+        }
+    }
+
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction,
+                                  boolean isAscending) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(input, aux, lo, mid, direction, isAscending);
+        mergesort(input, aux, mid + 1, hi, direction, isAscending);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(input, aux, lo, mid, hi, direction, isAscending);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
+    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction,
+                              boolean isAscending) {
         if (hi + 1 - lo >= 0) {
             System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
         }
@@ -95,11 +297,10 @@ public class Sort {
                     index = j++;
                 } else if (j > hi) {
                     index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
+                } else if (isAscending && ValueComparisonUtils.compareValues(aux[j][0], aux[i][0], direction) < 0) {
                     index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
+                } else if (!isAscending &&
+                        ValueComparisonUtils.compareValues(aux[i][0], aux[j][0], direction) < 0) {
                     index = j++;
                 } else {
                     index = i++;
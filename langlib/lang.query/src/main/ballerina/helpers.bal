@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.'xml;
 
 function createPipeline(
@@ -28,14 +29,22 @@ function createInputFunction(function(_Frame _frame) returns _Frame|error? input
     return new _InputFunction(inputFunc);
 }
 
-function createNestedFromFunction(function(_Frame _frame) returns _Frame|error? collectionFunc)
-        returns _StreamFunction {
-    return new _NestedFromFunction(collectionFunc);
+function createFusedFunction() returns _FusedFunction {
+    return new _FusedFunction();
+}
+
+function addFusedTransform(_FusedFunction fusedFunction,
+        function(_Frame _frame) returns _Frame|error? transformFunc) {
+    fusedFunction.addTransform(transformFunc);
 }
 
-function createLetFunction(function(_Frame _frame) returns _Frame|error? letFunc)
+function addFusedFilter(_FusedFunction fusedFunction, function(_Frame _frame) returns boolean filterFunc) {
+    fusedFunction.addFilter(filterFunc);
+}
+
+function createNestedFromFunction(function(_Frame _frame) returns _Frame|error? collectionFunc)
         returns _StreamFunction {
-    return new _LetFunction(letFunc);
+    return new _NestedFromFunction(collectionFunc);
 }
 
 function createInnerJoinFunction(
@@ -45,6 +54,13 @@ function createInnerJoinFunction(
     return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction);
 }
 
+function createIndexedInnerJoinFunction(
+        table<map<Type>> rhsTable, string rhsFieldName,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns _Frame|error? rhsInputFunction) returns _StreamFunction {
+    return new _IndexedInnerJoinFunction(rhsTable, rhsFieldName, lhsKeyFunction, rhsInputFunction);
+}
+
 function createOuterJoinFunction(
         _StreamPipeline joinedPipeline,
         function (_Frame _frame) returns any lhsKeyFunction,
@@ -52,19 +68,9 @@ function createOuterJoinFunction(
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
-function createFilterFunction(function(_Frame _frame) returns boolean filterFunc)
-        returns _StreamFunction {
-    return new _FilterFunction(filterFunc);
-}
-
-function createOrderByFunction(function(_Frame _frame) orderFunc)
+function createOrderByFunction(function(_Frame _frame) orderFunc, int orderLimit)
         returns _StreamFunction {
-    return new _OrderByFunction(orderFunc);
-}
-
-function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
-        returns _StreamFunction {
-    return new _SelectFunction(selectFunc);
+    return new _OrderByFunction(orderFunc, orderLimit);
 }
 
 function createDoFunction(function(_Frame _frame) doFunc) returns _StreamFunction {
@@ -83,75 +89,103 @@ function getStreamFromPipeline(_StreamPipeline pipeline) returns stream<Type, Co
     return pipeline.getStream();
 }
 
-function toArray(stream<Type, CompletionType> strm, Type[] arr) returns Type[]|error {
-    record {| Type value; |}|error? v = strm.next();
-    while (v is record {| Type value; |}) {
-        arr.push(v.value);
-        v = strm.next();
+function toArray(_StreamPipeline pipeline, Type[] arr) returns Type[]|error {
+    _Frame|error? f = pipeline.nextFrame();
+    while (f is _Frame) {
+        arr.push(<Type> f["$value$"]);
+        f = pipeline.nextFrame();
     }
-    if (v is error) {
-        return v;
+    if (f is error) {
+        return f;
     }
 
     return arr;
 }
 
-function toXML(stream<Type, CompletionType> strm) returns xml|error {
+function toXML(_StreamPipeline pipeline) returns xml|error {
     xml result = 'xml:concat();
-    record {| Type value; |}|CompletionType v = strm.next();
-    while (v is record {| Type value; |}) {
-        Type value = v.value;
+    _Frame|error? f = pipeline.nextFrame();
+    while (f is _Frame) {
+        any|error value = f["$value$"];
         if (value is xml) {
             result = result + value;
         }
-        v = strm.next();
+        f = pipeline.nextFrame();
     }
-    if (v is error) {
-        return v;
+    if (f is error) {
+        return f;
     }
     return result;
 }
 
-function toString(stream<Type, CompletionType> strm) returns string|error {
+function toString(_StreamPipeline pipeline) returns string|error {
     string result = "";
-    record {| Type value; |}|CompletionType v = strm.next();
-    while (v is record {| Type value; |}) {
-        Type value = v.value;
+    _Frame|error? f = pipeline.nextFrame();
+    while (f is _Frame) {
+        any|error value = f["$value$"];
         if (value is string) {
             result += value;
         }
-        v = strm.next();
+        f = pipeline.nextFrame();
     }
-    if (v is error) {
-        return v;
+    if (f is error) {
+        return f;
     }
     return result;
 }
 
-function addToTable(stream<Type, CompletionType> strm, table<map<Type>> tbl, error? err) returns table<map<Type>>|error {
-    record {| Type value; |}|CompletionType v = strm.next();
-    while (v is record {| Type value; |}) {
-        error? e = trap tbl.add(<map<Type>> checkpanic v.value);
+function addToTable(_StreamPipeline pipeline, table<map<Type>> tbl, error? err) returns table<map<Type>>|error {
+    _Frame|error? f = pipeline.nextFrame();
+    while (f is _Frame) {
+        error? e = trap tbl.add(<map<Type>> checkpanic f["$value$"]);
         if (e is error) {
             if (err is error) {
                 return err;
             }
             return e;
         }
-        v = strm.next();
+        f = pipeline.nextFrame();
     }
-    if (v is error) {
-        return v;
+    if (f is error) {
+        return f;
     }
     return tbl;
 }
 
-function consumeStream(stream<Type, CompletionType> strm) returns error? {
-    any|error? v = strm.next();
-    while (!(v is () || v is error)) {
-        v = strm.next();
+function consumeStream(_StreamPipeline pipeline) returns error? {
+    _Frame|error? f = pipeline.nextFrame();
+    while (f is _Frame) {
+        f = pipeline.nextFrame();
     }
-    if (v is error) {
-        return v;
+    if (f is error) {
+        return f;
     }
 }
+
+# Returns the rows of a table whose value for the given field is `==` to the given value, in table order.
+# The rows are looked up through a secondary index of the table when the field is read-only.
+#
+# + tbl - the table
+# + fieldName - name of the field
+# + fieldValue - value of the field
+# + return - the matching rows
+function getTableRowsByField(table<map<Type>> tbl, string fieldName, any|error fieldValue) returns map<Type>[] =
+    @java:Method {
+        'class: "org.ballerinalang.langlib.query.GetTableRowsByField",
+        name: "getTableRowsByField"
+    } external;
+
+function createFrameSorter(int orderLimit) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "createFrameSorter"
+} external;
+
+function addToFrameSorter(handle sorter, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "addFrame"
+} external;
+
+function nextSortedFrame(handle sorter) returns _Frame? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "nextFrame"
+} external;
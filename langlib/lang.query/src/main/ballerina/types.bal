@@ -94,6 +94,13 @@ class _StreamPipeline {
         }
     }
 
+    # Returns the next frame of the pipeline to the functions consuming the whole pipeline,
+    # without going through a stream.
+    function nextFrame() returns _Frame|error? {
+        _StreamFunction sf = self.streamFunction;
+        return sf.process();
+    }
+
     public function reset() {
         _StreamFunction sf = self.streamFunction;
         sf.reset();
@@ -203,6 +210,76 @@ class _InputFunction {
     }
 }
 
+class _FusedFunction {
+    *_StreamFunction;
+
+    # Desugared function to do, for consecutive from, let, where and select clauses;
+    # apply the clauses to each frame in order, and move on to the next frame as soon as a where clause rejects it.
+    # from var person in personList where person.age >= 70 let int age = person.age select age
+    #   frame {person: personList[x]}, age >= 70, frame {age: person.age, ...}, frame {$value$: age, ...}
+    # Both stage lists have an entry for every stage, and `filterStages` tells which of the two applies.
+    (function (_Frame _frame) returns _Frame|error?)[] transformFuncs = [];
+    (function (_Frame _frame) returns boolean)[] filterFuncs = [];
+    boolean[] filterStages = [];
+
+    function init() {
+        self.prevFunc = ();
+    }
+
+    function addTransform(function (_Frame _frame) returns _Frame|error? transformFunc) {
+        self.transformFuncs.push(transformFunc);
+        self.filterFuncs.push(_acceptFrame);
+        self.filterStages.push(false);
+    }
+
+    function addFilter(function (_Frame _frame) returns boolean filterFunc) {
+        self.transformFuncs.push(_keepFrame);
+        self.filterFuncs.push(filterFunc);
+        self.filterStages.push(true);
+    }
+
+    public function process() returns _Frame|error? {
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        (function (_Frame _frame) returns _Frame|error?)[] transformFuncs = self.transformFuncs;
+        (function (_Frame _frame) returns boolean)[] filterFuncs = self.filterFuncs;
+        boolean[] filterStages = self.filterStages;
+        int stageCount = filterStages.length();
+        _Frame|error? pFrame = pf.process();
+        int i = 0;
+        while (i < stageCount && pFrame is _Frame) {
+            if (filterStages[i]) {
+                function (_Frame _frame) returns boolean filterFunc = filterFuncs[i];
+                if (!filterFunc(pFrame)) {
+                    // Move to next frame
+                    pFrame = pf.process();
+                    i = 0;
+                    continue;
+                }
+            } else {
+                function (_Frame _frame) returns _Frame|error? transformFunc = transformFuncs[i];
+                pFrame = transformFunc(pFrame);
+            }
+            i += 1;
+        }
+        return pFrame;
+    }
+
+    public function reset() {
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
+function _keepFrame(_Frame _frame) returns _Frame|error? {
+    return _frame;
+}
+
+function _acceptFrame(_Frame _frame) returns boolean {
+    return true;
+}
+
 class _NestedFromFunction {
     *_StreamFunction;
     _Iterator? itr;
@@ -288,38 +365,6 @@ class _NestedFromFunction {
     }
 }
 
-class _LetFunction {
-    *_StreamFunction;
-
-    # Desugared function to do;
-    # let Company companyRecord = { name: "WSO2" }
-    #   frame { companyRecord: { name: "WSO2" }, ...prevFrame }
-    public function (_Frame _frame) returns _Frame|error? letFunc;
-
-    function init(function (_Frame _frame) returns _Frame|error? letFunc) {
-        self.letFunc = letFunc;
-        self.prevFunc = ();
-    }
-
-    public function process() returns _Frame|error? {
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        function (_Frame _frame) returns _Frame|error? f = self.letFunc;
-        _Frame|error? pFrame = pf.process();
-        if (pFrame is _Frame) {
-            _Frame|error? cFrame = f(pFrame);
-            return cFrame;
-        }
-        return pFrame;
-    }
-
-    public function reset() {
-        _StreamFunction? pf = self.prevFunc;
-        if (pf is _StreamFunction) {
-            pf.reset();
-        }
-    }
-}
-
 class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
@@ -396,6 +441,92 @@ class _InnerJoinFunction {
     }
 }
 
+class _IndexedInnerJoinFunction {
+    *_StreamFunction;
+    table<map<Type>> rhsTable;
+    string rhsFieldName;
+    function (_Frame _frame) returns any lhsKeyFunction;
+    function (_Frame _frame) returns _Frame|error? rhsInputFunction;
+    map<Type>[]? rhsCandidates;
+    int rhsCandidateIndex;
+    _Frame|error? lhsFrame;
+
+    function init(
+            table<map<Type>> rhsTable, string rhsFieldName,
+            function (_Frame _frame) returns any lhsKeyFunction,
+            function (_Frame _frame) returns _Frame|error? rhsInputFunction) {
+        self.rhsTable = rhsTable;
+        self.rhsFieldName = rhsFieldName;
+        self.lhsKeyFunction = lhsKeyFunction;
+        self.rhsInputFunction = rhsInputFunction;
+        self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
+        self.prevFunc = ();
+        self.lhsFrame = ();
+    }
+
+    # Desugared function to do;
+    # from var ... in listA join var ... in tableB on lhsKey equals rhsVar.field
+    # by looking up the rows of tableB through an index on `field`, instead of hashing all of tableB.
+    # Rows are matched with `==`, whereas `_InnerJoinFunction` matches the `toString()` of the keys. Both give the
+    # same result here, since `field` is an `int`, `string` or `boolean` field and the type of lhsKey has to be a
+    # subtype of the type of `field`.
+    # + return - merged two frames { ...frameA, ...frameB }
+    public function process() returns _Frame|error? {
+        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
+        function (_Frame _frame) returns _Frame|error? rhsIF = self.rhsInputFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        map<Type>[]? rhsCandidates = self.rhsCandidates;
+        _Frame|error? lhsFrame = self.lhsFrame;
+
+        if (lhsFrame is ()) {
+            lhsFrame = pf.process();
+            self.lhsFrame = lhsFrame;
+        }
+
+        if (lhsFrame is _Frame) {
+            if (rhsCandidates is ()) {
+                rhsCandidates = getTableRowsByField(self.rhsTable, self.rhsFieldName, lhsKF(lhsFrame));
+                self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
+            }
+            int rhsCandidateIndex = self.rhsCandidateIndex;
+            if (rhsCandidates is map<Type>[] && rhsCandidateIndex < rhsCandidates.length()) {
+                map<Type> rhsRow = rhsCandidates[rhsCandidateIndex];
+                self.rhsCandidateIndex = rhsCandidateIndex + 1;
+                _Frame|error? rhsFrame = rhsIF({value: rhsRow});
+                if (rhsFrame is _Frame) {
+                    _Frame joinedFrame = {...lhsFrame};
+                    foreach var [k, val] in rhsFrame.entries() {
+                        joinedFrame[k] = val;
+                    }
+                    return joinedFrame;
+                } else if (rhsFrame is error) {
+                    return rhsFrame;
+                }
+                return self.process();
+            } else {
+                // Move to next lhs frame
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return self.process();
+            }
+        }
+        return lhsFrame;
+    }
+
+    public function reset() {
+        // Reset the state of lhsFrame
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
 class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any lhsKeyFunction;
@@ -485,115 +616,50 @@ class _OuterJoinFunction {
     }
 }
 
-class _FilterFunction {
-    *_StreamFunction;
-
-    # Desugared function to do;
-    # where person.age >= 70
-    # emit the next frame which satisfies the condition
-    function (_Frame _frame) returns boolean filterFunc;
-
-    function init(function (_Frame _frame) returns boolean filterFunc) {
-        self.filterFunc = filterFunc;
-        self.prevFunc = ();
-    }
-
-    public function process() returns _Frame|error? {
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        function (_Frame _frame) returns boolean filterFunc = self.filterFunc;
-        _Frame|error? pFrame = pf.process();
-        while (pFrame is _Frame && !filterFunc(pFrame)) {
-            pFrame = pf.process();
-        }
-        return pFrame;
-    }
-
-    public function reset() {
-        _StreamFunction? pf = self.prevFunc;
-        if (pf is _StreamFunction) {
-            pf.reset();
-        }
-    }
-}
-
 class _OrderByFunction {
     *_StreamFunction;
 
     # Desugared function to do;
     # order by person.fname true, person.age false
+    # limit 10
+    # the limit is -1 when the order by clause is not directly followed by a limit clause
+    # that can be evaluated up front.
     function(_Frame _frame) orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    int orderLimit;
+    handle? sorter;
 
-    function init(function(_Frame _frame) orderKeyFunc) {
+    function init(function(_Frame _frame) orderKeyFunc, int orderLimit) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.orderLimit = orderLimit;
+        self.sorter = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
-            _StreamFunction pf = <_StreamFunction> self.prevFunc;
-            function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
-            _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
-            // consume all events for ordering.
-            while (f is _Frame) {
-                orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
-                f = pf.process();
-            }
-            if (f is error) {
-                return f;
-            }
-            self.orderedStream = oTree.get().toStream();
-        }
-
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        handle? sorter = self.sorter;
+        if (sorter is handle) {
+            return nextSortedFrame(sorter);
         }
-        return f;
-    }
 
-    public function reset() {
-        self.orderedStream = ();
-        _StreamFunction? pf = self.prevFunc;
-        if (pf is _StreamFunction) {
-            pf.reset();
+        _StreamFunction pf = <_StreamFunction> self.prevFunc;
+        function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
+        handle frameSorter = createFrameSorter(self.orderLimit);
+        _Frame|error? f = pf.process();
+        // consume all events for ordering, keeping only the ones within the limit.
+        while (f is _Frame) {
+            orderKeyFunc(f);
+            addToFrameSorter(frameSorter, f);
+            f = pf.process();
         }
-    }
-}
-
-class _SelectFunction {
-    *_StreamFunction;
-
-    # Desugared function to do;
-    # select {
-    #   firstName: person.firstName,
-    #   lastName: person.lastName,
-    #   dept : dept.name
-    # };
-    public function (_Frame _frame) returns _Frame|error? selectFunc;
-
-    function init(function (_Frame _frame) returns _Frame|error? selectFunc) {
-        self.selectFunc = selectFunc;
-        self.prevFunc = ();
-    }
-
-    public function process() returns _Frame|error? {
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        function (_Frame _frame) returns _Frame|error? f = self.selectFunc;
-        _Frame|error? pFrame = pf.process();
-        if (pFrame is _Frame) {
-            _Frame|error? cFrame = f(pFrame);
-            return cFrame;
+        if (f is error) {
+            return f;
         }
-        return pFrame;
+        self.sorter = frameSorter;
+        return nextSortedFrame(frameSorter);
     }
 
     public function reset() {
+        self.sorter = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -729,107 +795,3 @@ class IterHelper {
         }
     }
 }
-
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
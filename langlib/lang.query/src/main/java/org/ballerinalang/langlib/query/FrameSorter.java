@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Orders the frames of a query by the order keys of its order by clause, for lang.query.
+ * <p>
+ * Frames are compared key by key with the same comparison as lang.array:sort, and frames with equal keys stay in
+ * the order they were added. When the order by clause is followed by a limit, only the frames that can make it
+ * into the result are kept, in a bounded heap.
+ *
+ * @since 2.0.0
+ */
+public class FrameSorter {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+
+    private final int limit;
+    private final List<SortEntry> frames = new ArrayList<>();
+    private final PriorityQueue<SortEntry> topFrames;
+    private final Comparator<SortEntry> comparator = this::compare;
+    private boolean[] ascending;
+    private long nextSequence;
+    private List<SortEntry> sortedFrames;
+    private int cursor;
+
+    private FrameSorter(int limit) {
+        this.limit = limit;
+        // The heap keeps the frame that sorts last at its head, so that it is the one dropped for a better frame.
+        this.topFrames = limit > 0 ? new PriorityQueue<>(Math.min(limit, 1024), comparator.reversed()) : null;
+    }
+
+    public static BHandle createFrameSorter(long limit) {
+        int frameLimit = limit > 0 && limit < Integer.MAX_VALUE ? (int) limit : -1;
+        return ValueCreator.createHandleValue(new FrameSorter(frameLimit));
+    }
+
+    public static void addFrame(BHandle sorterHandle, BMap<BString, Object> frame) {
+        ((FrameSorter) sorterHandle.getValue()).add(frame);
+    }
+
+    public static Object nextFrame(BHandle sorterHandle) {
+        return ((FrameSorter) sorterHandle.getValue()).next();
+    }
+
+    private void add(BMap<BString, Object> frame) {
+        if (ascending == null) {
+            BArray directions = (BArray) frame.get(ORDER_DIRECTION);
+            ascending = new boolean[directions.size()];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = (Boolean) directions.get(i);
+            }
+        }
+
+        SortEntry entry = new SortEntry(frame, ((BArray) frame.get(ORDER_KEY)).getValues(), nextSequence++);
+        if (topFrames == null) {
+            frames.add(entry);
+        } else if (topFrames.size() < limit) {
+            topFrames.add(entry);
+        } else if (compare(entry, topFrames.peek()) < 0) {
+            topFrames.poll();
+            topFrames.add(entry);
+        }
+    }
+
+    private Object next() {
+        if (sortedFrames == null) {
+            sortedFrames = topFrames == null ? frames : new ArrayList<>(topFrames);
+            sortedFrames.sort(comparator);
+        }
+        if (cursor == sortedFrames.size()) {
+            return null;
+        }
+
+        SortEntry entry = sortedFrames.get(cursor);
+        // Let the frame be collected once it is handed out.
+        sortedFrames.set(cursor++, null);
+        return entry.frame;
+    }
+
+    private int compare(SortEntry lhs, SortEntry rhs) {
+        for (int i = 0; i < ascending.length; i++) {
+            int result = ascending[i] ?
+                    ValueComparisonUtils.compareValues(lhs.keys[i], rhs.keys[i], "ascending") :
+                    ValueComparisonUtils.compareValues(rhs.keys[i], lhs.keys[i], "descending");
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(lhs.sequence, rhs.sequence);
+    }
+
+    private static class SortEntry {
+
+        final BMap<BString, Object> frame;
+        final Object[] keys;
+        final long sequence;
+
+        SortEntry(BMap<BString, Object> frame, Object[] keys, long sequence) {
+            this.frame = frame;
+            this.keys = keys;
+            this.sequence = sequence;
+        }
+    }
+}
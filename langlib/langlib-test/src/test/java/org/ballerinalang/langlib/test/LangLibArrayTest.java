@@ -573,6 +573,12 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
+                "testSort12",
+                "testSort13",
+                "testSort14",
+                "testSort15",
+                "testSort16",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
                 "testTupleReverse",
@@ -1165,6 +1165,72 @@ function testSort10() {
     assertValueEquality(sortedArr6, []);
 }
 
+function testSort11() {
+    int[] arr = [5, -3, 9, 0, 9, -20];
+    assertValueEquality([-20, -3, 0, 5, 9, 9], arr.sort());
+    assertValueEquality([9, 9, 5, 0, -3, -20], arr.sort(array:DESCENDING));
+}
+
+function testSort12() {
+    float[] arr = [2.5, float:NaN, -1.0, 0.0, 10.25];
+
+    float[] sortedArr = arr.sort();
+    assertValueEquality([-1.0, 0.0, 2.5, 10.25], sortedArr.slice(0, 4));
+    assertValueEquality(true, sortedArr[4].isNaN());
+
+    float[] sortedArr2 = arr.sort(array:DESCENDING);
+    assertValueEquality([10.25, 2.5, 0.0, -1.0], sortedArr2.slice(0, 4));
+    assertValueEquality(true, sortedArr2[4].isNaN());
+
+    float[] arr2 = [0.0, -0.0, 1.0, 0.0];
+    float[] sortedArr3 = arr2.sort(array:DESCENDING);
+    assertValueEquality(true, 1.0 / sortedArr3[1] > 0.0);
+    assertValueEquality(true, 1.0 / sortedArr3[2] < 0.0);
+}
+
+function testSort13() {
+    string[] arr = ["\u{FFFD}", "b", "\u{1F600}", "a", "ab"];
+    assertValueEquality(["a", "ab", "b", "\u{FFFD}", "\u{1F600}"], arr.sort());
+    assertValueEquality(["\u{1F600}", "\u{FFFD}", "b", "ab", "a"], arr.sort(array:DESCENDING));
+}
+
+function testSort14() {
+    decimal[] arr = [1.5, -2, 1.50, 0];
+
+    // Equal decimals keep their original order, and their precision
+    decimal[] sortedArr = arr.sort();
+    assertValueEquality("-2", sortedArr[0].toString());
+    assertValueEquality("0", sortedArr[1].toString());
+    assertValueEquality("1.5", sortedArr[2].toString());
+    assertValueEquality("1.50", sortedArr[3].toString());
+
+    decimal[] sortedArr2 = arr.sort(array:DESCENDING);
+    assertValueEquality("1.5", sortedArr2[0].toString());
+    assertValueEquality("1.50", sortedArr2[1].toString());
+    assertValueEquality("0", sortedArr2[2].toString());
+    assertValueEquality("-2", sortedArr2[3].toString());
+}
+
+function testSort15() {
+    string[] arr = ["ccc", "a", "bb", "dd"];
+    assertValueEquality(["a", "bb", "dd", "ccc"], arr.sort(array:ASCENDING, s => s.length()));
+    assertValueEquality(["ccc", "bb", "dd", "a"], arr.sort(array:DESCENDING, s => s.length()));
+    assertValueEquality(["ccc", "bb", "dd", "a"], arr.sort(array:DESCENDING, s => <float>s.length()));
+}
+
+function testSort16() {
+    int[] arr = [];
+    foreach int i in 0 ..< 100000 {
+        arr.push((i * 7919) % 100003);
+    }
+    int[] sortedArr = arr.sort();
+    foreach int i in 1 ..< sortedArr.length() {
+        if sortedArr[i - 1] > sortedArr[i] {
+            panic error(ASSERTION_ERROR_REASON, message = "array not sorted at index " + i.toString());
+        }
+    }
+}
+
 function testTupleReverse() {
     [int, string, float] tupleArr = [2,  "abc", 2.4];
     anydata[] y = tupleArr.reverse();
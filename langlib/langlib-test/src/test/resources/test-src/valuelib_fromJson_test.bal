@@ -416,6 +416,50 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assertEquality(a is error, true);
 }
 
+type OrderItem record {|
+    string sku;
+    int quantity;
+    float price;
+|};
+
+type CustomerOrder record {
+    string id;
+    OrderItem[] items;
+    map<string> tags;
+    string? note;
+    boolean paid = false;
+};
+
+function testFromJsonStringWithTypeNestedRecords() {
+    string s = "{\"id\":\"O-1\",\"items\":[{\"sku\":\"A\",\"quantity\":2,\"price\":10}," +
+        "{\"sku\":\"B\",\"quantity\":1,\"price\":2.5}],\"tags\":{\"channel\":\"web\"},\"note\":null," +
+        "\"priority\":3}";
+    CustomerOrder ord = checkpanic s.fromJsonStringWithType();
+    assertEquality(ord.id, "O-1");
+    assertEquality(ord.items.length(), 2);
+    assertEquality(ord.items[0].price, 10.0);
+    assertEquality(ord.items[1].quantity, 1);
+    assertEquality(ord.tags["channel"], "web");
+    assertEquality(ord.note, ());
+    assertEquality(ord.paid, false);
+    assertEquality(ord["priority"], 3);
+}
+
+function testFromJsonStringWithTypeNestedRecordsNegative() {
+    string s = "{\"id\":\"O-1\",\"items\":[{\"sku\":\"A\",\"quantity\":\"2\",\"price\":10}]," +
+        "\"tags\":{}}";
+    CustomerOrder|error ord = s.fromJsonStringWithType();
+    assertEquality(ord is error, true);
+    error err = <error> ord;
+    string errorMsg = <string> checkpanic err.detail()["message"];
+    assertEquality(errorMsg.startsWith("'map<json>' value cannot be converted to 'CustomerOrder'"), true);
+    assertEquality(errorMsg.includes("missing required field 'note'"), true);
+
+    string invalid = "{\"id\":\"O-1\",\"items\":[";
+    CustomerOrder|error ord2 = invalid.fromJsonStringWithType();
+    assertEquality(ord2 is error, true);
+}
+
 type OpenRecordWithUnionTarget record {|
     string|decimal...;
 |};
@@ -0,0 +1,282 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.CompilationCache;
+import io.ballerina.projects.CompilationCacheFactory;
+import io.ballerina.projects.CompilationOptions;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.repos.FileSystemCache;
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Contains cases to test loading the modules of a package from the compilation cache in an incremental build.
+ *
+ * @since 2.0.0
+ */
+public class IncrementalBuildTests {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src", "test", "resources");
+    private static final String DEFAULT_MODULE = "incremental";
+    private static final String UTILS_MODULE = "incremental.utils";
+    private static final String STRINGS_MODULE = "incremental.strings";
+    private static final Set<String> ALL_MODULES = Set.of(DEFAULT_MODULE, UTILS_MODULE, STRINGS_MODULE);
+
+    private Path tmpDir;
+    private Path projectPath;
+    private Path cacheDirPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        this.tmpDir = Files.createTempDirectory("b7a-incremental-build-test-" + System.nanoTime());
+        this.projectPath = this.tmpDir.resolve("incremental_build_project");
+        this.cacheDirPath = this.tmpDir.resolve("cache");
+        copyDirectory(RESOURCE_DIRECTORY.resolve("incremental_build_project"), this.projectPath);
+    }
+
+    @Test(description = "tests that the modules are loaded from the cache when nothing changed since the last build")
+    public void testCacheHit() {
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(firstBuild.loadedModules.isEmpty());
+        Assert.assertEquals(firstBuild.cachedKeys.keySet(), ALL_MODULES);
+
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertEquals(secondBuild.loadedModules, ALL_MODULES);
+        Assert.assertTrue(secondBuild.cachedKeys.isEmpty());
+    }
+
+    @Test(description = "tests that a module is compiled again when its sources change")
+    public void testCacheMissOnSourceChange() throws IOException {
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+        String previousKey = firstBuild.cachedKeys.get(STRINGS_MODULE);
+        Assert.assertTrue(cacheEntryExists(previousKey));
+
+        Files.writeString(projectPath.resolve("modules").resolve("strings").resolve("strings.bal"),
+                "public function greet(string name) returns string {\n    return \"Hi \" + name;\n}\n");
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertEquals(secondBuild.loadedModules, Set.of(DEFAULT_MODULE, UTILS_MODULE));
+        Assert.assertEquals(secondBuild.cachedKeys.keySet(), Set.of(STRINGS_MODULE));
+        Assert.assertNotEquals(secondBuild.cachedKeys.get(STRINGS_MODULE), previousKey);
+        // The entry of the previous sources is replaced by the new one
+        Assert.assertFalse(cacheEntryExists(previousKey));
+    }
+
+    @Test(description = "tests that a module is compiled again when a module it depends on changes")
+    public void testCacheMissOnDependencyChange() throws IOException {
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+
+        Files.writeString(projectPath.resolve("modules").resolve("utils").resolve("utils.bal"),
+                "public function add(int a, int b) returns int {\n    return b + a;\n}\n");
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertEquals(secondBuild.loadedModules, Set.of(STRINGS_MODULE));
+        Assert.assertEquals(secondBuild.cachedKeys.keySet(), Set.of(DEFAULT_MODULE, UTILS_MODULE));
+        // The sources of the default module did not change, yet the module it depends on did
+        Assert.assertNotEquals(secondBuild.cachedKeys.get(DEFAULT_MODULE), firstBuild.cachedKeys.get(DEFAULT_MODULE));
+    }
+
+    @Test(description = "tests that the modules are compiled again when the compiler options change")
+    public void testCacheMissOnCompilerOptionChange() {
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+
+        TestCompilationCache secondBuild = build(incrementalBuildOptions()
+                .setOptimizationLevel(CompilationOptions.NO_OPTIMIZATION_LEVEL).build());
+        Assert.assertTrue(secondBuild.loadedModules.isEmpty());
+        Assert.assertEquals(secondBuild.cachedKeys.keySet(), ALL_MODULES);
+        for (String moduleName : ALL_MODULES) {
+            Assert.assertNotEquals(secondBuild.cachedKeys.get(moduleName), firstBuild.cachedKeys.get(moduleName));
+        }
+
+        // Only the entries of the last build are kept, hence going back to the earlier options is a miss as well
+        TestCompilationCache thirdBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(thirdBuild.loadedModules.isEmpty());
+        Assert.assertEquals(thirdBuild.cachedKeys, firstBuild.cachedKeys);
+    }
+
+    @Test(description = "tests that the modules are compiled again when a platform library changes")
+    public void testCacheMissOnPlatformLibraryChange() throws IOException {
+        Path libPath = projectPath.resolve("libs").resolve("native.jar");
+        Files.createDirectories(libPath.getParent());
+        writeJar(libPath, "version=1");
+        Files.writeString(projectPath.resolve(ProjectConstants.BALLERINA_TOML),
+                "\n[[platform.java11.dependency]]\npath = \"./libs/native.jar\"\n", StandardOpenOption.APPEND);
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+        Assert.assertEquals(firstBuild.cachedKeys.keySet(), ALL_MODULES);
+
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertEquals(secondBuild.loadedModules, ALL_MODULES);
+
+        // The path of the library is unchanged, yet its content did
+        writeJar(libPath, "version=2");
+        TestCompilationCache thirdBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(thirdBuild.loadedModules.isEmpty());
+        Assert.assertEquals(thirdBuild.cachedKeys.keySet(), ALL_MODULES);
+        for (String moduleName : ALL_MODULES) {
+            Assert.assertNotEquals(thirdBuild.cachedKeys.get(moduleName), firstBuild.cachedKeys.get(moduleName));
+        }
+    }
+
+    @Test(description = "tests that the modules are compiled from their sources when they cannot be cached")
+    public void testCacheWriteFailure() throws IOException {
+        // A file in place of the directory of the cache entries fails every write to the cache
+        Path incrementalCachePath = cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME).resolve("testorg")
+                .resolve("incremental").resolve("0.1.0").resolve(ProjectConstants.INCREMENTAL_CACHE_DIR_NAME);
+        Files.createDirectories(incrementalCachePath.getParent());
+        Files.createFile(incrementalCachePath);
+
+        TestCompilationCache firstBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(firstBuild.loadedModules.isEmpty());
+
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(secondBuild.loadedModules.isEmpty());
+    }
+
+    @Test(description = "tests that the modules are not cached unless the build is incremental")
+    public void testNonIncrementalBuild() {
+        TestCompilationCache firstBuild = build(BuildOptions.builder().setSkipTests(true).build());
+        Assert.assertTrue(firstBuild.cachedKeys.isEmpty());
+
+        TestCompilationCache secondBuild = build(incrementalBuildOptions().build());
+        Assert.assertTrue(secondBuild.loadedModules.isEmpty());
+        Assert.assertEquals(secondBuild.cachedKeys.keySet(), ALL_MODULES);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanup() {
+        ProjectUtils.deleteDirectory(this.tmpDir);
+    }
+
+    private BuildOptions.BuildOptionsBuilder incrementalBuildOptions() {
+        // Modules with tests are always compiled from their sources
+        return BuildOptions.builder().setIncrementalBuild(true).setSkipTests(true);
+    }
+
+    private TestCompilationCache build(BuildOptions buildOptions) {
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(), "Unexpected compilation errors");
+
+        // The executable is created from the libraries of the modules loaded from the cache as well
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC,
+                tmpDir.resolve("incremental.jar"));
+        Assert.assertTrue(emitResult.successful());
+        return testCompCacheFactory.compilationCache();
+    }
+
+    private boolean cacheEntryExists(String cacheKey) throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDirPath)) {
+            return paths.anyMatch(path -> Files.isDirectory(path) && path.getFileName().toString().equals(cacheKey));
+        }
+    }
+
+    private static void writeJar(Path path, String content) throws IOException {
+        try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(path))) {
+            jarOutputStream.putNextEntry(new JarEntry("native.properties"));
+            jarOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.copy(path, target.resolve(source.relativize(path).toString()));
+            }
+        }
+    }
+
+    /**
+     * An instance of {@code CompilationCacheFactory} used for testing purposes.
+     */
+    private static class TestCompilationCacheFactory implements CompilationCacheFactory {
+        private TestCompilationCache compilationCache;
+        private final Path cacheDirPath;
+
+        TestCompilationCacheFactory(Path cacheDirPath) {
+            this.cacheDirPath = cacheDirPath;
+        }
+
+        @Override
+        public CompilationCache createCompilationCache(Project project) {
+            compilationCache = new TestCompilationCache(project, cacheDirPath);
+            return compilationCache;
+        }
+
+        public TestCompilationCache compilationCache() {
+            return compilationCache;
+        }
+    }
+
+    /**
+     * An instance of {@code CompilationCache} recording the modules loaded from and written to the cache.
+     */
+    private static class TestCompilationCache extends FileSystemCache {
+        private final Set<String> loadedModules = new HashSet<>();
+        private final Map<String, String> cachedKeys = new HashMap<>();
+
+        public TestCompilationCache(Project project, Path cacheDirPath) {
+            super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName, String cacheKey) {
+            byte[] birContent = super.getBir(moduleName, cacheKey);
+            if (birContent.length > 0) {
+                loadedModules.add(moduleName.toString());
+            }
+            return birContent;
+        }
+
+        @Override
+        public void cacheBir(ModuleName moduleName, String cacheKey, ByteArrayOutputStream birContent) {
+            super.cacheBir(moduleName, cacheKey, birContent);
+            cachedKeys.put(moduleName.toString(), cacheKey);
+        }
+    }
+}
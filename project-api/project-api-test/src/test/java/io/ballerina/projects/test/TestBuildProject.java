@@ -249,6 +249,45 @@ public class TestBuildProject extends BaseTest {
         Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 12);
     }
 
+    @Test(description = "tests compiling a package with modules that depend on each other")
+    public void testMultiModulePackageCompilation() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("test_proj_multi_module_compilation");
+
+        // 1) Initialize the project instance
+        BuildProject project = loadBuildProject(projectPath);
+        // 2) Load the package
+        Package currentPackage = project.currentPackage();
+        Assert.assertEquals(currentPackage.moduleIds().size(), 5);
+
+        // 3) Compile the current package
+        PackageCompilation compilation = currentPackage.getCompilation();
+
+        // The documents of all modules are parsed before the modules are compiled, yet the diagnostics of each
+        // module are reported against its own documents
+        List<String> diagnosticFilePaths = compilation.diagnosticResult().diagnostics().stream().map(diagnostic ->
+                diagnostic.location().lineRange().filePath()).distinct().collect(Collectors.toList());
+        String servicesPath = Paths.get("modules").resolve("services").resolve("svc.bal").toString();
+        String utilsPath = Paths.get("modules").resolve("utils").resolve("utils.bal").toString();
+        Assert.assertEquals(diagnosticFilePaths.size(), 2, diagnosticFilePaths.toString());
+        Assert.assertTrue(diagnosticFilePaths.contains(servicesPath), diagnosticFilePaths.toString());
+        Assert.assertTrue(diagnosticFilePaths.contains(utilsPath), diagnosticFilePaths.toString());
+
+        // Every module is compiled, and the symbols of a module are visible to the modules that import it
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            for (DocumentId documentId : module.documentIds()) {
+                Assert.assertNotNull(module.document(documentId).syntaxTree());
+            }
+            Assert.assertFalse(compilation.getSemanticModel(moduleId).moduleSymbols().isEmpty(),
+                    module.moduleName().toString());
+        }
+        Module storageModule = currentPackage.module(ModuleName.from(currentPackage.packageName(), "storage"));
+        List<String> storageSymbols = compilation.getSemanticModel(storageModule.moduleId()).moduleSymbols()
+                .stream().map(symbol -> symbol.getName().orElse("")).collect(Collectors.toList());
+        Assert.assertTrue(storageSymbols.containsAll(Arrays.asList("initDatabase", "getEntry")),
+                storageSymbols.toString());
+    }
+
     @Test(description = "tests package diagnostics")
     public void testDiagnostics() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation");
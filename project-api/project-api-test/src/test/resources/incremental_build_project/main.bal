@@ -0,0 +1,8 @@
+import incremental.utils;
+
+public function main() {
+    int sum = utils:add(1, 2);
+    if sum != 3 {
+        panic error("unexpected sum: " + sum.toString());
+    }
+}
@@ -0,0 +1,3 @@
+public function add(int a, int b) returns int {
+    return a + b;
+}
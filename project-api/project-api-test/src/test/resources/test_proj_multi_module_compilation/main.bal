@@ -0,0 +1,7 @@
+import multimodule.services;
+import multimodule.storage;
+
+public function main() {
+    storage:initDatabase();
+    services:runServices();
+}
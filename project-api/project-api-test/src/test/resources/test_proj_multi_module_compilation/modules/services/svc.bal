@@ -0,0 +1,7 @@
+import multimodule.storage;
+import multimodule.types;
+
+public function runServices() {
+    types:Entry? entry = storage:getEntry("init");
+    int value = entry;
+}
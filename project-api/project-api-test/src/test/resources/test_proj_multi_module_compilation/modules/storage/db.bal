@@ -0,0 +1,16 @@
+import multimodule.types;
+
+final types:Entry[] entries = [];
+
+public function initDatabase() {
+    entries.push({key: "init", value: 0});
+}
+
+public function getEntry(string key) returns types:Entry? {
+    foreach types:Entry entry in entries {
+        if entry.key == key {
+            return entry;
+        }
+    }
+    return ();
+}
@@ -0,0 +1,4 @@
+public type Entry record {|
+    string key;
+    int value;
+|};
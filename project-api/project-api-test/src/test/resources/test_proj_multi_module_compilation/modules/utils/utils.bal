@@ -0,0 +1,3 @@
+public function trim(string value) returns string {
+    return value.trim()
+}
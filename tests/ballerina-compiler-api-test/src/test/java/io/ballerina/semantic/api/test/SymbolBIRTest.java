@@ -21,6 +21,8 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.impl.symbols.BallerinaModule;
 import io.ballerina.compiler.api.symbols.ClassFieldSymbol;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
+import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ObjectTypeSymbol;
 import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
@@ -50,8 +52,11 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.ballerina.compiler.api.symbols.SymbolKind.ANNOTATION;
 import static io.ballerina.compiler.api.symbols.SymbolKind.CONSTANT;
@@ -221,6 +226,27 @@ public class SymbolBIRTest {
         assertEquals(inclusions.get(0).getName().get(), "Person");
     }
 
+    @Test
+    public void testDocumentationOfSymbolInBIR() {
+        Project project = BCompileUtil.loadProject("test-src/symbol_lookup_with_imports_test.bal");
+        SemanticModel model = getDefaultModulesSemanticModel(project);
+        Document srcFile = getDocumentForSingleSource(project);
+
+        Symbol symbol = model.symbol(srcFile, from(22, 26)).get();
+        assertEquals(symbol.kind(), FUNCTION);
+        assertEquals(symbol.getName().get(), "add");
+
+        // The documentation of a symbol read from BIR is loaded on its first lookup, which may happen concurrently
+        List<Documentation> docs = IntStream.range(0, 8).parallel()
+                .mapToObj(i -> ((FunctionSymbol) symbol).documentation().get())
+                .collect(Collectors.toList());
+        for (Documentation documentation : docs) {
+            assertEquals(documentation.description().get(), "Adds two integers.");
+            assertEquals(documentation.parameterMap(), Map.of("x", "The first integer", "y", "The second integer"));
+            assertEquals(documentation.returnDescription().get(), "The sum of the integers");
+        }
+    }
+
     // util methods
 
     public static void assertList(List<Symbol> actualValues, List<SymbolInfo> expectedValues) {
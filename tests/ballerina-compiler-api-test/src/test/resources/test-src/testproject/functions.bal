@@ -14,6 +14,11 @@
 // specific language governing permissions and limitations
 // under the License.
 
+# Adds two integers.
+#
+# + x - The first integer
+# + y - The second integer
+# + return - The sum of the integers
 public function add(int x, int y) returns int => x + y;
 
 function concat(string s1, string s2) returns string {
@@ -75,7 +75,11 @@ public class BCompileUtil {
     }
 
     public static CompileResult compile(String sourceFilePath) {
-        Project project = loadProject(sourceFilePath);
+        return compile(sourceFilePath, BuildOptions.builder().build());
+    }
+
+    public static CompileResult compile(String sourceFilePath, BuildOptions buildOptions) {
+        Project project = loadProject(sourceFilePath, buildOptions);
 
         Package currentPackage = project.currentPackage();
         JBallerinaBackend jBallerinaBackend = jBallerinaBackend(currentPackage);
@@ -105,7 +109,11 @@ public class BCompileUtil {
     }
 
     public static BIRCompileResult generateBIR(String sourceFilePath) {
-        Project project = loadProject(sourceFilePath);
+        return generateBIR(sourceFilePath, BuildOptions.builder().build());
+    }
+
+    public static BIRCompileResult generateBIR(String sourceFilePath, BuildOptions buildOptions) {
+        Project project = loadProject(sourceFilePath, buildOptions);
         NullBackend nullBackend = NullBackend.from(project.currentPackage().getCompilation());
         Package currentPackage = project.currentPackage();
         if (currentPackage.getCompilation().diagnosticResult().hasErrors() || nullBackend.hasErrors()) {
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRLockOptimizer;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the read-only lock classification of the {@link BIRLockOptimizer}.
+ *
+ * @since 2.0.0
+ */
+public class BIRLockOptimizerTest {
+
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.BIRCompileResult result = BCompileUtil.generateBIR("test-src/bir/lock_optimizer.bal");
+        Assert.assertNotNull(result);
+        birPackage = result.getExpectedBIR();
+    }
+
+    @Test(dataProvider = "lockFunctions")
+    public void testReadOnlyLocks(String functionName, boolean readOnly) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(func -> func.getName().getValue().equals(functionName)).findFirst()
+                .orElseThrow(() -> new AssertionError("function not found: " + functionName));
+        List<BIRTerminator.Lock> locks = getLocks(function);
+        Assert.assertEquals(locks.size(), 1);
+        Assert.assertEquals(locks.get(0).readOnly, readOnly);
+    }
+
+    @DataProvider(name = "lockFunctions")
+    public Object[][] lockFunctions() {
+        return new Object[][]{
+                {"readCounter", true},
+                {"readListMember", true},
+                {"readCounterInBranches", true},
+                {"writeCounter", false},
+                {"writeCounterInBranch", false},
+                {"writeListMember", false},
+                {"callInLock", false}
+        };
+    }
+
+    @Test(description = "Test that an error handler covering a locked basic block past its trap basic block is " +
+            "part of the locked region")
+    public void testLockWithErrorHandlerCoveringLockedRegion() {
+        BType intType = new BType(TypeTags.INT, null);
+        BIRNode.BIRGlobalVariableDcl counter = new BIRNode.BIRGlobalVariableDcl(null, 0, intType, null,
+                new Name("counter"), new Name("counter"), VarScope.GLOBAL, VarKind.GLOBAL, null, null);
+        BIRNode.BIRVariableDcl value = new BIRNode.BIRVariableDcl(intType, new Name("%0"), VarScope.FUNCTION,
+                VarKind.LOCAL);
+        BIRNode.BIRVariableDcl error = new BIRNode.BIRVariableDcl(intType, new Name("%1"), VarScope.FUNCTION,
+                VarKind.TEMP);
+
+        // bb0 locks and bb1 reads the locked variable. The error entry covers both, yet its trap basic block is
+        // the one before the locked region. Its handler, bb4, writes the locked variable.
+        BIRNode.BIRBasicBlock bb0 = new BIRNode.BIRBasicBlock(new Name("bb0"));
+        BIRNode.BIRBasicBlock bb1 = new BIRNode.BIRBasicBlock(new Name("bb1"));
+        BIRNode.BIRBasicBlock bb2 = new BIRNode.BIRBasicBlock(new Name("bb2"));
+        BIRNode.BIRBasicBlock bb3 = new BIRNode.BIRBasicBlock(new Name("bb3"));
+        BIRNode.BIRBasicBlock bb4 = new BIRNode.BIRBasicBlock(new Name("bb4"));
+
+        BIRTerminator.Lock lock = new BIRTerminator.Lock(null, bb1);
+        lock.lockVariables.add(counter);
+        bb0.terminator = lock;
+        bb1.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(counter), new BIROperand(value)));
+        bb1.terminator = new BIRTerminator.GOTO(null, bb2);
+        BIRTerminator.Unlock unlock = new BIRTerminator.Unlock(null, bb3);
+        unlock.relatedLock = lock;
+        bb2.terminator = unlock;
+        bb3.terminator = new BIRTerminator.Return(null);
+        bb4.instructions.add(new BIRNonTerminator.Move(null, new BIROperand(value), new BIROperand(counter)));
+        bb4.terminator = new BIRTerminator.GOTO(null, bb2);
+
+        BIRNode.BIRFunction function = new BIRNode.BIRFunction(null, new Name("lockWithErrorHandler"), 0, null,
+                null, 0, null);
+        function.basicBlocks.addAll(List.of(bb0, bb1, bb2, bb3, bb4));
+        function.errorTable.add(new BIRNode.BIRErrorEntry(bb0, bb1, new BIROperand(error), bb4));
+
+        new BIRLockOptimizer().optimizeNode(function);
+        Assert.assertFalse(lock.readOnly);
+
+        // Without the handler writing it, the region only reads the locked variable
+        bb4.instructions.clear();
+        BIRTerminator.Lock readOnlyLock = new BIRTerminator.Lock(null, bb1);
+        readOnlyLock.lockVariables.add(counter);
+        bb0.terminator = readOnlyLock;
+        unlock.relatedLock = readOnlyLock;
+        new BIRLockOptimizer().optimizeNode(function);
+        Assert.assertTrue(readOnlyLock.readOnly);
+    }
+
+    private List<BIRTerminator.Lock> getLocks(BIRNode.BIRFunction function) {
+        List<BIRTerminator.Lock> locks = new ArrayList<>();
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator.kind == InstructionKind.LOCK) {
+                locks.add((BIRTerminator.Lock) basicBlock.terminator);
+            }
+        }
+        return locks;
+    }
+}
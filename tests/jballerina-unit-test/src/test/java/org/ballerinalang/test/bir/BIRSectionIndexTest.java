@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex.Section;
+import org.wso2.ballerinalang.programfile.BIRSectionIndex.SectionInputStream;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Test the section table of the BIR binary.
+ *
+ * @since 2.0.0
+ */
+public class BIRSectionIndexTest {
+
+    @Test
+    public void testSectionTableRoundTrip() throws IOException {
+        BIRSectionIndex sectionIndex = new BIRSectionIndex();
+        Section[] sections = Section.values();
+        for (int i = 0; i < sections.length; i++) {
+            sectionIndex.addSection(sections[i], 100 * i, 10 * i + 1);
+        }
+
+        byte[] table = write(sectionIndex);
+        Assert.assertEquals(table.length, BIRSectionIndex.getTableSize());
+
+        BIRSectionIndex readSectionIndex = read(table);
+        for (int i = 0; i < sections.length; i++) {
+            Assert.assertEquals(readSectionIndex.getOffset(sections[i]), 100 * i);
+            Assert.assertEquals(readSectionIndex.getLength(sections[i]), 10 * i + 1);
+        }
+    }
+
+    @Test
+    public void testUnknownSectionsAreIgnored() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream dataOut = new DataOutputStream(baos)) {
+            dataOut.writeInt(2);
+            // A section added by a later version of the format
+            dataOut.writeInt(Integer.MAX_VALUE);
+            dataOut.writeInt(40);
+            dataOut.writeInt(8);
+            dataOut.writeInt(Section.FUNCTIONS.id);
+            dataOut.writeInt(48);
+            dataOut.writeInt(16);
+        }
+
+        BIRSectionIndex sectionIndex = read(baos.toByteArray());
+        Assert.assertEquals(sectionIndex.getOffset(Section.FUNCTIONS), 48);
+        Assert.assertEquals(sectionIndex.getLength(Section.FUNCTIONS), 16);
+        Assert.assertThrows(BLangCompilerException.class, () -> sectionIndex.getOffset(Section.ANNOTATIONS));
+    }
+
+    @Test
+    public void testSectionTableOfSerializedBir() throws IOException {
+        byte[] bir = BCompileUtil.generateBIR("test-src/bir/lock_optimizer.bal").getActualBIR();
+        int tableOffset = CompiledBinaryFile.BIRPackageFile.BIR_MAGIC.length + 4;
+        BIRSectionIndex sectionIndex = BIRSectionIndex.read(ByteBuffer.wrap(bir));
+
+        // The constant pool follows the table, and the module follows the constant pool
+        int cpOffset = sectionIndex.getOffset(Section.CONSTANT_POOL);
+        Assert.assertEquals(cpOffset, tableOffset + BIRSectionIndex.getTableSize());
+        int moduleOffset = sectionIndex.getOffset(Section.MODULE);
+        Assert.assertEquals(moduleOffset, cpOffset + sectionIndex.getLength(Section.CONSTANT_POOL));
+        Assert.assertEquals(moduleOffset + sectionIndex.getLength(Section.MODULE), bir.length);
+
+        // The module sections are in the order they are written, with no gaps between them
+        Section[] sections = Section.values();
+        Assert.assertTrue(sectionIndex.getOffset(Section.IMPORTS) >= moduleOffset);
+        for (int i = Section.IMPORTS.ordinal(); i < sections.length - 1; i++) {
+            Assert.assertEquals(sectionIndex.getOffset(sections[i + 1]),
+                    sectionIndex.getOffset(sections[i]) + sectionIndex.getLength(sections[i]),
+                    "unexpected offset of section '" + sections[i + 1] + "'");
+        }
+        Section lastSection = sections[sections.length - 1];
+        Assert.assertEquals(sectionIndex.getOffset(lastSection) + sectionIndex.getLength(lastSection), bir.length);
+    }
+
+    @Test
+    public void testSectionsOfSerializedBir() throws IOException {
+        byte[] bir = BCompileUtil.generateBIR("test-src/bir/lock_optimizer.bal").getActualBIR();
+        ByteBuffer birContent = ByteBuffer.wrap(bir);
+        BIRSectionIndex sectionIndex = BIRSectionIndex.read(birContent);
+
+        // Sections are read in any order, each one within its bounds
+        Section[] sections = Section.values();
+        for (int i = sections.length - 1; i >= 0; i--) {
+            Section section = sections[i];
+            int offset = sectionIndex.getOffset(section);
+            int length = sectionIndex.getLength(section);
+            SectionInputStream sectionStream = sectionIndex.getSectionStream(birContent, section);
+            Assert.assertEquals(sectionStream.position(), offset);
+            Assert.assertEquals(sectionStream.available(), length);
+
+            byte[] sectionContent = new byte[length];
+            try (DataInputStream dataInStream = new DataInputStream(sectionStream)) {
+                dataInStream.readFully(sectionContent);
+                Assert.assertEquals(dataInStream.read(), -1);
+            }
+            Assert.assertEquals(sectionContent, Arrays.copyOfRange(bir, offset, offset + length),
+                    "unexpected content of section '" + section + "'");
+        }
+    }
+
+    @Test
+    public void testInvalidMagic() {
+        ByteBuffer birContent = ByteBuffer.wrap(new byte[]{0, 1, 2, 3, 0, 0, 0, 0, 0, 0, 0, 0});
+        Assert.assertThrows(BLangCompilerException.class, () -> BIRSectionIndex.read(birContent));
+    }
+
+    private byte[] write(BIRSectionIndex sectionIndex) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream dataOut = new DataOutputStream(baos)) {
+            sectionIndex.write(dataOut);
+        }
+        return baos.toByteArray();
+    }
+
+    private BIRSectionIndex read(byte[] table) throws IOException {
+        // The table follows the magic value and the version of the binary
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream dataOut = new DataOutputStream(baos)) {
+            dataOut.write(CompiledBinaryFile.BIRPackageFile.BIR_MAGIC);
+            dataOut.writeInt(CompiledBinaryFile.BIRPackageFile.BIR_VERSION);
+            dataOut.write(table);
+        }
+        return BIRSectionIndex.read(ByteBuffer.wrap(baos.toByteArray()));
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.ProjectException;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import static io.ballerina.projects.CompilationOptions.DEFAULT_OPTIMIZATION_LEVEL;
+import static io.ballerina.projects.CompilationOptions.FULL_OPTIMIZATION_LEVEL;
+
+/**
+ * Test that the optimizations of the full optimization level keep the results of the programs the same as the
+ * default optimization level.
+ *
+ * @since 2.0.0
+ */
+public class OptimizationLevelTest {
+
+    private static final String CONSTANT_FOLDING = "test-src/bir/constant_folding.bal";
+    private static final String FUNCTION_INLINING = "test-src/bir/function_inlining_project";
+    private static final String UNBOXED_LOCALS = "test-src/bir/unboxed_locals.bal";
+
+    private CompileResult constantFoldingResult;
+    private CompileResult optimizedConstantFoldingResult;
+    private CompileResult functionInliningResult;
+    private CompileResult optimizedFunctionInliningResult;
+    private CompileResult unboxedLocalsResult;
+    private CompileResult optimizedUnboxedLocalsResult;
+
+    @BeforeClass
+    public void setup() {
+        constantFoldingResult = compile(CONSTANT_FOLDING, DEFAULT_OPTIMIZATION_LEVEL);
+        optimizedConstantFoldingResult = compile(CONSTANT_FOLDING, FULL_OPTIMIZATION_LEVEL);
+        functionInliningResult = compile(FUNCTION_INLINING, DEFAULT_OPTIMIZATION_LEVEL);
+        optimizedFunctionInliningResult = compile(FUNCTION_INLINING, FULL_OPTIMIZATION_LEVEL);
+        unboxedLocalsResult = compile(UNBOXED_LOCALS, DEFAULT_OPTIMIZATION_LEVEL);
+        optimizedUnboxedLocalsResult = compile(UNBOXED_LOCALS, FULL_OPTIMIZATION_LEVEL);
+    }
+
+    @Test(dataProvider = "constantFoldingFunctions")
+    public void testConstantFolding(String functionName) {
+        BRunUtil.invoke(constantFoldingResult, functionName);
+        BRunUtil.invoke(optimizedConstantFoldingResult, functionName);
+    }
+
+    @DataProvider(name = "constantFoldingFunctions")
+    public Object[] constantFoldingFunctions() {
+        return new Object[]{
+                "testFoldedArithmetic",
+                "testFoldedComparisons",
+                "testFoldedBranches",
+                "testTrappedOverflow",
+                "testTrapInDeadBranch",
+                "testFoldedErrorReturn"
+        };
+    }
+
+    @Test
+    public void testFoldedInstructionsAreRemoved() {
+        BIRNode.BIRPackage birPackage = generateBIR(CONSTANT_FOLDING, DEFAULT_OPTIMIZATION_LEVEL);
+        BIRNode.BIRPackage optimizedBirPackage = generateBIR(CONSTANT_FOLDING, FULL_OPTIMIZATION_LEVEL);
+
+        Assert.assertTrue(hasInstruction(getFunction(birPackage, "foldedSum"), InstructionKind.ADD));
+        Assert.assertFalse(hasInstruction(getFunction(optimizedBirPackage, "foldedSum"), InstructionKind.ADD));
+
+        // The branch on the constant condition is replaced by a jump and the basic blocks of the other branch are
+        // removed
+        BIRNode.BIRFunction deadBranch = getFunction(birPackage, "deadBranch");
+        BIRNode.BIRFunction optimizedDeadBranch = getFunction(optimizedBirPackage, "deadBranch");
+        Assert.assertTrue(hasInstruction(deadBranch, InstructionKind.BRANCH));
+        Assert.assertFalse(hasInstruction(optimizedDeadBranch, InstructionKind.BRANCH));
+        Assert.assertTrue(optimizedDeadBranch.basicBlocks.size() < deadBranch.basicBlocks.size());
+
+        // Operations which panic are kept
+        Assert.assertTrue(hasInstruction(getFunction(optimizedBirPackage, "overflowingSum"), InstructionKind.ADD));
+        Assert.assertTrue(hasInstruction(getFunction(optimizedBirPackage, "overflowingQuotient"),
+                InstructionKind.DIV));
+    }
+
+    @Test(dataProvider = "functionInliningFunctions")
+    public void testFunctionInlining(String functionName) {
+        BRunUtil.invoke(functionInliningResult, functionName);
+        BRunUtil.invoke(optimizedFunctionInliningResult, functionName);
+    }
+
+    @DataProvider(name = "functionInliningFunctions")
+    public Object[] functionInliningFunctions() {
+        return new Object[]{
+                "testInlinedCalls",
+                "testDefaultableParams",
+                "testRecursiveCalls",
+                "testTrappedPanics",
+                "testErrorReturns",
+                "testCrossModuleCalls"
+        };
+    }
+
+    @Test
+    public void testInlinedCallsAreRemoved() {
+        BIRNode.BIRPackage birPackage = generateBIR(FUNCTION_INLINING, DEFAULT_OPTIMIZATION_LEVEL);
+        BIRNode.BIRPackage optimizedBirPackage = generateBIR(FUNCTION_INLINING, FULL_OPTIMIZATION_LEVEL);
+
+        Assert.assertTrue(hasCall(getFunction(birPackage, "testInlinedCalls"), "square"));
+        Assert.assertFalse(hasCall(getFunction(optimizedBirPackage, "testInlinedCalls"), "square"));
+        Assert.assertFalse(hasCall(getFunction(optimizedBirPackage, "testTrappedPanics"), "quotient"));
+
+        // Functions with branches, which include the recursive ones, and functions of other modules are called
+        Assert.assertTrue(hasCall(getFunction(optimizedBirPackage, "factorial"), "factorial"));
+        Assert.assertTrue(hasCall(getFunction(optimizedBirPackage, "isEven"), "isOdd"));
+        Assert.assertTrue(hasCall(getFunction(optimizedBirPackage, "testErrorReturns"), "checkedQuotient"));
+        Assert.assertTrue(hasCall(getFunction(optimizedBirPackage, "testCrossModuleCalls"), "cube"));
+    }
+
+    @Test(dataProvider = "unboxedLocalsFunctions")
+    public void testUnboxedLocals(String functionName) {
+        BRunUtil.invoke(unboxedLocalsResult, functionName);
+        BRunUtil.invoke(optimizedUnboxedLocalsResult, functionName);
+    }
+
+    @DataProvider(name = "unboxedLocalsFunctions")
+    public Object[] unboxedLocalsFunctions() {
+        return new Object[]{
+                "testUnboxedLocal",
+                "testUnionLocalPassedToCall",
+                "testUnionLocalCapturedByClosure",
+                "testUnionLocalStoredInFields",
+                "testUnionLocalInErrorReturn",
+                "testUnionLocalInTrappedCast"
+        };
+    }
+
+    @Test
+    public void testEscapingLocalsAreKeptBoxed() {
+        BIRNode.BIRPackage birPackage = generateBIR(UNBOXED_LOCALS, DEFAULT_OPTIMIZATION_LEVEL);
+        BIRNode.BIRPackage optimizedBirPackage = generateBIR(UNBOXED_LOCALS, FULL_OPTIMIZATION_LEVEL);
+
+        Assert.assertEquals(getLocalVar(getFunction(birPackage, "sumOfUnboxed"), "total").type.tag,
+                TypeTags.UNION);
+        Assert.assertEquals(getLocalVar(getFunction(optimizedBirPackage, "sumOfUnboxed"), "total").type.tag,
+                TypeTags.INT);
+        Assert.assertEquals(getLocalVar(getFunction(optimizedBirPackage, "passToCall"), "value").type.tag,
+                TypeTags.UNION);
+        Assert.assertEquals(getLocalVar(getFunction(optimizedBirPackage, "storeInFields"), "value").type.tag,
+                TypeTags.UNION);
+        Assert.assertEquals(getLocalVar(getFunction(optimizedBirPackage, "countOrError"), "count").type.tag,
+                TypeTags.UNION);
+    }
+
+    @Test(expectedExceptions = ProjectException.class,
+            expectedExceptionsMessageRegExp = "invalid optimization level '3'. The level should be between 0 and 2")
+    public void testInvalidOptimizationLevel() {
+        BuildOptions.builder().setOptimizationLevel(3);
+    }
+
+    private static CompileResult compile(String sourceFilePath, int optimizationLevel) {
+        CompileResult compileResult = BCompileUtil.compile(sourceFilePath,
+                BuildOptions.builder().setOptimizationLevel(optimizationLevel).build());
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+        return compileResult;
+    }
+
+    private static BIRNode.BIRPackage generateBIR(String sourceFilePath, int optimizationLevel) {
+        BCompileUtil.BIRCompileResult result = BCompileUtil.generateBIR(sourceFilePath,
+                BuildOptions.builder().setOptimizationLevel(optimizationLevel).build());
+        Assert.assertNotNull(result);
+        return result.getExpectedBIR();
+    }
+
+    private static BIRNode.BIRFunction getFunction(BIRNode.BIRPackage birPackage, String functionName) {
+        return birPackage.functions.stream()
+                .filter(func -> func.getName().getValue().equals(functionName)).findFirst()
+                .orElseThrow(() -> new AssertionError("function not found: " + functionName));
+    }
+
+    private static BIRNode.BIRVariableDcl getLocalVar(BIRNode.BIRFunction function, String varName) {
+        return function.localVars.stream()
+                .filter(localVar -> localVar.kind == VarKind.LOCAL && varName.equals(localVar.metaVarName)).findFirst()
+                .orElseThrow(() -> new AssertionError("variable not found: " + varName));
+    }
+
+    private static boolean hasCall(BIRNode.BIRFunction function, String calleeName) {
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator != null && basicBlock.terminator.kind == InstructionKind.CALL &&
+                    ((BIRTerminator.Call) basicBlock.terminator).name.value.equals(calleeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasInstruction(BIRNode.BIRFunction function, InstructionKind kind) {
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator != null && basicBlock.terminator.kind == kind) {
+                return true;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind == kind) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -115,6 +115,12 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join on a read-only field of a table, which looks the rows up through an index")
+    public void testJoinOnReadOnlyTableField() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinOnReadOnlyTableField");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -27,6 +27,7 @@ import org.ballerinalang.test.CompileResult;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -89,6 +90,20 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals(((BFloat) person1.get("score")).floatValue(), 90.6);
     }
 
+    @Test(dataProvider = "readOnlyTableFieldWhereFunctions")
+    public void testWhereOnReadOnlyTableField(String function) {
+        BRunUtil.invoke(result, function);
+    }
+
+    @DataProvider
+    public Object[] readOnlyTableFieldWhereFunctions() {
+        return new Object[]{
+                "testWhereOnReadOnlyTableFieldWithConstantsAndFinalVariables",
+                "testWhereOnReadOnlyTableFieldWithModuleVariableUpdatedInQuery",
+                "testWhereOnReadOnlyTableFieldWithLocalVariableUpdatedInQuery"
+        };
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -0,0 +1,139 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function foldedSum() returns int {
+    int a = 10;
+    int b = 32;
+    return a + b;
+}
+
+function deadBranch() returns string {
+    int x = 3;
+    if x > 5 {
+        return "large";
+    }
+    return "small";
+}
+
+function overflowingSum() returns int {
+    int a = 9223372036854775807;
+    int b = 1;
+    return a + b;
+}
+
+function overflowingQuotient() returns int {
+    int a = -9223372036854775807 - 1;
+    int b = -1;
+    return a / b;
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function checkedQuotient(int a, int b) returns int|error {
+    if b == 0 {
+        return error("division by zero");
+    }
+    return a / b;
+}
+
+function testFoldedArithmetic() {
+    assertEquality(foldedSum(), 42);
+
+    int a = 7;
+    int b = -3;
+    assertEquality(a * b, -21);
+    assertEquality(a / b, -2);
+    assertEquality(a % b, 1);
+    assertEquality(-a, -7);
+    assertEquality(a - b, 10);
+}
+
+function testFoldedComparisons() {
+    int a = 7;
+    int b = -3;
+    boolean greater = a > b;
+    assertEquality(greater, true);
+    assertEquality(!greater, false);
+    assertEquality(a <= b, false);
+    assertEquality(a == 7 && b != 7, true);
+}
+
+function testFoldedBranches() {
+    assertEquality(deadBranch(), "small");
+
+    int count = 0;
+    int limit = 3;
+    if limit > 2 {
+        count += 1;
+    } else {
+        count += 2;
+    }
+    assertEquality(count, 1);
+}
+
+function testTrappedOverflow() {
+    int|error sum = trap overflowingSum();
+    assertError(sum, "{ballerina}NumberOverflow");
+
+    int|error quotient = trap overflowingQuotient();
+    assertError(quotient, "{ballerina}NumberOverflow");
+
+    int zero = 0;
+    int|error remainder = trap (10 % zero);
+    assertError(remainder, "{ballerina}DivisionByZero");
+}
+
+function testTrapInDeadBranch() {
+    int zero = 0;
+    int|error result = 0;
+    if zero > 0 {
+        result = trap divide(1, zero);
+    } else {
+        result = trap divide(2, zero);
+    }
+    assertError(result, "{ballerina}DivisionByZero");
+}
+
+function testFoldedErrorReturn() {
+    int|error result = checkedQuotient(10, 0);
+    assertError(result, "division by zero");
+
+    result = checkedQuotient(10, 2);
+    if result is error {
+        panic error(ASSERTION_ERROR_REASON, message = "expected '5', found error '" + result.message() + "'");
+    }
+    assertEquality(result, 5);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertError(any|error actual, string expectedMessage) {
+    if actual is error {
+        assertEquality(actual.message(), expectedMessage);
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON, message = "expected an error, found '" + (<anydata>actual).toString() + "'");
+}
+
+function assertEquality(anydata actual, anydata expected) {
+    if actual == expected {
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,141 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import function_inlining.utils;
+
+function square(int x) returns int {
+    return x * x;
+}
+
+function addWithDefault(int x, int y = 10) returns int {
+    return x + y;
+}
+
+function addWithComputedDefault(int x, int y = square(x)) returns int {
+    return x + y;
+}
+
+function factorial(int n) returns int {
+    if n <= 1 {
+        return 1;
+    }
+    return n * factorial(n - 1);
+}
+
+function isEven(int n) returns boolean {
+    if n == 0 {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if n == 0 {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function quotient(int a, int b) returns int {
+    return a / b;
+}
+
+function toInt(any value) returns int {
+    return <int>value;
+}
+
+function toError(string message) returns error {
+    return error(message);
+}
+
+function checkedQuotient(int a, int b) returns int|error {
+    if b == 0 {
+        return toError("division by zero");
+    }
+    return quotient(a, b);
+}
+
+function testInlinedCalls() {
+    assertEquality(square(7), 49);
+    assertEquality(square(square(2)), 16);
+    int x = -3;
+    assertEquality(square(x) + square(x + 1), 13);
+}
+
+function testDefaultableParams() {
+    assertEquality(addWithDefault(1), 11);
+    assertEquality(addWithDefault(1, 2), 3);
+    assertEquality(addWithDefault(y = 5, x = 1), 6);
+    assertEquality(addWithComputedDefault(3), 12);
+    assertEquality(addWithComputedDefault(3, 1), 4);
+}
+
+function testRecursiveCalls() {
+    assertEquality(factorial(10), 3628800);
+    assertEquality(isEven(10), true);
+    assertEquality(isOdd(7), true);
+}
+
+function testTrappedPanics() {
+    assertEquality(quotient(9, 3), 3);
+    int|error result = trap quotient(1, 0);
+    assertError(result, "{ballerina}DivisionByZero");
+
+    int zero = 0;
+    result = trap (quotient(4, 2) + quotient(4, zero));
+    assertError(result, "{ballerina}DivisionByZero");
+
+    int|error castResult = trap toInt("one");
+    assertError(castResult, "{ballerina}TypeCastError");
+    assertEquality(toInt(1), 1);
+}
+
+function testErrorReturns() {
+    int|error result = checkedQuotient(10, 0);
+    assertError(result, "division by zero");
+
+    result = checkedQuotient(10, 5);
+    if result is error {
+        panic error(ASSERTION_ERROR_REASON, message = "expected '2', found error '" + result.message() + "'");
+    }
+    assertEquality(result, 2);
+}
+
+function testCrossModuleCalls() {
+    assertEquality(utils:cube(3), 27);
+    assertEquality(utils:scaled(2), 20);
+    assertEquality(square(utils:cube(2)), 64);
+    int|error result = trap utils:quotient(1, 0);
+    assertError(result, "{ballerina}DivisionByZero");
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertError(any|error actual, string expectedMessage) {
+    if actual is error {
+        assertEquality(actual.message(), expectedMessage);
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON, message = "expected an error, found '" + (<anydata>actual).toString() + "'");
+}
+
+function assertEquality(anydata actual, anydata expected) {
+    if actual == expected {
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
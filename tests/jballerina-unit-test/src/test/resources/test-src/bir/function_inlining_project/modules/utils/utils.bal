@@ -0,0 +1,42 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int scale = 10;
+
+# Returns the cube of the given integer.
+#
+# + x - the integer
+# + return - the cube of the integer
+public function cube(int x) returns int {
+    return x * x * x;
+}
+
+# Returns the given integer multiplied by the module level scale.
+#
+# + x - the integer
+# + return - the scaled integer
+public function scaled(int x) returns int {
+    return x * scale;
+}
+
+# Returns the quotient of the given integers.
+#
+# + a - the dividend
+# + b - the divisor
+# + return - the quotient
+public function quotient(int a, int b) returns int {
+    return a / b;
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+int[] values = [1, 2, 3];
+
+function readCounter() returns int {
+    int value = 0;
+    lock {
+        value = counter + 1;
+    }
+    return value;
+}
+
+function readListMember() returns int {
+    int value = 0;
+    lock {
+        value = values[0] * counter;
+    }
+    return value;
+}
+
+function readCounterInBranches() returns int {
+    int value = 0;
+    lock {
+        if counter > 0 {
+            value = counter;
+        } else {
+            value = -counter;
+        }
+    }
+    return value;
+}
+
+function writeCounter() {
+    lock {
+        counter += 1;
+    }
+}
+
+function writeCounterInBranch() returns int {
+    int value = 0;
+    lock {
+        if counter > 10 {
+            counter = 0;
+        }
+        value = counter;
+    }
+    return value;
+}
+
+function writeListMember() {
+    lock {
+        values[0] = counter;
+    }
+}
+
+function callInLock() returns int {
+    int value = 0;
+    lock {
+        value = getNext(counter);
+    }
+    return value;
+}
+
+function getNext(int value) returns int {
+    return value + 1;
+}
@@ -0,0 +1,142 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Holder record {|
+    int|string value;
+|};
+
+type CountError error<record {| int|string count; |}>;
+
+class Counter {
+    int|string count = 0;
+}
+
+function sumOfUnboxed(int n) returns int {
+    int|string total = n;
+    int i = 0;
+    while i < n {
+        total = <int>total + i;
+        i += 1;
+    }
+    return <int>total;
+}
+
+function identity(int|string value) returns int|string {
+    return value;
+}
+
+function passToCall() returns int|string {
+    int|string value = 5;
+    value = <int>value * 2;
+    return identity(value);
+}
+
+function storeInFields() returns Holder {
+    int|string value = 7;
+    value = <int>value + 1;
+    Holder holder = {value: 0};
+    holder.value = value;
+    return holder;
+}
+
+function countOrError(boolean fail) returns int|CountError {
+    int|string count = 3;
+    count = <int>count + 1;
+    if fail {
+        return error CountError("failed", count = count);
+    }
+    return <int>count;
+}
+
+function testUnboxedLocal() {
+    assertEquality(sumOfUnboxed(10), 55);
+    assertEquality(sumOfUnboxed(0), 0);
+}
+
+function testUnionLocalPassedToCall() {
+    int|string result = passToCall();
+    assertEquality(result, 10);
+    assertEquality(result is int, true);
+}
+
+function testUnionLocalCapturedByClosure() {
+    int|string value = 1;
+    function () returns int|string increment = function () returns int|string {
+        value = <int>value + 1;
+        return value;
+    };
+    assertEquality(increment(), 2);
+    assertEquality(increment(), 3);
+    assertEquality(value, 3);
+}
+
+function testUnionLocalStoredInFields() {
+    Holder holder = storeInFields();
+    assertEquality(holder.value, 8);
+
+    int|string value = 2;
+    value = <int>value * 3;
+    map<int|string> values = {};
+    values["a"] = value;
+    Counter counter = new;
+    counter.count = value;
+    (int|string)[] list = [];
+    list[0] = value;
+    assertEquality(values["a"], 6);
+    assertEquality(counter.count, 6);
+    assertEquality(list[0], 6);
+
+    // Updating the fields does not update the local variable
+    values["a"] = "six";
+    counter.count = "six";
+    assertEquality(value, 6);
+}
+
+function testUnionLocalInErrorReturn() {
+    int|CountError result = countOrError(false);
+    assertEquality(result is int && result == 4, true);
+
+    result = countOrError(true);
+    if result is int {
+        panic error(ASSERTION_ERROR_REASON, message = "expected an error, found '" + result.toString() + "'");
+    }
+    assertEquality(result.message(), "failed");
+    assertEquality(result.detail().count, 4);
+}
+
+function testUnionLocalInTrappedCast() {
+    int|string value = 1;
+    value = <int>value + 1;
+    int|error cast = trap <int>value;
+    assertEquality(cast is int && cast == 2, true);
+
+    value = "two";
+    cast = trap <int>value;
+    if cast is int {
+        panic error(ASSERTION_ERROR_REASON, message = "expected an error, found '" + cast.toString() + "'");
+    }
+    assertEquality(cast.message(), "{ballerina}TypeCastError");
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata actual, anydata expected) {
+    if actual == expected {
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
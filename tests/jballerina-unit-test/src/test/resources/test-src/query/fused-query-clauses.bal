@@ -0,0 +1,167 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+int factor = 100;
+int letCount = 0;
+int whereCount = 0;
+
+function testConsecutiveWhereAndLetClauses() {
+    int[] result = from var n in [1, 2, 3, 4, 5, 6, 7, 8, 9, 10]
+                   where n % 2 == 0
+                   let int square = n * n
+                   where square > 10
+                   let int half = square / 2
+                   select half;
+    assertEquality([8, 18, 32, 50], result);
+}
+
+function testRejectedFramesSkipLaterClauses() {
+    letCount = 0;
+    int[] result = from var n in [1, 2, 3, 4, 5, 6]
+                   where n > 3
+                   let int square = countedSquare(n)
+                   select square;
+    assertEquality([16, 25, 36], result);
+    // The let clause only sees the frames accepted by the where clause
+    assertEquality(3, letCount);
+}
+
+function testLetShadowingModuleVariable() {
+    int[] result = from var n in [1, 2, 3]
+                   let int factor = 2
+                   where n * factor > 2
+                   select n * factor;
+    assertEquality([4, 6], result);
+    assertEquality(100, factor);
+}
+
+function testLetVariablesOfConsecutiveQueries() {
+    int[] first = from var x in [1, 2, 3]
+                  let int y = x + 1
+                  let int z = y * 2
+                  select z;
+    int[] second = from var x in [1, 2, 3]
+                   let int y = x * 10
+                   where y != 20
+                   let int z = y + x
+                   select z;
+    assertEquality([4, 6, 8], first);
+    assertEquality([11, 33], second);
+}
+
+function testFusedClausesAfterNestedFrom() {
+    int[] result = from var a in [1, 2, 3]
+                   from var b in [10, 20]
+                   where a != 2
+                   let int sum = a + b
+                   where sum != 21
+                   select sum;
+    assertEquality([11, 13, 23], result);
+}
+
+function testWhereWithPanic() {
+    whereCount = 0;
+    int[]|error result = trap filterWithCheckPanic();
+    assertEquality(true, result is error);
+    assertEquality("Invalid value: 3", (<error>result).message());
+    // The frames after the failing one are not processed
+    assertEquality(3, whereCount);
+}
+
+function filterWithCheckPanic() returns int[] {
+    return from var n in [1, 2, 3, 4, 5]
+           let int square = n * n
+           where checkpanic isValid(n)
+           select square;
+}
+
+function testErrorFromInputThroughFusedClauses() {
+    IterableWithError p = new IterableWithError();
+    var result = from var item in p
+                 where item > 20
+                 let int doubled = item * 2
+                 select doubled;
+    assertEquality(error("Custom error thrown."), result);
+}
+
+function testStreamFromFusedClausesWithError() {
+    IterableWithError p = new IterableWithError();
+    var intStream = stream from var item in p
+                    where item > 20
+                    let int doubled = item * 2
+                    select doubled;
+    assertEquality({value: 68}, intStream.next());
+    assertEquality(error("Custom error thrown."), intStream.next());
+}
+
+class IterableWithError {
+    *object:Iterable;
+    public function iterator() returns object {
+        public isolated function next() returns record {|int value;|}|error?;
+    } {
+        return object {
+            int[] integers = [12, 34, 56, 34, 78];
+            int cursorIndex = 0;
+            public isolated function next() returns record {|int value;|}|error? {
+                self.cursorIndex += 1;
+                if (self.cursorIndex == 3) {
+                    return error("Custom error thrown.");
+                } else if (self.cursorIndex <= 5) {
+                    return {
+                        value: self.integers[self.cursorIndex - 1]
+                    };
+                } else {
+                    return ();
+                }
+            }
+        };
+    }
+}
+
+function countedSquare(int n) returns int {
+    letCount += 1;
+    return n * n;
+}
+
+function isValid(int n) returns boolean|error {
+    whereCount += 1;
+    if (n == 3) {
+        return error("Invalid value: " + n.toString());
+    }
+    return n % 2 == 1;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    if expectedValAsString == actualValAsString {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
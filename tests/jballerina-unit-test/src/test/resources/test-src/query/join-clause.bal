@@ -455,3 +455,34 @@ function getDeptName(int id) returns string {
         return "Operations";
     }
 }
+
+type TeamMember record {|
+    readonly int id;
+    readonly string team;
+    readonly boolean lead;
+|};
+
+function testJoinOnReadOnlyTableField() returns boolean {
+    table<TeamMember> key(id) members = table [
+        {id: 1, team: "A", lead: true},
+        {id: 2, team: "B", lead: false},
+        {id: 3, team: "A", lead: false}
+    ];
+    TeamMember[] memberList = members.toArray();
+    string[] teams = ["A", "C", "B"];
+    byte[] memberIds = [3, 5, 1];
+    boolean[] leads = [true];
+
+    // Joins on a read-only field of a table look the rows up through an index and match keys with `==`, joins on
+    // a list match the string representation of the keys. Both give the same result.
+    int[] idsByTeam = from var t in teams join var m in members on t equals m.team select m.id;
+    int[] idsByTeamFromList = from var t in teams join var m in memberList on t equals m.team select m.id;
+    string[] teamsById = from var i in memberIds join var m in members on i equals m.id select m.team;
+    string[] teamsByIdFromList = from var i in memberIds join var m in memberList on i equals m.id select m.team;
+    int[] leadIds = from var l in leads join var m in members on l equals m.lead select m.id;
+    int[] leadIdsFromList = from var l in leads join var m in memberList on l equals m.lead select m.id;
+
+    return idsByTeam == [1, 3, 2] && idsByTeam == idsByTeamFromList &&
+        teamsById == ["A", "A"] && teamsById == teamsByIdFromList &&
+        leadIds == [1] && leadIds == leadIdsFromList;
+}
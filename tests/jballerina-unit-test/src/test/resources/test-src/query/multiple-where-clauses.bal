@@ -100,3 +100,84 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    readonly string dept;
+|};
+
+const HR_DEPT = "HR";
+
+string currentDept = "HR";
+
+function createEmployees() returns table<Employee> key(id) {
+    return table [
+        {id: 1, dept: "HR"},
+        {id: 2, dept: "Operations"},
+        {id: 3, dept: "Operations"},
+        {id: 4, dept: "HR"}
+    ];
+}
+
+function testWhereOnReadOnlyTableFieldWithConstantsAndFinalVariables() {
+    table<Employee> key(id) employees = createEmployees();
+
+    int[] hrIds = from var e in employees where e.dept == HR_DEPT select e.id;
+    assertEquality([1, 4], hrIds);
+
+    int[] literalIds = from var e in employees where "Operations" == e.dept select e.id;
+    assertEquality([2, 3], literalIds);
+
+    final string dept = "Operations";
+    int[] finalVarIds = from var e in employees where e.dept == dept select e.id;
+    assertEquality([2, 3], finalVarIds);
+
+    assertEquality([1, 4], getEmployeeIdsOfDept(employees, "HR"));
+}
+
+function getEmployeeIdsOfDept(table<Employee> key(id) employees, string dept) returns int[] {
+    return from var e in employees where e.dept == dept select e.id;
+}
+
+function switchCurrentDept(int id) returns int {
+    currentDept = "Operations";
+    return id;
+}
+
+function testWhereOnReadOnlyTableFieldWithModuleVariableUpdatedInQuery() {
+    currentDept = "HR";
+    table<Employee> key(id) employees = createEmployees();
+
+    // The module variable is updated while the query iterates, hence the rows of both departments are selected.
+    int[] ids = from var e in employees where e.dept == currentDept select switchCurrentDept(e.id);
+    assertEquality([1, 2, 3], ids);
+}
+
+function testWhereOnReadOnlyTableFieldWithLocalVariableUpdatedInQuery() {
+    table<Employee> key(id) employees = createEmployees();
+    string dept = "HR";
+    var switchDept = function (int id) returns int {
+        dept = "Operations";
+        return id;
+    };
+
+    int[] ids = from var e in employees where e.dept == dept select switchDept(e.id);
+    assertEquality([1, 2, 3], ids);
+
+    dept = "HR";
+    int[] letIds = from var e in employees
+        where e.dept == dept
+        let int id = switchDept(e.id)
+        select id;
+    assertEquality([1, 2, 3], letIds);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString () + "'");
+}
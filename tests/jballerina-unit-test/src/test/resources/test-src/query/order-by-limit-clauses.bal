@@ -0,0 +1,144 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type Employee record {|
+    string name;
+    string dept;
+    int score;
+|};
+
+Employee[] employees = [
+    {name: "Anne", dept: "HR", score: 80},
+    {name: "Bob", dept: "IT", score: 90},
+    {name: "Carl", dept: "HR", score: 80},
+    {name: "Dina", dept: "IT", score: 70},
+    {name: "Evan", dept: "HR", score: 90},
+    {name: "Fay", dept: "IT", score: 80}
+];
+
+function testOrderByWithLimitKeepsTiesInInputOrder() {
+    string[] descending = from var e in employees
+                          order by e.score descending
+                          limit 4
+                          select e.name;
+    string[] ascending = from var e in employees
+                         order by e.score ascending
+                         limit 3
+                         select e.name;
+    string[] sameKey = from var e in employees
+                       order by e.dept ascending
+                       limit 3
+                       select e.name;
+    assertEquality(["Bob", "Evan", "Anne", "Carl"], descending);
+    assertEquality(["Dina", "Anne", "Carl"], ascending);
+    assertEquality(["Anne", "Carl", "Evan"], sameKey);
+}
+
+function testOrderByWithVariableLimit() {
+    int n = 4;
+    string[] names = from var e in employees
+                     order by e.score descending
+                     limit n
+                     select e.name;
+    assertEquality(["Bob", "Evan", "Anne", "Carl"], names);
+}
+
+function testOrderByWithLimitZero() {
+    string[]|error result = trap orderWithLimit(employees, 0);
+    assertEquality(true, result is error);
+    error err = <error>result;
+    assertEquality("Invalid limit", err.message());
+    assertEquality("limit cannot be < 1.", err.detail()["message"]);
+
+    string[]|error resultOfLiteral = trap orderWithLimitZero();
+    assertEquality(true, resultOfLiteral is error);
+    assertEquality("Invalid limit", (<error>resultOfLiteral).message());
+
+    // The limit is only checked against the frames that reach it
+    assertEquality(<string[]>[], orderWithLimit([], 0));
+}
+
+function testOrderByWithLimitLargerThanInput() {
+    string[] names = from var e in employees
+                     order by e.score ascending
+                     limit 10
+                     select e.name;
+    assertEquality(["Dina", "Anne", "Carl", "Fay", "Bob", "Evan"], names);
+    assertEquality(["Bob", "Evan", "Anne", "Carl", "Fay", "Dina"], orderWithLimit(employees, int:MAX_VALUE));
+}
+
+function testOrderByWithLimitAndMixedDirections() {
+    string[] byDeptThenScore = from var e in employees
+                               order by e.dept ascending, e.score descending
+                               limit 4
+                               select e.name;
+    string[] byScoreThenName = from var e in employees
+                               order by e.score ascending, e.name descending
+                               limit 3
+                               select e.name;
+    assertEquality(["Evan", "Anne", "Carl", "Bob"], byDeptThenScore);
+    assertEquality(["Dina", "Fay", "Carl"], byScoreThenName);
+}
+
+function testStreamFromOrderByWithLimit() {
+    int n = 2;
+    stream<string> names = stream from var e in employees
+                           order by e.score descending
+                           limit n
+                           select e.name;
+    // A stream reads the limit as it is consumed
+    n = 3;
+    assertEquality({value: "Bob"}, names.next());
+    assertEquality({value: "Evan"}, names.next());
+    assertEquality({value: "Anne"}, names.next());
+    assertEquality((), names.next());
+}
+
+function orderWithLimit(Employee[] input, int n) returns string[] {
+    return from var e in input
+           order by e.score descending
+           limit n
+           select e.name;
+}
+
+function orderWithLimitZero() returns string[] {
+    return from var e in employees
+           order by e.score descending
+           limit 0
+           select e.name;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    if expectedValAsString == actualValAsString {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                      message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}